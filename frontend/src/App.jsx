@@ -29,7 +29,9 @@ function App() {
   useEffect(() => {
     const loadAvailableAdders = async () => {
       try {
-        const response = await axios.get(`${API_BASE_URL}/catalog`);
+        const response = await axios.get(`${API_BASE_URL}/catalog`, {
+          params: { fields: 'addedBy' }
+        });
         const adders = [...new Set(response.data
           .map(item => item.addedBy)
           .filter(adder => adder))];
@@ -40,7 +42,21 @@ function App() {
     };
     
     loadAvailableAdders();
-    fetchNotifications();
+  }, []);
+
+  // Live notifications over Server-Sent Events; the list is (re)loaded whenever the stream (re)connects
+  useEffect(() => {
+    const source = new EventSource(`${API_BASE_URL}/notifications/stream`);
+    source.onopen = () => fetchNotifications();
+    source.addEventListener('created', (event) => {
+      const { notification } = JSON.parse(event.data);
+      setNotifications(prev => prev.some(n => n.id === notification.id) ? prev : [...prev, notification]);
+    });
+    source.addEventListener('dismissed', (event) => {
+      const { id } = JSON.parse(event.data);
+      setNotifications(prev => prev.filter(n => n.id !== id));
+    });
+    return () => source.close();
   }, []);
 
   const fetchNotifications = async () => {
@@ -223,18 +239,26 @@ function App() {
       setIsRefreshing(true);
       setError(null);
       
-      const response = await axios.post(`${API_BASE_URL}/series/refresh-all`);
+      // The refresh runs as a background job; poll its progress until it finishes
+      let { data: job } = await axios.post(`${API_BASE_URL}/series/refresh-all`);
+      while (!['SUCCEEDED', 'FAILED', 'CANCELLED'].includes(job.status)) {
+        await new Promise(resolve => setTimeout(resolve, 1000));
+        ({ data: job } = await axios.get(`${API_BASE_URL}/jobs/${job.id}`));
+      }
       
-      if (response.data.updatedCount > 0) {
+      if (job.status !== 'SUCCEEDED') {
+        throw new Error(`Refresh job ${job.status.toLowerCase()}: ${job.lastError}`);
+      }
+      if (job.updated > 0) {
         await fetchCatalog();
         await fetchNotifications(); // Refresh notifications after season update
         showNotification(
-          `Refresh completed! Processed: ${response.data.totalProcessed}, Updated: ${response.data.updatedCount}, Failed: ${response.data.failureCount}`,
+          `Refresh completed! Processed: ${job.total}, Updated: ${job.updated}, Failed: ${job.failed}`,
           'success'
         );
       } else {
         showNotification(
-          `Refresh completed! Processed: ${response.data.totalProcessed}. No updates found.`,
+          `Refresh completed! Processed: ${job.total}. No updates found.`,
           'info'
         );
       }
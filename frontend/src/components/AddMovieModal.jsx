@@ -5,7 +5,8 @@ const API_BASE_URL = '/api';
 
 const SEARCH_CONFIG = {
   minCharsForAutoSearch: 3,
-  autoSearchDelayMs: 150,
+  // Short, since the server debounces searches that miss its cache and answers the rest immediately
+  autoSearchDelayMs: 75,
   blurHideDelayMs: 50,
   maxResults: 5,
   imageBaseUrl: 'https://image.tmdb.org/t/p/w92'
@@ -37,6 +38,8 @@ function AddMovieModal({ isOpen, onClose, onSave }) {
   const blurTimerRef = useRef(null);
   const searchContainerRef = useRef(null);
   const titleInputRef = useRef(null);
+  // Identifies this dialog's type-ahead searches, so the server can drop superseded ones
+  const searchSessionRef = useRef(`${Date.now().toString(36)}-${Math.random().toString(36).slice(2)}`);
 
   // Close search results when clicking outside
   useEffect(() => {
@@ -199,9 +202,15 @@ function AddMovieModal({ isOpen, onClose, onSave }) {
       
       const response = await axios.get(endpoint, {
         params: { title: query.trim() },
+        headers: isManual ? {} : { 'X-Search-Session': searchSessionRef.current },
         signal: controller.signal
       });
       
+      // 204: superseded by a newer search of this dialog, whose results will arrive instead
+      if (response.status === 204) {
+        return;
+      }
+      
       const results = response.data.slice(0, SEARCH_CONFIG.maxResults);
       setSearchResults(results);
       setShowSearchPopup(results.length > 0);
@@ -284,9 +293,10 @@ function AddMovieModal({ isOpen, onClose, onSave }) {
       }
       
       // Add cover image preview if downloaded, but leave coverImage field empty
+      // The local copy is still being downloaded, so preview the TMDB poster itself
       if (enrichedData.savedImageId) {
         setImageId(enrichedData.savedImageId);
-        setImagePreview(`${API_BASE_URL}/images/${enrichedData.savedImageId}`);
+        setImagePreview(enrichedData.posterUrl || `${API_BASE_URL}/images/${enrichedData.savedImageId}`);
         // Don't set coverImage in formData - leave it empty for user to see
       }
       
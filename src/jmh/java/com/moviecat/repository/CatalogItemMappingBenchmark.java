@@ -0,0 +1,161 @@
+package com.moviecat.repository;
+
+import com.mongodb.MongoClientSettings;
+import com.moviecat.dto.CatalogItemResponse;
+import com.moviecat.model.ContentType;
+import com.moviecat.model.Movie;
+import com.moviecat.model.Series;
+import com.moviecat.support.SyntheticCatalog;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.moviecat.util.TmdbLinkUtil.buildTmdbLink;
+
+/**
+ * Per-document cost of turning stored movie and series BSON into catalog DTOs: {@link CatalogItemCodec}
+ * against Spring Data entity mapping followed by builder mapping, and entity mapping alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CatalogItemMappingBenchmark {
+
+    private static final int DOCUMENT_COUNT = 1000;
+
+    private final Codec<Document> documentCodec = MongoClientSettings.getDefaultCodecRegistry().get(Document.class);
+    private final CatalogItemCodec movieCodec = new CatalogItemCodec(ContentType.MOVIE);
+    private final CatalogItemCodec seriesCodec = new CatalogItemCodec(ContentType.SERIES);
+
+    private MappingMongoConverter converter;
+    private RawBsonDocument[] movies;
+    private RawBsonDocument[] series;
+
+    @Setup
+    public void setUp() {
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+
+        SyntheticCatalog catalog = new SyntheticCatalog(42);
+        movies = catalog.movies(DOCUMENT_COUNT).stream().map(this::toRawDocument).toArray(RawBsonDocument[]::new);
+        series = catalog.series(DOCUMENT_COUNT).stream().map(this::toRawDocument).toArray(RawBsonDocument[]::new);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DOCUMENT_COUNT)
+    public void movieCodec(Blackhole blackhole) {
+        for (RawBsonDocument document : movies) {
+            blackhole.consume(movieCodec.decode(document.asBsonReader(), DecoderContext.builder().build()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DOCUMENT_COUNT)
+    public void movieEntity(Blackhole blackhole) {
+        for (RawBsonDocument document : movies) {
+            blackhole.consume(converter.read(Movie.class, decodeDocument(document)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DOCUMENT_COUNT)
+    public void movieEntityToDto(Blackhole blackhole) {
+        for (RawBsonDocument document : movies) {
+            blackhole.consume(toItem(converter.read(Movie.class, decodeDocument(document))));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DOCUMENT_COUNT)
+    public void seriesCodec(Blackhole blackhole) {
+        for (RawBsonDocument document : series) {
+            blackhole.consume(seriesCodec.decode(document.asBsonReader(), DecoderContext.builder().build()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DOCUMENT_COUNT)
+    public void seriesEntityToDto(Blackhole blackhole) {
+        for (RawBsonDocument document : series) {
+            blackhole.consume(toItem(converter.read(Series.class, decodeDocument(document))));
+        }
+    }
+
+    private RawBsonDocument toRawDocument(Object entity) {
+        Document document = new Document();
+        converter.write(entity, document);
+        return new RawBsonDocument(document, documentCodec);
+    }
+
+    private Document decodeDocument(BsonDocument document) {
+        return documentCodec.decode(document.asBsonReader(), DecoderContext.builder().build());
+    }
+
+    private static CatalogItemResponse toItem(Movie movie) {
+        return CatalogItemResponse.builder()
+                .id(movie.getId())
+                .title(movie.getTitle())
+                .link(buildTmdbLink(movie.getTmdbId(), true))
+                .comment(movie.getComment())
+                .coverImage(movie.getCoverImage())
+                .genres(movie.getGenres())
+                .watchStatus(movie.getWatchStatus())
+                .addedBy(movie.getAddedBy())
+                .dateAdded(movie.getDateAdded())
+                .priority(movie.getPriority())
+                .tmdbId(movie.getTmdbId())
+                .contentType(ContentType.MOVIE)
+                .length(movie.getLength())
+                .build();
+    }
+
+    private static CatalogItemResponse toItem(Series series) {
+        return CatalogItemResponse.builder()
+                .id(series.getId())
+                .title(series.getTitle())
+                .link(buildTmdbLink(series.getTmdbId(), false))
+                .comment(series.getComment())
+                .coverImage(series.getCoverImage())
+                .genres(series.getGenres())
+                .watchStatus(series.getWatchStatus())
+                .addedBy(series.getAddedBy())
+                .dateAdded(series.getDateAdded())
+                .priority(series.getPriority())
+                .tmdbId(series.getTmdbId())
+                .contentType(ContentType.SERIES)
+                .seasons(series.getSeasons())
+                .hasNewSeasons(series.getHasNewSeasons())
+                .seriesStatus(series.getSeriesStatus() != null ? series.getSeriesStatus().name() : null)
+                .totalAvailableSeasons(series.getTotalAvailableSeasons())
+                .build();
+    }
+}
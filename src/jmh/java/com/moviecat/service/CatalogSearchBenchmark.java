@@ -0,0 +1,59 @@
+package com.moviecat.service;
+
+import com.moviecat.dto.CatalogItemResponse;
+import com.moviecat.model.Movie;
+import com.moviecat.model.Series;
+import com.moviecat.support.SyntheticCatalog;
+import com.moviecat.util.FieldSelection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CatalogService#searchCatalog} over in-memory catalogs. The repository returns the items
+ * whose title contains the query, as MongoDB would; the measurement covers criteria building and ordering.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CatalogSearchBenchmark {
+
+    private static final String QUERY = "dark";
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private CatalogService catalogService;
+
+    @Setup
+    public void setUp() {
+        SyntheticCatalog catalog = new SyntheticCatalog(42);
+        int movieCount = size * 2 / 3;
+        List<Movie> movies = catalog.movies(movieCount).stream()
+                .filter(movie -> movie.getTitle().toLowerCase().contains(QUERY))
+                .toList();
+        List<Series> series = catalog.series(size - movieCount).stream()
+                .filter(item -> item.getTitle().toLowerCase().contains(QUERY))
+                .toList();
+        catalogService = new InMemoryCatalogReadRepository(movies, series).catalogService();
+    }
+
+    @Benchmark
+    public List<CatalogItemResponse> searchCatalog() {
+        return catalogService.searchCatalog(QUERY, FieldSelection.all());
+    }
+}
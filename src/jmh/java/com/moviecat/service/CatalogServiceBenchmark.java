@@ -0,0 +1,58 @@
+package com.moviecat.service;
+
+import com.moviecat.dto.CatalogItemResponse;
+import com.moviecat.support.SyntheticCatalog;
+import com.moviecat.util.FieldSelection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CatalogService#getCatalog} over in-memory catalogs: merging the movie and series results
+ * and ordering them for each sort option. Filters are evaluated by MongoDB and are not part of the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CatalogServiceBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    /**
+     * Sort option; "default" means no sortBy parameter (priority, then date added).
+     */
+    @Param({"default", "title", "dateAdded", "length"})
+    private String sortBy;
+
+    private CatalogService catalogService;
+    private String sortParameter;
+
+    @Setup
+    public void setUp() {
+        SyntheticCatalog catalog = new SyntheticCatalog(42);
+        int movieCount = size * 2 / 3;
+        catalogService = new InMemoryCatalogReadRepository(
+                catalog.movies(movieCount), catalog.series(size - movieCount)).catalogService();
+        sortParameter = sortBy.equals("default") ? null : sortBy;
+    }
+
+    @Benchmark
+    public List<CatalogItemResponse> getCatalog() {
+        return catalogService.getCatalog(null, null, null, null, null, null, sortParameter, FieldSelection.all());
+    }
+}
@@ -0,0 +1,89 @@
+package com.moviecat.service;
+
+import com.moviecat.dto.CatalogItemResponse;
+import com.moviecat.model.ContentType;
+import com.moviecat.model.Movie;
+import com.moviecat.model.Series;
+import com.moviecat.repository.CatalogReadRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.util.Collection;
+import java.util.List;
+
+import static com.moviecat.util.TmdbLinkUtil.buildTmdbLink;
+
+/**
+ * {@link CatalogReadRepository} that returns fixed, already decoded catalog items instead of querying MongoDB.
+ * Criteria and projections are ignored: the items stand for whatever MongoDB would have matched.
+ */
+class InMemoryCatalogReadRepository extends CatalogReadRepository {
+
+    private final List<CatalogItemResponse> movies;
+    private final List<CatalogItemResponse> series;
+
+    InMemoryCatalogReadRepository(List<Movie> movies, List<Series> series) {
+        super(null);
+        this.movies = movies.stream().map(InMemoryCatalogReadRepository::toItem).toList();
+        this.series = series.stream().map(InMemoryCatalogReadRepository::toItem).toList();
+    }
+
+    @Override
+    public List<CatalogItemResponse> findMovies(Criteria criteria, Collection<String> properties) {
+        return movies;
+    }
+
+    @Override
+    public List<CatalogItemResponse> findSeries(Criteria criteria, Collection<String> properties) {
+        return series;
+    }
+
+    /**
+     * Catalog service reading from this repository, with the result cache disabled so that every
+     * call goes through filtering, merging and ordering.
+     */
+    CatalogService catalogService() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        return new CatalogService(this, new CatalogMetrics(meterRegistry),
+                new CatalogCache(new CollectionVersions(), meterRegistry, false, 0, 0));
+    }
+
+    static CatalogItemResponse toItem(Movie movie) {
+        return CatalogItemResponse.builder()
+                .id(movie.getId())
+                .title(movie.getTitle())
+                .link(buildTmdbLink(movie.getTmdbId(), true))
+                .comment(movie.getComment())
+                .coverImage(movie.getCoverImage())
+                .genres(movie.getGenres())
+                .watchStatus(movie.getWatchStatus())
+                .addedBy(movie.getAddedBy())
+                .dateAdded(movie.getDateAdded())
+                .priority(movie.getPriority())
+                .tmdbId(movie.getTmdbId())
+                .contentType(ContentType.MOVIE)
+                .length(movie.getLength())
+                .build();
+    }
+
+    static CatalogItemResponse toItem(Series series) {
+        return CatalogItemResponse.builder()
+                .id(series.getId())
+                .title(series.getTitle())
+                .link(buildTmdbLink(series.getTmdbId(), false))
+                .comment(series.getComment())
+                .coverImage(series.getCoverImage())
+                .genres(series.getGenres())
+                .watchStatus(series.getWatchStatus())
+                .addedBy(series.getAddedBy())
+                .dateAdded(series.getDateAdded())
+                .priority(series.getPriority())
+                .tmdbId(series.getTmdbId())
+                .contentType(ContentType.SERIES)
+                .seasons(series.getSeasons())
+                .hasNewSeasons(series.getHasNewSeasons())
+                .seriesStatus(series.getSeriesStatus() != null ? series.getSeriesStatus().name() : null)
+                .totalAvailableSeasons(series.getTotalAvailableSeasons())
+                .build();
+    }
+}
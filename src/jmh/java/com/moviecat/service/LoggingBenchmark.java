@@ -0,0 +1,139 @@
+package com.moviecat.service;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.moviecat.dto.CatalogItemResponse;
+import com.moviecat.dto.RecommendationResponse;
+import com.moviecat.logging.RateLimitingTurboFilter;
+import com.moviecat.model.Movie;
+import com.moviecat.model.Series;
+import com.moviecat.model.WatchStatus;
+import com.moviecat.support.SyntheticCatalog;
+import com.moviecat.util.FieldSelection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the catalog and recommendation read paths under different logging set-ups, with
+ * several threads writing to one log file as request threads do:
+ * <ul>
+ *     <li>{@code sync-debug}: every read logged through a synchronous appender (the previous INFO behaviour)</li>
+ *     <li>{@code sync-info}: read-path logging at DEBUG, not written</li>
+ *     <li>{@code async-debug}: every read logged through the asynchronous appender</li>
+ *     <li>{@code async-debug-limited}: as above, with the per-statement rate limit of {@code logback-spring.xml}</li>
+ * </ul>
+ * Log output goes to {@code target/jmh-logging/}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class LoggingBenchmark {
+
+    private static final int SIZE = 1000;
+
+    @Param({"sync-debug", "sync-info", "async-debug", "async-debug-limited"})
+    private String logging;
+
+    private CatalogService catalogService;
+    private RecommendationService recommendationService;
+    private List<Movie> unwatchedMovies;
+    private List<Series> series;
+
+    @Setup
+    public void setUp() {
+        configureLogging();
+
+        SyntheticCatalog catalog = new SyntheticCatalog(42);
+        int movieCount = SIZE * 2 / 3;
+        List<Movie> movies = catalog.movies(movieCount);
+        series = catalog.series(SIZE - movieCount);
+        unwatchedMovies = movies.stream()
+                .filter(movie -> movie.getWatchStatus() == WatchStatus.UNWATCHED)
+                .toList();
+        catalogService = new InMemoryCatalogReadRepository(movies, series).catalogService();
+        recommendationService = new RecommendationService(null, null, new SimpleMeterRegistry());
+    }
+
+    @TearDown
+    public void tearDown() {
+        // Stops the appenders, draining the async queue
+        ((LoggerContext) LoggerFactory.getILoggerFactory()).stop();
+    }
+
+    @Benchmark
+    public List<CatalogItemResponse> getCatalog() {
+        return catalogService.getCatalog(null, null, null, null, null, null, null, FieldSelection.all());
+    }
+
+    @Benchmark
+    public List<RecommendationResponse> recommendations() {
+        return recommendationService.selectRecommendations(unwatchedMovies, series, 10, null);
+    }
+
+    private void configureLogging() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%15.15t] %-40.40logger{39} : %m%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setName("FILE");
+        file.setFile("target/jmh-logging/" + logging + ".log");
+        file.setAppend(false);
+        file.setEncoder(encoder);
+        file.start();
+
+        Appender<ILoggingEvent> appender = file;
+        if (logging.startsWith("async")) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setName("ASYNC_FILE");
+            async.setQueueSize(8192);
+            async.setNeverBlock(true);
+            async.addAppender(file);
+            async.start();
+            appender = async;
+        }
+        if (logging.endsWith("limited")) {
+            RateLimitingTurboFilter filter = new RateLimitingTurboFilter();
+            filter.setContext(context);
+            filter.start();
+            context.addTurboFilter(filter);
+        }
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.WARN);
+        root.addAppender(appender);
+        context.getLogger("com.moviecat").setLevel(logging.endsWith("info") ? Level.INFO : Level.DEBUG);
+    }
+}
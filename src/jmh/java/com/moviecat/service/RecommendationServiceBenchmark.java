@@ -0,0 +1,66 @@
+package com.moviecat.service;
+
+import com.moviecat.dto.RecommendationResponse;
+import com.moviecat.model.Movie;
+import com.moviecat.model.Series;
+import com.moviecat.model.WatchStatus;
+import com.moviecat.support.SyntheticCatalog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Weighted random sampling of {@link RecommendationService} over in-memory catalogs,
+ * for all users and for a single user.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecommendationServiceBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param({"1", "10"})
+    private int count;
+
+    private RecommendationService recommendationService;
+    private List<Movie> unwatchedMovies;
+    private List<Series> series;
+
+    @Setup
+    public void setUp() {
+        SyntheticCatalog catalog = new SyntheticCatalog(42);
+        int movieCount = size * 2 / 3;
+        unwatchedMovies = catalog.movies(movieCount).stream()
+                .filter(movie -> movie.getWatchStatus() == WatchStatus.UNWATCHED)
+                .toList();
+        series = catalog.series(size - movieCount);
+        recommendationService = new RecommendationService(null, null, new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public List<RecommendationResponse> allUsers() {
+        return recommendationService.selectRecommendations(unwatchedMovies, series, count, null);
+    }
+
+    @Benchmark
+    public List<RecommendationResponse> singleUser() {
+        return recommendationService.selectRecommendations(unwatchedMovies, series, count, "Bob");
+    }
+}
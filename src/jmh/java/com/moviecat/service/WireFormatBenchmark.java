@@ -0,0 +1,145 @@
+package com.moviecat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.moviecat.config.JacksonConfig;
+import com.moviecat.dto.MovieResponse;
+import com.moviecat.dto.SeriesResponse;
+import com.moviecat.model.Movie;
+import com.moviecat.model.Series;
+import com.moviecat.support.SyntheticCatalog;
+import com.moviecat.util.FieldSelection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import static com.moviecat.util.TmdbLinkUtil.buildTmdbLink;
+
+/**
+ * Serialization time and encoded size of list responses ({@code CatalogItemResponse}, {@code SeriesResponse},
+ * {@code MovieResponse}) as JSON, gzip-compressed JSON (as sent with {@code server.compression}), Smile and CBOR.
+ * Sizes are printed once per trial, e.g. {@code catalog/smile: 188744 bytes (42% of JSON)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    private static final int SIZE = 1000;
+
+    @Param({"catalog", "series", "movies"})
+    private String payload;
+
+    @Param({"json", "json-gzip", "smile", "cbor"})
+    private String format;
+
+    private Object items;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() throws IOException {
+        SyntheticCatalog catalog = new SyntheticCatalog(42);
+        int movieCount = SIZE * 2 / 3;
+        items = switch (payload) {
+            case "catalog" -> new InMemoryCatalogReadRepository(catalog.movies(movieCount), catalog.series(SIZE - movieCount))
+                    .catalogService()
+                    .getCatalog(null, null, null, null, null, null, null, FieldSelection.all());
+            case "series" -> catalog.series(SIZE).stream().map(WireFormatBenchmark::toResponse).toList();
+            default -> catalog.movies(SIZE).stream().map(WireFormatBenchmark::toResponse).toList();
+        };
+
+        writer = mapper(format).writer();
+        int jsonSize = mapper("json").writer().writeValueAsBytes(items).length;
+        int size = serialize().length;
+        System.out.printf("%n%s/%s: %d bytes (%d%% of JSON)%n", payload, format, size, size * 100 / jsonSize);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        try {
+            if (!format.equals("json-gzip")) {
+                return writer.writeValueAsBytes(items);
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+                writer.writeValue(gzip, items);
+            }
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Mapper configured like the application's HTTP message converters, see {@link JacksonConfig}.
+     */
+    private static ObjectMapper mapper(String format) {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        new JacksonConfig().fieldSelectionFilterCustomizer().customize(builder);
+        return switch (format) {
+            case "smile" -> builder.factory(new SmileFactory()).build();
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            default -> builder.build();
+        };
+    }
+
+    private static MovieResponse toResponse(Movie movie) {
+        return MovieResponse.builder()
+                .id(movie.getId())
+                .title(movie.getTitle())
+                .link(buildTmdbLink(movie.getTmdbId(), true))
+                .comment(movie.getComment())
+                .coverImage(movie.getCoverImage())
+                .length(movie.getLength())
+                .genres(movie.getGenres())
+                .watchStatus(movie.getWatchStatus())
+                .addedBy(movie.getAddedBy())
+                .dateAdded(movie.getDateAdded())
+                .priority(movie.getPriority())
+                .tmdbId(movie.getTmdbId())
+                .build();
+    }
+
+    private static SeriesResponse toResponse(Series series) {
+        return SeriesResponse.builder()
+                .id(series.getId())
+                .title(series.getTitle())
+                .link(buildTmdbLink(series.getTmdbId(), false))
+                .comment(series.getComment())
+                .coverImage(series.getCoverImage())
+                .genres(series.getGenres())
+                .watchStatus(series.getWatchStatus())
+                .addedBy(series.getAddedBy())
+                .dateAdded(series.getDateAdded())
+                .priority(series.getPriority())
+                .tmdbId(series.getTmdbId())
+                .seasons(series.getSeasons())
+                .hasNewSeasons(series.getHasNewSeasons())
+                .seriesStatus(series.getSeriesStatus())
+                .totalAvailableSeasons(series.getTotalAvailableSeasons())
+                .lastSeasonCheck(series.getLastSeasonCheck())
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.moviecat.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TmdbLinkUtil#parseTmdbId} over a mix of TMDB movie and TV links, other links and missing links.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TmdbLinkUtilBenchmark {
+
+    private static final int LINK_COUNT = 1024;
+
+    private final String[] links = new String[LINK_COUNT];
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < LINK_COUNT; i++) {
+            int id = 1 + random.nextInt(1_000_000);
+            links[i] = switch (random.nextInt(8)) {
+                case 0, 1, 2 -> "https://www.themoviedb.org/movie/" + id;
+                case 3 -> "https://www.themoviedb.org/movie/" + id + "-some-movie-title?language=en-US";
+                case 4, 5 -> "https://www.themoviedb.org/tv/" + id;
+                case 6 -> "https://www.imdb.com/title/tt" + id + "/";
+                default -> null;
+            };
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINK_COUNT)
+    public void parseMovieLinks(Blackhole blackhole) {
+        for (String link : links) {
+            blackhole.consume(TmdbLinkUtil.parseTmdbId(link, true));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINK_COUNT)
+    public void parseSeriesLinks(Blackhole blackhole) {
+        for (String link : links) {
+            blackhole.consume(TmdbLinkUtil.parseTmdbId(link, false));
+        }
+    }
+}
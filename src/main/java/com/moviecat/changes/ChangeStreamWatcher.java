@@ -0,0 +1,274 @@
+package com.moviecat.changes;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mongodb.client.model.changestream.UpdateDescription;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Follows the MongoDB change stream of the watched collections and publishes a {@link CollectionChangeEvent}
+ * for every write, so each instance behind the load balancer drops derived state (cached catalog pages,
+ * ETags) within milliseconds of a write made by any instance.
+ *
+ * One database-level stream covers all watched collections; only the fields needed for invalidation are
+ * returned, plus the inserted or replaced document for {@code change-streams.full-document-collections}
+ * (notifications, so stream subscribers on every instance hear about them). Updates that only set
+ * {@code change-streams.ignored-fields} (the series' season check times, written on every check) are skipped,
+ * as no response derived from the collection depends on them. The resume token is saved every {@code change-streams.token-save-interval} and on shutdown, and
+ * the stream resumes from it after a restart or connection loss. When there is no usable token, changes may
+ * have been missed, so every watched collection is invalidated once the new stream is open.
+ *
+ * Change streams need a replica set; against a standalone server the watcher logs a warning and stops.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "change-streams.enabled", havingValue = "true", matchIfMissing = true)
+public class ChangeStreamWatcher implements SmartLifecycle {
+
+    // Server error codes: change streams unsupported (standalone server, or no $changeStream stage)
+    private static final Set<Integer> UNSUPPORTED = Set.of(40573, 40324);
+    // InvalidResumeToken, ChangeStreamFatalError, ChangeStreamHistoryLost (token no longer in the oplog)
+    private static final Set<Integer> RESUME_FAILED = Set.of(260, 280, 286);
+
+    private static final Duration MAX_AWAIT = Duration.ofSeconds(1);
+    private static final Duration MIN_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final MongoDatabaseFactory mongoDatabaseFactory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ResumeTokenStore resumeTokenStore;
+    private final List<String> collections;
+    private final List<String> fullDocumentCollections;
+    private final Set<String> ignoredFields;
+    private final Duration tokenSaveInterval;
+    private final MeterRegistry meterRegistry;
+
+    private volatile boolean running;
+    private Thread thread;
+    private BsonDocument resumeToken;
+    private BsonDocument savedToken;
+    private long lastSave;
+
+    ChangeStreamWatcher(MongoDatabaseFactory mongoDatabaseFactory,
+                        ApplicationEventPublisher eventPublisher,
+                        MeterRegistry meterRegistry,
+                        @Value("${change-streams.collections:movies,series,notifications,images}") List<String> collections,
+                        @Value("${change-streams.full-document-collections:notifications}") List<String> fullDocumentCollections,
+                        @Value("${change-streams.ignored-fields:lastSeasonCheck,nextSeasonCheck}") Set<String> ignoredFields,
+                        @Value("${change-streams.consumer-id:${HOSTNAME:${spring.application.name}}}") String consumerId,
+                        @Value("${change-streams.token-save-interval:1s}") Duration tokenSaveInterval) {
+        this.mongoDatabaseFactory = mongoDatabaseFactory;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.collections = List.copyOf(collections);
+        this.fullDocumentCollections = List.copyOf(fullDocumentCollections);
+        this.ignoredFields = Set.copyOf(ignoredFields);
+        this.tokenSaveInterval = tokenSaveInterval;
+        this.resumeTokenStore = new ResumeTokenStore(mongoDatabaseFactory, consumerId);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = Thread.ofPlatform().name("change-stream-watcher").daemon().start(this::watch);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            try {
+                // The loop notices within one await period and saves the token
+                thread.join(MAX_AWAIT.multipliedBy(3).toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void watch() {
+        Duration backoff = MIN_BACKOFF;
+        try {
+            resumeToken = resumeTokenStore.load();
+            savedToken = resumeToken;
+        } catch (MongoException e) {
+            log.warn("Could not load change stream resume token, starting from now: {}", e.getMessage());
+        }
+
+        while (running) {
+            boolean resumed = resumeToken != null;
+            try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = open(resumeToken)) {
+                log.info("Watching {} for changes ({})", collections, resumed ? "resumed" : "from now");
+                if (!resumed) {
+                    invalidateAll();
+                }
+                backoff = MIN_BACKOFF;
+                consume(cursor);
+            } catch (MongoCommandException e) {
+                if (UNSUPPORTED.contains(e.getErrorCode())) {
+                    log.warn("Change streams are not available (a replica set is required); "
+                            + "cache invalidation across instances is disabled: {}", e.getErrorMessage());
+                    running = false;
+                } else if (RESUME_FAILED.contains(e.getErrorCode())) {
+                    log.warn("Cannot resume change stream, restarting from now: {}", e.getErrorMessage());
+                    resumeToken = null;
+                    clearSavedToken();
+                } else {
+                    backoff = retryAfter(e, backoff);
+                }
+            } catch (RuntimeException e) {
+                backoff = retryAfter(e, backoff);
+            }
+        }
+        saveToken(true);
+    }
+
+    private MongoChangeStreamCursor<ChangeStreamDocument<Document>> open(BsonDocument token) {
+        ChangeStreamIterable<Document> stream = mongoDatabaseFactory.getMongoDatabase()
+                .watch(List.of(
+                        Aggregates.match(Filters.or(
+                                Filters.in("ns.coll", collections),
+                                Filters.in("operationType", "dropDatabase", "invalidate"))),
+                        Aggregates.project(Projections.fields(
+                                Projections.include("operationType", "ns", "documentKey", "updateDescription"),
+                                // Inserts and replaces carry the whole document; keep it only where it is used
+                                Projections.computed("fullDocument", new Document("$cond", List.of(
+                                        new Document("$in", List.of("$ns.coll", fullDocumentCollections)),
+                                        "$fullDocument",
+                                        "$$REMOVE")))))))
+                .maxAwaitTime(MAX_AWAIT.toMillis(), TimeUnit.MILLISECONDS);
+        if (token != null) {
+            stream = stream.resumeAfter(token);
+        }
+        return stream.cursor();
+    }
+
+    private void consume(MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor) {
+        while (running) {
+            ChangeStreamDocument<Document> change = cursor.tryNext();
+            if (change != null) {
+                if (change.getOperationType() == OperationType.INVALIDATE
+                        || change.getOperationType() == OperationType.DROP_DATABASE) {
+                    // The stream ends; it cannot be resumed past this event
+                    invalidateAll();
+                    resumeToken = null;
+                    clearSavedToken();
+                    return;
+                }
+                if (!onlyIgnoredFieldsUpdated(change)) {
+                    publish(change);
+                }
+            }
+            BsonDocument token = cursor.getResumeToken();
+            if (token != null) {
+                resumeToken = token;
+                saveToken(false);
+            }
+        }
+    }
+
+    private void publish(ChangeStreamDocument<Document> change) {
+        String collection = change.getNamespace() != null ? change.getNamespace().getCollectionName() : null;
+        if (collection == null) {
+            return;
+        }
+        BsonValue documentId = change.getDocumentKey() != null ? change.getDocumentKey().get("_id") : null;
+        log.debug("Change stream: {} {} {}", change.getOperationType(), collection, documentId);
+        counter(collection).increment();
+        eventPublisher.publishEvent(new CollectionChangeEvent(collection, change.getOperationType(), documentId,
+                change.getFullDocument()));
+    }
+
+    private boolean onlyIgnoredFieldsUpdated(ChangeStreamDocument<Document> change) {
+        UpdateDescription update = change.getUpdateDescription();
+        if (change.getOperationType() != OperationType.UPDATE || update == null || update.getUpdatedFields() == null) {
+            return false;
+        }
+        return (update.getRemovedFields() == null || update.getRemovedFields().isEmpty())
+                && (update.getTruncatedArrays() == null || update.getTruncatedArrays().isEmpty())
+                && ignoredFields.containsAll(update.getUpdatedFields().keySet());
+    }
+
+    private void invalidateAll() {
+        for (String collection : collections) {
+            eventPublisher.publishEvent(new CollectionChangeEvent(collection, OperationType.INVALIDATE, null, null));
+        }
+    }
+
+    private void saveToken(boolean force) {
+        if (resumeToken == null || resumeToken.equals(savedToken)) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (!force && now - lastSave < tokenSaveInterval.toNanos()) {
+            return;
+        }
+        try {
+            resumeTokenStore.save(resumeToken);
+            savedToken = resumeToken;
+            lastSave = now;
+        } catch (MongoException e) {
+            log.warn("Could not save change stream resume token: {}", e.getMessage());
+        }
+    }
+
+    private void clearSavedToken() {
+        try {
+            resumeTokenStore.clear();
+            savedToken = null;
+        } catch (MongoException e) {
+            log.warn("Could not clear change stream resume token: {}", e.getMessage());
+        }
+    }
+
+    private Duration retryAfter(RuntimeException e, Duration backoff) {
+        if (!running) {
+            return backoff;
+        }
+        log.warn("Change stream interrupted, retrying in {} s: {}", backoff.toSeconds(), e.getMessage());
+        try {
+            Thread.sleep(backoff);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+        Duration next = backoff.multipliedBy(2);
+        return next.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : next;
+    }
+
+    private Counter counter(String collection) {
+        return Counter.builder("moviecat.change.stream.events")
+                .description("Changes received from the MongoDB change stream")
+                .tag("collection", collection)
+                .register(meterRegistry);
+    }
+}
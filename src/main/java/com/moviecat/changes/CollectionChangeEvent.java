@@ -0,0 +1,28 @@
+package com.moviecat.changes;
+
+import com.mongodb.client.model.changestream.OperationType;
+import org.bson.BsonValue;
+import org.bson.Document;
+
+/**
+ * A write to a watched collection, observed through the MongoDB change stream. Published as a Spring
+ * application event on every instance, whichever instance (or external client) made the write, so local
+ * caches can drop state derived from the collection.
+ *
+ * @param collection collection name, e.g. {@code movies}
+ * @param operationType insert, update, replace or delete; {@link OperationType#INVALIDATE} when changes may
+ *                      have been missed and everything derived from the collection must be dropped
+ * @param documentId {@code _id} of the changed document, or {@code null} for collection-wide changes
+ * @param document the document as written by an insert or replace, for the collections listed in
+ *                 {@code change-streams.full-document-collections}; {@code null} otherwise
+ */
+public record CollectionChangeEvent(String collection, OperationType operationType, BsonValue documentId,
+                                    Document document) {
+
+    /**
+     * @return whether the event covers the whole collection rather than one document
+     */
+    public boolean isCollectionWide() {
+        return documentId == null;
+    }
+}
@@ -0,0 +1,49 @@
+package com.moviecat.changes;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+
+/**
+ * Change stream resume tokens in the {@code resumeTokens} collection, one document per consumer
+ * (application instance), so a restarted instance continues where it stopped.
+ */
+class ResumeTokenStore {
+
+    static final String COLLECTION = "resumeTokens";
+
+    private final MongoDatabaseFactory mongoDatabaseFactory;
+    private final String consumerId;
+
+    ResumeTokenStore(MongoDatabaseFactory mongoDatabaseFactory, String consumerId) {
+        this.mongoDatabaseFactory = mongoDatabaseFactory;
+        this.consumerId = consumerId;
+    }
+
+    /**
+     * @return last saved token, or {@code null} if there is none
+     */
+    BsonDocument load() {
+        BsonDocument saved = collection().find(Filters.eq("_id", consumerId)).first();
+        return saved != null && saved.isDocument("token") ? saved.getDocument("token") : null;
+    }
+
+    void save(BsonDocument token) {
+        BsonDocument document = new BsonDocument("_id", new BsonString(consumerId))
+                .append("token", token)
+                .append("updatedAt", new BsonDateTime(System.currentTimeMillis()));
+        collection().replaceOne(Filters.eq("_id", consumerId), document, new ReplaceOptions().upsert(true));
+    }
+
+    void clear() {
+        collection().deleteOne(Filters.eq("_id", consumerId));
+    }
+
+    private MongoCollection<BsonDocument> collection() {
+        return mongoDatabaseFactory.getMongoDatabase().getCollection(COLLECTION, BsonDocument.class);
+    }
+}
@@ -0,0 +1,131 @@
+package com.moviecat.cluster;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registry of live application instances. Every instance writes a heartbeat to the {@code instances}
+ * collection every {@code cluster.heartbeat-interval}; an instance counts as live while its last heartbeat
+ * is younger than three intervals. Used to split work (see {@link Shard}) across the instances that are up.
+ *
+ * Heartbeats are stamped with the instance's own clock, so clocks are assumed to agree to well within
+ * one heartbeat interval (NTP).
+ */
+@Slf4j
+@Component
+public class ClusterMembership implements SmartLifecycle {
+
+    static final String COLLECTION = "instances";
+
+    private final MongoDatabaseFactory mongoDatabaseFactory;
+    private final String instanceId;
+    private final Duration heartbeatInterval;
+
+    private ScheduledExecutorService heartbeats;
+
+    ClusterMembership(MongoDatabaseFactory mongoDatabaseFactory,
+                      @Value("${cluster.instance-name:${HOSTNAME:${spring.application.name}}}") String instanceName,
+                      @Value("${cluster.heartbeat-interval:10s}") Duration heartbeatInterval) {
+        this.mongoDatabaseFactory = mongoDatabaseFactory;
+        // Unique per process, so a restarted instance never inherits the locks of its predecessor
+        this.instanceId = instanceName + "-" + UUID.randomUUID().toString().substring(0, 8);
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    /**
+     * @return ID of this instance, also used as lock owner
+     */
+    public String instanceId() {
+        return instanceId;
+    }
+
+    /**
+     * Live instances, ordered by ID so every instance derives the same shard assignment.
+     * This instance is always included.
+     *
+     * @return IDs of live instances
+     */
+    public List<String> liveInstances() {
+        Date liveSince = new Date(System.currentTimeMillis() - heartbeatInterval.multipliedBy(3).toMillis());
+        List<String> live = new ArrayList<>();
+        collection().find(Filters.gt("lastSeen", liveSince))
+                .sort(Sorts.ascending("_id"))
+                .forEach(instance -> live.add(instance.getString("_id")));
+        if (!live.contains(instanceId)) {
+            live.add(instanceId);
+            live.sort(null);
+        }
+        return live;
+    }
+
+    /**
+     * This instance's share of the work.
+     *
+     * @return shard of this instance among the live instances
+     */
+    public Shard currentShard() {
+        List<String> live = liveInstances();
+        return new Shard(live.indexOf(instanceId), live.size());
+    }
+
+    @Override
+    public void start() {
+        heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cluster-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeats.scheduleAtFixedRate(this::heartbeat, 0, heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Cluster member {} started", instanceId);
+    }
+
+    @Override
+    public void stop() {
+        if (heartbeats != null) {
+            heartbeats.shutdownNow();
+            heartbeats = null;
+            try {
+                collection().deleteOne(Filters.eq("_id", instanceId));
+            } catch (MongoException e) {
+                log.debug("Could not deregister instance {}: {}", instanceId, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return heartbeats != null;
+    }
+
+    private void heartbeat() {
+        try {
+            collection().updateOne(Filters.eq("_id", instanceId), Updates.set("lastSeen", new Date()),
+                    new UpdateOptions().upsert(true));
+        } catch (MongoException e) {
+            log.warn("Cluster heartbeat failed: {}", e.getMessage());
+        }
+    }
+
+    private MongoCollection<Document> collection() {
+        return mongoDatabaseFactory.getMongoDatabase().getCollection(COLLECTION);
+    }
+}
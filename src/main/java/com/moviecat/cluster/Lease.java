@@ -0,0 +1,105 @@
+package com.moviecat.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A held {@link LeaseLock}, renewed in the background until released or lost.
+ * Closing the lease releases the lock immediately.
+ */
+@Slf4j
+public class Lease implements AutoCloseable {
+
+    private final LeaseLock leaseLock;
+    private final String name;
+    private final long fencingToken;
+    private final Duration ttl;
+
+    private volatile boolean lost;
+    private volatile long validUntilNanos;
+    private ScheduledFuture<?> renewal;
+
+    Lease(LeaseLock leaseLock, String name, long fencingToken, Duration ttl) {
+        this.leaseLock = leaseLock;
+        this.name = name;
+        this.fencingToken = fencingToken;
+        this.ttl = ttl;
+        this.validUntilNanos = System.nanoTime() + ttl.toNanos();
+    }
+
+    /**
+     * @return lock name
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @return fencing token of this acquisition; every later acquisition of the lock has a larger one
+     */
+    public long fencingToken() {
+        return fencingToken;
+    }
+
+    /**
+     * Check, against MongoDB, that this lease still holds the lock. Call before each unit of protected work.
+     * The check is not atomic with the work that follows it, so the writes must be fenced too (see {@link LeaseLock}).
+     *
+     * @throws IllegalStateException if the lease expired or the lock was taken over
+     */
+    public void ensureValid() {
+        if (lost || System.nanoTime() - validUntilNanos > 0 || !leaseLock.isHeld(this)) {
+            lost = true;
+            throw new IllegalStateException("Lock " + name + " (fencing token " + fencingToken + ") is no longer held");
+        }
+    }
+
+    /**
+     * Stop renewing and let the lock expire after the given delay, so instances that start the same
+     * work a little later (e.g. on a skewed clock) see it as done and skip it.
+     *
+     * @param after how long the lock stays taken
+     */
+    public void releaseAfter(Duration after) {
+        cancelRenewal();
+        if (!lost) {
+            leaseLock.release(this, after);
+        }
+    }
+
+    @Override
+    public void close() {
+        releaseAfter(Duration.ZERO);
+    }
+
+    synchronized void scheduleRenewal(ScheduledExecutorService executor, Duration interval) {
+        renewal = executor.scheduleAtFixedRate(this::renew, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void renew() {
+        long renewedAt = System.nanoTime();
+        try {
+            if (leaseLock.renew(this)) {
+                validUntilNanos = renewedAt + ttl.toNanos();
+                return;
+            }
+            log.warn("Lock {} (fencing token {}) was taken over", name, fencingToken);
+            lost = true;
+            cancelRenewal();
+        } catch (RuntimeException e) {
+            // Keep trying until the lease runs out; ensureValid fails after that
+            log.warn("Could not renew lock {}: {}", name, e.getMessage());
+        }
+    }
+
+    private synchronized void cancelRenewal() {
+        if (renewal != null) {
+            renewal.cancel(false);
+            renewal = null;
+        }
+    }
+}
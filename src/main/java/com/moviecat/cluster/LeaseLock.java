@@ -0,0 +1,143 @@
+package com.moviecat.cluster;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import com.mongodb.MongoWriteException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.Updates;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Cluster-wide named locks held as time-limited leases in the {@code locks} collection.
+ *
+ * A lease is acquired when the lock document is absent, expired or already owned by this instance, in one
+ * atomic find-and-modify; every acquisition increments the lock's fencing token. Held leases are renewed in
+ * the background every third of {@code cluster.lock.ttl}, so a lease only expires when its holder stops
+ * (crash, long pause, lost connection) and another instance can then take over. Work done under a lease
+ * should call {@link Lease#ensureValid()} before each unit of work: it fails once the lock has moved on
+ * to a newer fencing token, so a stalled former holder stops instead of redoing the new holder's work.
+ *
+ * The check is not atomic with the writes that follow it, so a holder that pauses between the two can still
+ * write after losing the lock. Protected writes must therefore be fenced themselves: the season refresh
+ * writes a series only if its lastSeasonCheck is still the one it read, so a stalled holder's write is
+ * rejected once the new holder (or anyone else) has checked that series.
+ */
+@Slf4j
+@Component
+public class LeaseLock implements DisposableBean {
+
+    static final String COLLECTION = "locks";
+
+    private final MongoDatabaseFactory mongoDatabaseFactory;
+    private final String owner;
+    private final Duration ttl;
+    private final ScheduledExecutorService renewals = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "lease-renewal");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    LeaseLock(MongoDatabaseFactory mongoDatabaseFactory,
+              ClusterMembership clusterMembership,
+              @Value("${cluster.lock.ttl:60s}") Duration ttl) {
+        this.mongoDatabaseFactory = mongoDatabaseFactory;
+        this.owner = clusterMembership.instanceId();
+        this.ttl = ttl;
+    }
+
+    /**
+     * Acquire the named lock unless another instance holds an unexpired lease on it.
+     *
+     * @param name lock name
+     * @return lease, renewed until released; empty if the lock is held elsewhere
+     */
+    public Optional<Lease> tryAcquire(String name) {
+        Date now = new Date();
+        Document lock;
+        try {
+            lock = collection().findOneAndUpdate(
+                    Filters.and(Filters.eq("_id", name),
+                            Filters.or(Filters.lt("expiresAt", now), Filters.eq("owner", owner))),
+                    Updates.combine(
+                            Updates.set("owner", owner),
+                            Updates.set("acquiredAt", now),
+                            Updates.set("expiresAt", new Date(now.getTime() + ttl.toMillis())),
+                            Updates.inc("token", 1L)),
+                    new FindOneAndUpdateOptions().upsert(true).returnDocument(ReturnDocument.AFTER));
+        } catch (MongoWriteException | MongoCommandException e) {
+            // Held by another instance: the filter did not match and the upsert hit the existing _id
+            if (ErrorCategory.fromErrorCode(errorCode(e)) == ErrorCategory.DUPLICATE_KEY) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+
+        Lease lease = new Lease(this, name, lock.get("token", Number.class).longValue(), ttl);
+        lease.scheduleRenewal(renewals, ttl.dividedBy(3));
+        log.debug("Acquired lock {} (fencing token {})", name, lease.fencingToken());
+        return Optional.of(lease);
+    }
+
+    /**
+     * Extend the lease if it is still this instance's current one.
+     *
+     * @return whether the lease was extended
+     */
+    boolean renew(Lease lease) {
+        Date expiresAt = new Date(System.currentTimeMillis() + ttl.toMillis());
+        return collection().updateOne(held(lease), Updates.set("expiresAt", expiresAt)).getMatchedCount() == 1;
+    }
+
+    /**
+     * @return whether the lock still carries the lease's fencing token and has not expired
+     */
+    boolean isHeld(Lease lease) {
+        return collection().countDocuments(Filters.and(held(lease), Filters.gt("expiresAt", new Date()))) == 1;
+    }
+
+    /**
+     * Let the lease expire after the given delay; no-op if it has already been lost.
+     */
+    void release(Lease lease, Duration after) {
+        try {
+            collection().updateOne(held(lease),
+                    Updates.set("expiresAt", new Date(System.currentTimeMillis() + after.toMillis())));
+        } catch (MongoException e) {
+            log.warn("Could not release lock {}, it expires on its own: {}", lease.name(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        renewals.shutdownNow();
+    }
+
+    private Bson held(Lease lease) {
+        return Filters.and(Filters.eq("_id", lease.name()), Filters.eq("owner", owner),
+                Filters.eq("token", lease.fencingToken()));
+    }
+
+    private MongoCollection<Document> collection() {
+        return mongoDatabaseFactory.getMongoDatabase().getCollection(COLLECTION);
+    }
+
+    private static int errorCode(MongoException e) {
+        return e instanceof MongoWriteException writeException ? writeException.getError().getCode() : e.getCode();
+    }
+}
@@ -0,0 +1,25 @@
+package com.moviecat.cluster;
+
+/**
+ * One of {@code count} disjoint parts of a keyed work set; a key belongs to shard {@code hash(key) mod count}.
+ *
+ * @param index this shard, {@code 0 <= index < count}
+ * @param count number of shards
+ */
+public record Shard(int index, int count) {
+
+    public static final Shard ALL = new Shard(0, 1);
+
+    /**
+     * @param key work item key, e.g. a document ID
+     * @return whether the item belongs to this shard
+     */
+    public boolean owns(String key) {
+        return count == 1 || Math.floorMod(key.hashCode(), count) == index;
+    }
+
+    @Override
+    public String toString() {
+        return index + "-of-" + count;
+    }
+}
@@ -0,0 +1,50 @@
+package com.moviecat.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Jackson configuration shared by all HTTP message converters.
+ *
+ * Besides JSON, responses can be requested as CBOR ({@code Accept: application/cbor}) or Smile
+ * ({@code Accept: application/x-jackson-smile}), compact binary encodings of the same document.
+ * JSON stays the default: the binary converters are only chosen when a client asks for them.
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Register a pass-through default for the field selection filter, so DTOs annotated with
+     * {@code @JsonFilter} serialize every field unless a request narrows them down.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldSelectionFilterCustomizer() {
+        return builder -> builder.filters(new SimpleFilterProvider()
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    /**
+     * CBOR converter built from Spring Boot's builder, so it has the same modules, date format and
+     * field selection filter as JSON. Replaces the converter Spring MVC would create with a plain mapper.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Smile converter built from Spring Boot's builder, see {@link #cborHttpMessageConverter}.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,33 @@
+package com.moviecat.config;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.observability.ContextProviderFactory;
+import org.springframework.data.mongodb.observability.MongoObservationCommandListener;
+
+/**
+ * Tracing configuration.
+ *
+ * HTTP requests, {@code @Scheduled} jobs, TMDB {@code WebClient} calls and {@code @Observed} service methods
+ * are observed by Spring Boot; this adds a span per MongoDB command. Spans are exported over OTLP when
+ * {@code management.otlp.tracing.export.enabled=true}, and trace/span IDs are added to every log line.
+ */
+@Configuration
+public class TracingConfig {
+
+    /**
+     * Observe MongoDB commands of both the blocking and the reactive client, as children
+     * of the observation that is current when the command is issued.
+     *
+     * @param observationRegistry application observation registry
+     * @return client settings customizer
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoObservationCustomizer(ObservationRegistry observationRegistry) {
+        return builder -> builder
+                .contextProvider(ContextProviderFactory.create(observationRegistry))
+                .addCommandListener(new MongoObservationCommandListener(observationRegistry));
+    }
+}
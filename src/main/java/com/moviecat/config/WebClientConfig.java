@@ -45,10 +45,14 @@ public class WebClientConfig {
      * - Request/response logging
      * - Error handling
      * 
+     * Built from Spring Boot's {@link WebClient.Builder}, so every call is recorded in the
+     * {@code http.client.requests} metric with its URI template, status and outcome.
+     * 
+     * @param webClientBuilder auto-configured WebClient builder
      * @return configured WebClient instance
      */
     @Bean
-    public WebClient tmdbWebClient() {
+    public WebClient tmdbWebClient(WebClient.Builder webClientBuilder) {
         try {
             // Create SSL context that trusts all certificates (DISABLE SSL VERIFICATION)
             var sslContext = SslContextBuilder
@@ -66,7 +70,7 @@ public class WebClientConfig {
                             .addHandlerLast(new WriteTimeoutHandler(10, TimeUnit.SECONDS))
                     );
             
-            return WebClient.builder()
+            return webClientBuilder
                     .baseUrl(tmdbBaseUrl)
                     .clientConnector(new ReactorClientHttpConnector(httpClient))
                     .defaultHeader("Accept", "application/json")
@@ -1,41 +1,93 @@
 package com.moviecat.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.moviecat.dto.CatalogItemResponse;
 import com.moviecat.service.CatalogService;
+import com.moviecat.service.CollectionVersions;
+import com.moviecat.util.FieldSelection;
+import com.moviecat.util.NdjsonResponses;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * REST controller for catalog operations (combined movies and series).
+ * Active with the default blocking persistence mode.
  */
 @RestController
+@ConditionalOnProperty(name = "persistence.mode", havingValue = "blocking", matchIfMissing = true)
 @RequestMapping("/api/catalog")
 @RequiredArgsConstructor
 @Tag(name = "Catalog", description = "Combined catalog endpoints for movies and series")
 public class CatalogController {
     
     private final CatalogService catalogService;
+    private final ObjectMapper objectMapper;
+    private final CollectionETags collectionETags;
     
     @GetMapping
     @Operation(summary = "Get catalog", description = "Retrieve combined catalog with optional filters")
-    public List<CatalogItemResponse> getCatalog(
+    public MappingJacksonValue getCatalog(
+            @RequestParam(required = false) String contentType,
+            @RequestParam(required = false) String genre,
+            @RequestParam(required = false) String watchStatus,
+            @RequestParam(required = false) String addedBy,
+            @RequestParam(required = false) Boolean hasNewSeasons,
+            @RequestParam(required = false) String seriesStatus,
+            @RequestParam(required = false) String sortBy,
+            @Parameter(description = "Comma-separated list of fields to return (all fields if omitted)")
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        FieldSelection selection = FieldSelection.parse(fields, CatalogItemResponse.class);
+        if (collectionETags.checkNotModified(webRequest, CollectionVersions.MOVIES, CollectionVersions.SERIES)) {
+            return null;
+        }
+        return selection.applyTo(catalogService.getCatalog(
+                contentType, genre, watchStatus, addedBy, hasNewSeasons, seriesStatus, sortBy, selection));
+    }
+    
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream catalog", 
+            description = "Stream the combined catalog as newline-delimited JSON, one item per line, in the same order as Get catalog")
+    public ResponseEntity<StreamingResponseBody> streamCatalog(
             @RequestParam(required = false) String contentType,
             @RequestParam(required = false) String genre,
             @RequestParam(required = false) String watchStatus,
             @RequestParam(required = false) String addedBy,
             @RequestParam(required = false) Boolean hasNewSeasons,
             @RequestParam(required = false) String seriesStatus,
-            @RequestParam(required = false) String sortBy) {
-        return catalogService.getCatalog(contentType, genre, watchStatus, addedBy, hasNewSeasons, seriesStatus, sortBy);
+            @RequestParam(required = false) String sortBy,
+            @Parameter(description = "Comma-separated list of fields to return (all fields if omitted)")
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        FieldSelection selection = FieldSelection.parse(fields, CatalogItemResponse.class);
+        if (collectionETags.checkNotModified(webRequest, CollectionVersions.MOVIES, CollectionVersions.SERIES)) {
+            return null;
+        }
+        return NdjsonResponses.of(catalogService.streamCatalog(
+                contentType, genre, watchStatus, addedBy, hasNewSeasons, seriesStatus, sortBy, selection),
+                selection.writer(objectMapper));
     }
     
     @GetMapping("/search")
     @Operation(summary = "Search catalog", description = "Search catalog by title or other attributes")
-    public List<CatalogItemResponse> searchCatalog(@RequestParam String query) {
-        return catalogService.searchCatalog(query);
+    public MappingJacksonValue searchCatalog(
+            @RequestParam String query,
+            @Parameter(description = "Comma-separated list of fields to return (all fields if omitted)")
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        FieldSelection selection = FieldSelection.parse(fields, CatalogItemResponse.class);
+        if (collectionETags.checkNotModified(webRequest, CollectionVersions.MOVIES, CollectionVersions.SERIES)) {
+            return null;
+        }
+        return selection.applyTo(catalogService.searchCatalog(query, selection));
     }
 }
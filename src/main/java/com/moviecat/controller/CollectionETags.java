@@ -0,0 +1,55 @@
+package com.moviecat.controller;
+
+import com.moviecat.service.CollectionVersions;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Weak ETags for list endpoints, derived from the {@link CollectionVersions} of the collections a response
+ * is read from instead of from the response body. A poll whose {@code If-None-Match} still matches is answered
+ * with 304 before the service is called, so it touches neither MongoDB nor Jackson.
+ *
+ * The tag starts with an instance marker, because versions restart from zero with the application.
+ * Versions are counted per instance too (see {@link CollectionVersions}), so a tag is only recognized by
+ * the instance that issued it: behind a load balancer without sticky sessions, a poll that reaches another
+ * replica gets a full 200 response with that replica's tag. Conditional GETs are never answered 304 wrongly,
+ * they just save less with several replicas.
+ */
+@Component
+@RequiredArgsConstructor
+class CollectionETags {
+
+    private final String instance = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final CollectionVersions collectionVersions;
+
+    /**
+     * Set the ETag for the given collections on the response and check it against {@code If-None-Match}.
+     * When this returns true the response status is already 304 and the handler should return null.
+     *
+     * @param request current request
+     * @param collections collections the response is read from
+     * @return true if the client's copy is current
+     */
+    boolean checkNotModified(WebRequest request, String... collections) {
+        // The same URL is served as JSON, CBOR or Smile; caches must not reuse one for another
+        if (request instanceof ServletWebRequest servletRequest && servletRequest.getResponse() != null) {
+            servletRequest.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        return request.checkNotModified(etag(collections));
+    }
+
+    /**
+     * Weak ETag for the current versions of the collections, e.g. {@code W/"m1x2k3-4-7"}.
+     * Versions are read before the response data, see {@link CollectionVersions}.
+     */
+    String etag(String... collections) {
+        StringBuilder etag = new StringBuilder("W/\"").append(instance);
+        for (String collection : collections) {
+            etag.append('-').append(Long.toString(collectionVersions.current(collection), Character.MAX_RADIX));
+        }
+        return etag.append('"').toString();
+    }
+}
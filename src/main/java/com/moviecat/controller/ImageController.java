@@ -28,6 +28,8 @@ import java.net.MalformedURLException;
 @Tag(name = "Images", description = "Image management operations")
 public class ImageController {
     
+    private static final String PENDING_RETRY_AFTER_SECONDS = "2";
+    
     private final ImageService imageService;
     
     /**
@@ -55,6 +57,7 @@ public class ImageController {
     
     /**
      * Get an image by its ID (serves the actual image file).
+     * Images still being downloaded in the background answer 503 with a Retry-After header.
      * 
      * @param id the image ID
      * @return the image file
@@ -74,6 +77,11 @@ public class ImageController {
         } catch (MalformedURLException e) {
             log.error("Invalid file path for image: {}", id, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        } catch (IllegalStateException e) {
+            log.debug("Image not downloaded yet: {}", id);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, PENDING_RETRY_AFTER_SECONDS)
+                    .build();
         } catch (RuntimeException e) {
             log.error("Image not found: {}", id, e);
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
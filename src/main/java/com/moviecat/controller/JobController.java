@@ -0,0 +1,57 @@
+package com.moviecat.controller;
+
+import com.moviecat.dto.JobRequest;
+import com.moviecat.dto.JobResponse;
+import com.moviecat.service.JobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * REST controller for background jobs (bulk refresh, enrichment, image backfill).
+ * Submitting answers 202 Accepted with the queued job; its progress is then polled at the Location URL.
+ */
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+@Tag(name = "Jobs", description = "Background job endpoints")
+public class JobController {
+    
+    private final JobService jobService;
+    
+    /**
+     * @return 202 Accepted with the job and its progress URL
+     */
+    static ResponseEntity<JobResponse> accepted(JobResponse job) {
+        return ResponseEntity.accepted().location(URI.create("/api/jobs/" + job.getId())).body(job);
+    }
+    
+    @PostMapping
+    @Operation(summary = "Submit job", description = "Queue a SERIES_REFRESH, ENRICHMENT or IMAGE_BACKFILL job")
+    public ResponseEntity<JobResponse> submitJob(@RequestBody JobRequest request) {
+        return accepted(jobService.submit(request));
+    }
+    
+    @GetMapping
+    @Operation(summary = "Get recent jobs", description = "Retrieve the most recently submitted jobs, newest first")
+    public List<JobResponse> getRecentJobs(@RequestParam(defaultValue = "20") int limit) {
+        return jobService.getRecentJobs(Math.max(1, Math.min(limit, 100)));
+    }
+    
+    @GetMapping("/{id}")
+    @Operation(summary = "Get job", description = "Retrieve a job's status and progress")
+    public JobResponse getJob(@PathVariable String id) {
+        return jobService.getJob(id);
+    }
+    
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Cancel job", description = "Cancel a queued or running job")
+    public JobResponse cancelJob(@PathVariable String id) {
+        return jobService.cancel(id);
+    }
+}
@@ -1,17 +1,23 @@
 package com.moviecat.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.moviecat.dto.MovieRequest;
 import com.moviecat.dto.MovieResponse;
 import com.moviecat.dto.PriorityRequest;
 import com.moviecat.dto.WatchStatusRequest;
 import com.moviecat.service.MovieService;
+import com.moviecat.util.FieldSelection;
+import com.moviecat.util.NdjsonResponses;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * REST controller for movie operations.
@@ -23,6 +29,7 @@ import java.util.List;
 public class MovieController {
     
     private final MovieService movieService;
+    private final ObjectMapper objectMapper;
     
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -39,8 +46,20 @@ public class MovieController {
     
     @GetMapping
     @Operation(summary = "Get all movies", description = "Retrieve all movies in the catalog")
-    public List<MovieResponse> getAllMovies() {
-        return movieService.getAllMovies();
+    public MappingJacksonValue getAllMovies(
+            @Parameter(description = "Comma-separated list of fields to return (all fields if omitted)")
+            @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, MovieResponse.class);
+        return selection.applyTo(movieService.getAllMovies(selection));
+    }
+    
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all movies", description = "Stream all movies as newline-delimited JSON, one item per line")
+    public ResponseEntity<StreamingResponseBody> streamAllMovies(
+            @Parameter(description = "Comma-separated list of fields to return (all fields if omitted)")
+            @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, MovieResponse.class);
+        return NdjsonResponses.of(movieService.streamAllMovies(selection), selection.writer(objectMapper));
     }
     
     @PutMapping("/{id}")
@@ -1,29 +1,38 @@
 package com.moviecat.controller;
 
 import com.moviecat.dto.NotificationResponse;
+import com.moviecat.service.CollectionVersions;
 import com.moviecat.service.NotificationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
 /**
  * REST controller for notification operations.
+ * Active with the default blocking persistence mode.
  */
 @RestController
+@ConditionalOnProperty(name = "persistence.mode", havingValue = "blocking", matchIfMissing = true)
 @RequestMapping("/api/notifications")
 @RequiredArgsConstructor
 @Tag(name = "Notifications", description = "Notification management endpoints")
 public class NotificationController {
     
     private final NotificationService notificationService;
+    private final CollectionETags collectionETags;
     
     @GetMapping
     @Operation(summary = "Get notifications", description = "Retrieve all active notifications")
-    public List<NotificationResponse> getNotifications() {
+    public List<NotificationResponse> getNotifications(WebRequest webRequest) {
+        if (collectionETags.checkNotModified(webRequest, CollectionVersions.NOTIFICATIONS)) {
+            return null;
+        }
         return notificationService.getActiveNotifications();
     }
     
@@ -0,0 +1,65 @@
+package com.moviecat.controller;
+
+import com.moviecat.dto.NotificationEvent;
+import com.moviecat.service.NotificationBroadcaster;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Server-Sent Events stream of notification changes, replacing polling of {@code GET /api/notifications}.
+ * Served in both persistence modes: events come from {@link NotificationBroadcaster}, not from MongoDB.
+ */
+@RestController
+@RequestMapping("/api/notifications")
+@Tag(name = "Notifications", description = "Notification management endpoints")
+public class NotificationStreamController {
+
+    private final NotificationBroadcaster notificationBroadcaster;
+    private final Duration heartbeat;
+    private final Duration maxDuration;
+
+    NotificationStreamController(NotificationBroadcaster notificationBroadcaster,
+                                 @Value("${notifications.stream.heartbeat:30s}") Duration heartbeat,
+                                 @Value("${notifications.stream.max-duration:4m}") Duration maxDuration) {
+        this.notificationBroadcaster = notificationBroadcaster;
+        this.heartbeat = heartbeat;
+        this.maxDuration = maxDuration;
+    }
+
+    /**
+     * Push {@code created} and {@code dismissed} events as they happen. A comment is sent on connect and
+     * every heartbeat interval to keep proxies from closing the idle connection. The stream ends after
+     * {@code notifications.stream.max-duration} (below the MVC async timeout) or when the client falls
+     * behind; EventSource clients reconnect automatically and should reload the list on (re)connect.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream notifications", description = "Server-Sent Events for created and dismissed notifications")
+    public ResponseEntity<Flux<ServerSentEvent<NotificationEvent>>> streamNotifications() {
+        Flux<ServerSentEvent<NotificationEvent>> events = notificationBroadcaster.subscribe()
+                .map(event -> ServerSentEvent.builder(event)
+                        .event(event.getType().name().toLowerCase(Locale.ROOT))
+                        .build());
+        Flux<ServerSentEvent<NotificationEvent>> heartbeats = Flux.interval(Duration.ZERO, heartbeat)
+                .map(tick -> ServerSentEvent.<NotificationEvent>builder().comment("heartbeat").build());
+
+        return ResponseEntity.ok()
+                // nginx would otherwise buffer the stream
+                .header("X-Accel-Buffering", "no")
+                .body(Flux.merge(events, heartbeats)
+                        .take(maxDuration)
+                        // A client that fell behind is disconnected; it reconnects and reloads
+                        .onErrorResume(Exceptions::isOverflow, e -> Flux.empty()));
+    }
+}
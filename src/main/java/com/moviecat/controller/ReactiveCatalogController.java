@@ -0,0 +1,94 @@
+package com.moviecat.controller;
+
+import com.moviecat.dto.CatalogItemResponse;
+import com.moviecat.service.CollectionVersions;
+import com.moviecat.service.ReactiveCatalogService;
+import com.moviecat.util.FieldSelection;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking REST controller for catalog operations (combined movies and series).
+ * Replaces {@link CatalogController} when {@code persistence.mode=reactive}.
+ */
+@RestController
+@ConditionalOnProperty(name = "persistence.mode", havingValue = "reactive")
+@RequestMapping("/api/catalog")
+@RequiredArgsConstructor
+@Tag(name = "Catalog", description = "Combined catalog endpoints for movies and series")
+public class ReactiveCatalogController {
+    
+    private final ReactiveCatalogService reactiveCatalogService;
+    private final CollectionETags collectionETags;
+    
+    @GetMapping
+    @Operation(summary = "Get catalog", description = "Retrieve combined catalog with optional filters")
+    public Mono<MappingJacksonValue> getCatalog(
+            @RequestParam(required = false) String contentType,
+            @RequestParam(required = false) String genre,
+            @RequestParam(required = false) String watchStatus,
+            @RequestParam(required = false) String addedBy,
+            @RequestParam(required = false) Boolean hasNewSeasons,
+            @RequestParam(required = false) String seriesStatus,
+            @RequestParam(required = false) String sortBy,
+            @Parameter(description = "Comma-separated list of fields to return (all fields if omitted)")
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        FieldSelection selection = FieldSelection.parse(fields, CatalogItemResponse.class);
+        if (collectionETags.checkNotModified(webRequest, CollectionVersions.MOVIES, CollectionVersions.SERIES)) {
+            return null;
+        }
+        return reactiveCatalogService.getCatalog(
+                        contentType, genre, watchStatus, addedBy, hasNewSeasons, seriesStatus, sortBy, selection)
+                .collectList()
+                .map(selection::applyTo);
+    }
+    
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream catalog", 
+            description = "Stream the combined catalog as newline-delimited JSON, one item per line, in the same order as Get catalog")
+    public Flux<MappingJacksonValue> streamCatalog(
+            @RequestParam(required = false) String contentType,
+            @RequestParam(required = false) String genre,
+            @RequestParam(required = false) String watchStatus,
+            @RequestParam(required = false) String addedBy,
+            @RequestParam(required = false) Boolean hasNewSeasons,
+            @RequestParam(required = false) String seriesStatus,
+            @RequestParam(required = false) String sortBy,
+            @Parameter(description = "Comma-separated list of fields to return (all fields if omitted)")
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        FieldSelection selection = FieldSelection.parse(fields, CatalogItemResponse.class);
+        if (collectionETags.checkNotModified(webRequest, CollectionVersions.MOVIES, CollectionVersions.SERIES)) {
+            return null;
+        }
+        return reactiveCatalogService.getCatalog(
+                        contentType, genre, watchStatus, addedBy, hasNewSeasons, seriesStatus, sortBy, selection)
+                .map(selection::applyTo);
+    }
+    
+    @GetMapping("/search")
+    @Operation(summary = "Search catalog", description = "Search catalog by title or other attributes")
+    public Mono<MappingJacksonValue> searchCatalog(
+            @RequestParam String query,
+            @Parameter(description = "Comma-separated list of fields to return (all fields if omitted)")
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        FieldSelection selection = FieldSelection.parse(fields, CatalogItemResponse.class);
+        if (collectionETags.checkNotModified(webRequest, CollectionVersions.MOVIES, CollectionVersions.SERIES)) {
+            return null;
+        }
+        return reactiveCatalogService.searchCatalog(query, selection)
+                .collectList()
+                .map(selection::applyTo);
+    }
+}
@@ -0,0 +1,45 @@
+package com.moviecat.controller;
+
+import com.moviecat.dto.NotificationResponse;
+import com.moviecat.service.CollectionVersions;
+import com.moviecat.service.ReactiveNotificationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking REST controller for notification operations.
+ * Replaces {@link NotificationController} when {@code persistence.mode=reactive}.
+ */
+@RestController
+@ConditionalOnProperty(name = "persistence.mode", havingValue = "reactive")
+@RequestMapping("/api/notifications")
+@RequiredArgsConstructor
+@Tag(name = "Notifications", description = "Notification management endpoints")
+public class ReactiveNotificationController {
+    
+    private final ReactiveNotificationService reactiveNotificationService;
+    private final CollectionETags collectionETags;
+    
+    @GetMapping
+    @Operation(summary = "Get notifications", description = "Retrieve all active notifications")
+    public Flux<NotificationResponse> getNotifications(WebRequest webRequest) {
+        if (collectionETags.checkNotModified(webRequest, CollectionVersions.NOTIFICATIONS)) {
+            return null;
+        }
+        return reactiveNotificationService.getActiveNotifications();
+    }
+    
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Dismiss notification", description = "Dismiss a notification")
+    public Mono<Void> dismissNotification(@PathVariable String id) {
+        return reactiveNotificationService.dismissNotification(id);
+    }
+}
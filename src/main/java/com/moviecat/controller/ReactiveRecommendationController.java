@@ -0,0 +1,44 @@
+package com.moviecat.controller;
+
+import com.moviecat.dto.RecommendationResponse;
+import com.moviecat.service.CollectionVersions;
+import com.moviecat.service.ReactiveRecommendationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Non-blocking REST controller for recommendation operations.
+ * Replaces {@link RecommendationController} when {@code persistence.mode=reactive}.
+ */
+@RestController
+@ConditionalOnProperty(name = "persistence.mode", havingValue = "reactive")
+@RequestMapping("/api/recommendations")
+@RequiredArgsConstructor
+@Tag(name = "Recommendations", description = "Movie/series recommendation endpoints")
+public class ReactiveRecommendationController {
+    
+    private final ReactiveRecommendationService reactiveRecommendationService;
+    private final CollectionETags collectionETags;
+    
+    @GetMapping
+    @Operation(summary = "Get recommendations", description = "Get recommended movies or series to watch")
+    public Mono<List<RecommendationResponse>> getRecommendations(
+            @RequestParam(defaultValue = "1") int count,
+            @RequestParam(required = false) String addedBy,
+            WebRequest webRequest) {
+        if (collectionETags.checkNotModified(webRequest, CollectionVersions.MOVIES, CollectionVersions.SERIES)) {
+            return null;
+        }
+        return reactiveRecommendationService.getRecommendations(count, addedBy);
+    }
+}
@@ -1,33 +1,43 @@
 package com.moviecat.controller;
 
 import com.moviecat.dto.RecommendationResponse;
+import com.moviecat.service.CollectionVersions;
 import com.moviecat.service.RecommendationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
 /**
  * REST controller for recommendation operations.
+ * Active with the default blocking persistence mode.
  */
 @RestController
+@ConditionalOnProperty(name = "persistence.mode", havingValue = "blocking", matchIfMissing = true)
 @RequestMapping("/api/recommendations")
 @RequiredArgsConstructor
 @Tag(name = "Recommendations", description = "Movie/series recommendation endpoints")
 public class RecommendationController {
     
     private final RecommendationService recommendationService;
+    private final CollectionETags collectionETags;
     
     @GetMapping
     @Operation(summary = "Get recommendations", description = "Get recommended movies or series to watch")
     public List<RecommendationResponse> getRecommendations(
             @RequestParam(defaultValue = "1") int count,
-            @RequestParam(required = false) String addedBy) {
+            @RequestParam(required = false) String addedBy,
+            WebRequest webRequest) {
+        if (collectionETags.checkNotModified(webRequest, CollectionVersions.MOVIES, CollectionVersions.SERIES)) {
+            return null;
+        }
         return recommendationService.getRecommendations(count, addedBy);
     }
 }
@@ -1,17 +1,30 @@
 package com.moviecat.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moviecat.dto.JobResponse;
 import com.moviecat.dto.PriorityRequest;
 import com.moviecat.dto.SeriesRequest;
 import com.moviecat.dto.SeriesResponse;
 import com.moviecat.dto.WatchStatusRequest;
+import com.moviecat.model.JobType;
+import com.moviecat.service.CollectionVersions;
+import com.moviecat.service.JobService;
 import com.moviecat.service.SeriesService;
+import com.moviecat.util.FieldSelection;
+import com.moviecat.util.NdjsonResponses;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.util.Map;
 
 /**
  * REST controller for TV series operations.
@@ -23,6 +36,9 @@ import java.util.List;
 public class SeriesController {
     
     private final SeriesService seriesService;
+    private final ObjectMapper objectMapper;
+    private final CollectionETags collectionETags;
+    private final JobService jobService;
     
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -39,8 +55,28 @@ public class SeriesController {
     
     @GetMapping
     @Operation(summary = "Get all series", description = "Retrieve all series in the catalog")
-    public List<SeriesResponse> getAllSeries() {
-        return seriesService.getAllSeries();
+    public MappingJacksonValue getAllSeries(
+            @Parameter(description = "Comma-separated list of fields to return (all fields if omitted)")
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        FieldSelection selection = FieldSelection.parse(fields, SeriesResponse.class);
+        if (collectionETags.checkNotModified(webRequest, CollectionVersions.SERIES)) {
+            return null;
+        }
+        return selection.applyTo(seriesService.getAllSeries(selection));
+    }
+    
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all series", description = "Stream all series as newline-delimited JSON, one item per line")
+    public ResponseEntity<StreamingResponseBody> streamAllSeries(
+            @Parameter(description = "Comma-separated list of fields to return (all fields if omitted)")
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        FieldSelection selection = FieldSelection.parse(fields, SeriesResponse.class);
+        if (collectionETags.checkNotModified(webRequest, CollectionVersions.SERIES)) {
+            return null;
+        }
+        return NdjsonResponses.of(seriesService.streamAllSeries(selection), selection.writer(objectMapper));
     }
     
     @PutMapping("/{id}")
@@ -96,8 +132,11 @@ public class SeriesController {
     }
     
     @PostMapping("/refresh-all")
-    @Operation(summary = "Refresh all series", description = "Refresh all series that have a TMDB ID")
-    public com.moviecat.dto.BulkRefreshResponse refreshAllSeries() {
-        return seriesService.refreshAllSeriesWithTmdbId();
+    @Operation(summary = "Refresh all series", description = "Queue a job refreshing all series that have a TMDB ID, " +
+            "or with changedOnly=true only those TMDB lists as changed since the last successful changed-only refresh. " +
+            "Answers 202 Accepted; follow the job's progress at GET /api/jobs/{id}")
+    public ResponseEntity<JobResponse> refreshAllSeries(@RequestParam(defaultValue = "false") boolean changedOnly) {
+        return JobController.accepted(jobService.submit(JobType.SERIES_REFRESH,
+                Map.of("changedOnly", Boolean.toString(changedOnly))));
     }
 }
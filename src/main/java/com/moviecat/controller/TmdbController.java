@@ -1,16 +1,23 @@
 package com.moviecat.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moviecat.dto.TmdbBatchEnrichmentRequest;
+import com.moviecat.dto.TmdbBatchEnrichmentResult;
 import com.moviecat.dto.TmdbEnrichmentRequest;
 import com.moviecat.dto.TmdbEnrichmentResponse;
 import com.moviecat.dto.tmdb.TmdbSearchResult;
+import com.moviecat.service.TmdbBatchEnrichmentService;
 import com.moviecat.service.TmdbEnrichmentService;
+import com.moviecat.util.NdjsonResponses;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -25,36 +32,51 @@ import java.util.List;
 @Tag(name = "TMDB Integration", description = "Endpoints for enriching content metadata from TMDB")
 public class TmdbController {
     
+    static final String BATCH_ID_HEADER = "X-Enrichment-Batch-Id";
+    static final String SEARCH_SESSION_HEADER = "X-Search-Session";
+    
     private final TmdbEnrichmentService tmdbEnrichmentService;
+    private final TmdbBatchEnrichmentService tmdbBatchEnrichmentService;
+    private final ObjectMapper objectMapper;
     
     /**
      * Search for movies in TMDB by title.
      * Returns list of matching results for user to select from.
+     * Type-ahead clients send a session header; a search superseded by a newer one of the same
+     * session answers 204 No Content.
      */
     @GetMapping("/search/movies")
     @Operation(summary = "Search movies in TMDB", 
                description = "Search for movies by title in The Movie Database")
     public ResponseEntity<List<TmdbSearchResult>> searchMovies(
             @Parameter(description = "Movie title to search for")
-            @RequestParam String title) {
+            @RequestParam String title,
+            @Parameter(description = "Type-ahead session of the client, enables server-side debouncing")
+            @RequestHeader(value = SEARCH_SESSION_HEADER, required = false) String session) {
         log.info("Searching TMDB for movies with title: {}", title);
-        List<TmdbSearchResult> results = tmdbEnrichmentService.searchMovies(title);
-        return ResponseEntity.ok(results);
+        return tmdbEnrichmentService.searchMovies(title, session)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
     }
     
     /**
      * Search for TV series in TMDB by title.
      * Returns list of matching results for user to select from.
+     * Type-ahead clients send a session header; a search superseded by a newer one of the same
+     * session answers 204 No Content.
      */
     @GetMapping("/search/series")
     @Operation(summary = "Search TV series in TMDB", 
                description = "Search for TV series by title in The Movie Database")
     public ResponseEntity<List<TmdbSearchResult>> searchSeries(
             @Parameter(description = "Series title to search for")
-            @RequestParam String title) {
+            @RequestParam String title,
+            @Parameter(description = "Type-ahead session of the client, enables server-side debouncing")
+            @RequestHeader(value = SEARCH_SESSION_HEADER, required = false) String session) {
         log.info("Searching TMDB for series with title: {}", title);
-        List<TmdbSearchResult> results = tmdbEnrichmentService.searchSeries(title);
-        return ResponseEntity.ok(results);
+        return tmdbEnrichmentService.searchSeries(title, session)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
     }
     
     /**
@@ -96,4 +118,24 @@ public class TmdbController {
         TmdbEnrichmentResponse response = tmdbEnrichmentService.enrichSeries(request);
         return ResponseEntity.ok(response);
     }
+    
+    /**
+     * Enrich a list of movies or series from TMDB.
+     * Items are enriched concurrently and streamed back as they finish, one JSON line each.
+     * The batch ID header lets a client resume a batch that was cut off.
+     */
+    @PostMapping(value = "/enrich/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Enrich a batch of movies or series from TMDB",
+               description = "Enrich many items concurrently and stream one result per line as items finish. "
+                       + "Results are stored as they finish; repeat the request with the batchId from the "
+                       + BATCH_ID_HEADER + " header to resume, skipping items that already succeeded")
+    public ResponseEntity<StreamingResponseBody> enrichBatch(
+            @RequestBody TmdbBatchEnrichmentRequest request) {
+        log.info("Enriching batch of {} {} items (batch: {})",
+                request.getItems() != null ? request.getItems().size() : 0, request.getContentType(), request.getBatchId());
+        
+        TmdbBatchEnrichmentService.BatchRun run = tmdbBatchEnrichmentService.enrich(request);
+        return NdjsonResponses.live(ResponseEntity.ok().header(BATCH_ID_HEADER, run.batchId()),
+                run.results(), objectMapper.writerFor(TmdbBatchEnrichmentResult.class));
+    }
 }
@@ -0,0 +1,203 @@
+package com.moviecat.diagnostics;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flags MongoDB commands (blocking and reactive client) slower than
+ * {@code diagnostics.slow-operations.mongo-threshold} and records them in the {@link SlowOperationLog}.
+ *
+ * For slow queries ({@code find}, {@code aggregate}, {@code count}, {@code distinct}) the command is
+ * re-run as {@code explain} on a background thread, so the log shows the plan MongoDB chose, e.g. a
+ * collection scan for an unindexed catalog filter. Explains are skipped, not queued, when the
+ * background thread falls behind.
+ *
+ * A {@code getMore} with {@code maxTimeMS} reads an awaitData cursor (the change stream of
+ * {@link com.moviecat.changes.ChangeStreamWatcher}): the server holds it open on purpose until new data
+ * arrives or the await time ends, so its duration says nothing about query cost and it is never flagged.
+ */
+@Slf4j
+@Component
+public class SlowMongoCommandListener implements CommandListener, MongoClientSettingsBuilderCustomizer, DisposableBean {
+
+    private static final String EXPLAIN_COMMAND = "explain";
+    private static final String GET_MORE_COMMAND = "getMore";
+
+    private static final Set<String> EXPLAINABLE_COMMANDS = Set.of("find", "aggregate", "count", "distinct");
+
+    /**
+     * Command fields that describe the query; everything else (session, cluster time, $db...) is left out.
+     */
+    private static final Set<String> QUERY_FIELDS = Set.of(
+            "filter", "query", "sort", "projection", "pipeline", "key", "limit", "skip", "hint", "collation");
+
+    private static final Set<String> EXPLAIN_IGNORED_FIELDS = Set.of(
+            "$db", "lsid", "$clusterTime", "$readPreference", "txnNumber", "autocommit", "startTransaction",
+            "readConcern", "cursor");
+
+    private static final int MAX_DETAIL_LENGTH = 2000;
+    private static final int MAX_PENDING_EXPLAINS = 16;
+
+    private final SlowOperationLog slowOperationLog;
+    private final ObjectProvider<MongoDatabaseFactory> mongoDatabaseFactory;
+    private final Duration threshold;
+    private final boolean explainEnabled;
+    private final String explainVerbosity;
+
+    /**
+     * Copies of in-flight explainable commands by request ID; the driver's own command
+     * document is only valid during the started callback.
+     */
+    private final Map<Integer, BsonDocument> inFlightQueries = new ConcurrentHashMap<>();
+
+    /**
+     * Request IDs of in-flight awaitData {@code getMore} commands, which block by design.
+     */
+    private final Set<Integer> inFlightAwaits = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService explainExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(MAX_PENDING_EXPLAINS), runnable -> {
+                Thread thread = new Thread(runnable, "slow-query-explain");
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.DiscardPolicy());
+
+    public SlowMongoCommandListener(
+            SlowOperationLog slowOperationLog,
+            ObjectProvider<MongoDatabaseFactory> mongoDatabaseFactory,
+            @Value("${diagnostics.slow-operations.mongo-threshold:100ms}") Duration threshold,
+            @Value("${diagnostics.slow-operations.explain.enabled:true}") boolean explainEnabled,
+            @Value("${diagnostics.slow-operations.explain.verbosity:queryPlanner}") String explainVerbosity) {
+        this.slowOperationLog = slowOperationLog;
+        this.mongoDatabaseFactory = mongoDatabaseFactory;
+        this.threshold = threshold;
+        this.explainEnabled = explainEnabled;
+        this.explainVerbosity = explainVerbosity;
+    }
+
+    @Override
+    public void customize(MongoClientSettings.Builder builder) {
+        builder.addCommandListener(this);
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (EXPLAINABLE_COMMANDS.contains(event.getCommandName())) {
+            inFlightQueries.put(event.getRequestId(), event.getCommand().clone());
+        } else if (GET_MORE_COMMAND.equals(event.getCommandName()) && event.getCommand().containsKey("maxTimeMS")) {
+            inFlightAwaits.add(event.getRequestId());
+        }
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        BsonDocument command = inFlightQueries.remove(event.getRequestId());
+        boolean awaitData = inFlightAwaits.remove(event.getRequestId());
+        long elapsedNanos = event.getElapsedTime(TimeUnit.NANOSECONDS);
+        if (elapsedNanos >= threshold.toNanos() && !awaitData && !EXPLAIN_COMMAND.equals(event.getCommandName())) {
+            slow(event.getCommandName(), event.getDatabaseName(), command, elapsedNanos, null);
+        }
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        BsonDocument command = inFlightQueries.remove(event.getRequestId());
+        boolean awaitData = inFlightAwaits.remove(event.getRequestId());
+        long elapsedNanos = event.getElapsedTime(TimeUnit.NANOSECONDS);
+        if (elapsedNanos >= threshold.toNanos() && !awaitData && !EXPLAIN_COMMAND.equals(event.getCommandName())) {
+            slow(event.getCommandName(), event.getDatabaseName(), command, elapsedNanos, "failed");
+        }
+    }
+
+    @Override
+    public void destroy() {
+        explainExecutor.shutdownNow();
+    }
+
+    private void slow(String commandName, String databaseName, BsonDocument command, long elapsedNanos,
+                      String outcome) {
+        SlowOperation operation = SlowOperation.builder()
+                .type(SlowOperation.Type.MONGO_COMMAND)
+                .timestamp(Instant.now())
+                .durationMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                .name(command != null ? commandName + " " + collection(commandName, command) : commandName)
+                .detail(command != null ? queryDetail(command) : null)
+                .outcome(outcome)
+                .traceId(MDC.get("traceId"))
+                .build();
+
+        // Never explain on the driver's thread: the callback runs inside the original operation
+        if (command != null && outcome == null && explainEnabled) {
+            explainExecutor.execute(() -> {
+                operation.setExplain(explain(databaseName, command));
+                slowOperationLog.add(operation);
+            });
+        } else {
+            slowOperationLog.add(operation);
+        }
+    }
+
+    private Map<String, Object> explain(String databaseName, BsonDocument command) {
+        MongoDatabaseFactory factory = mongoDatabaseFactory.getIfAvailable();
+        if (factory == null) {
+            return null;
+        }
+        BsonDocument explained = new BsonDocument();
+        command.forEach((name, value) -> {
+            if (!EXPLAIN_IGNORED_FIELDS.contains(name)) {
+                explained.append(name, value);
+            }
+        });
+        try {
+            Document result = factory.getMongoDatabase(databaseName).runCommand(
+                    new Document(EXPLAIN_COMMAND, explained).append("verbosity", explainVerbosity));
+            result.remove("serverParameters");
+            result.remove("$clusterTime");
+            result.remove("operationTime");
+            return result;
+        } catch (RuntimeException e) {
+            log.debug("Explain of slow {} failed: {}", command.getFirstKey(), e.getMessage());
+            return Map.of("error", String.valueOf(e.getMessage()));
+        }
+    }
+
+    private static String collection(String commandName, BsonDocument command) {
+        BsonValue collection = command.get(commandName);
+        return collection != null && collection.isString() ? collection.asString().getValue() : "";
+    }
+
+    private static String queryDetail(BsonDocument command) {
+        BsonDocument query = new BsonDocument();
+        command.forEach((name, value) -> {
+            if (QUERY_FIELDS.contains(name)) {
+                query.append(name, value);
+            }
+        });
+        String json = query.toJson();
+        return json.length() > MAX_DETAIL_LENGTH ? json.substring(0, MAX_DETAIL_LENGTH) + "..." : json;
+    }
+}
@@ -0,0 +1,50 @@
+package com.moviecat.diagnostics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * A MongoDB command or HTTP request that took longer than its slow-operation threshold.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlowOperation {
+
+    public enum Type {
+        MONGO_COMMAND,
+        HTTP_REQUEST
+    }
+
+    private Type type;
+    private Instant timestamp;
+    private Long durationMillis;
+
+    /**
+     * Command name and collection ("find movies"), or method and route ("GET /api/catalog").
+     */
+    private String name;
+
+    /**
+     * Command filter/sort/pipeline, or the request query string; truncated.
+     */
+    private String detail;
+
+    /**
+     * Response status for requests, "failed" for Mongo commands that returned an error.
+     */
+    private String outcome;
+
+    private String traceId;
+
+    /**
+     * {@code explain} output for slow queries (queryPlanner by default), when captured.
+     */
+    private Map<String, Object> explain;
+}
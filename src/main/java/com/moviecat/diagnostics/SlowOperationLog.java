@@ -0,0 +1,74 @@
+package com.moviecat.diagnostics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Bounded, in-memory ring buffer of the most recent slow operations, exposed through the
+ * {@code slowoperations} Actuator endpoint. The oldest entry is evicted once
+ * {@code diagnostics.slow-operations.capacity} is reached.
+ */
+@Slf4j
+@Component
+public class SlowOperationLog {
+
+    static final String SLOW_OPERATION_COUNTER = "moviecat.slow.operations";
+
+    private final Deque<SlowOperation> operations = new ArrayDeque<>();
+    private final int capacity;
+    private final MeterRegistry meterRegistry;
+
+    public SlowOperationLog(@Value("${diagnostics.slow-operations.capacity:200}") int capacity,
+                            MeterRegistry meterRegistry) {
+        this.capacity = Math.max(1, capacity);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Record a slow operation, evicting the oldest one when full.
+     *
+     * @param operation slow operation
+     */
+    public void add(SlowOperation operation) {
+        log.warn("Slow {} ({} ms): {} {}", operation.getType(), operation.getDurationMillis(),
+                operation.getName(), operation.getDetail() != null ? operation.getDetail() : "");
+        Counter.builder(SLOW_OPERATION_COUNTER)
+                .description("Operations slower than their slow-operation threshold")
+                .tag("type", operation.getType().name().toLowerCase())
+                .register(meterRegistry)
+                .increment();
+        synchronized (operations) {
+            if (operations.size() == capacity) {
+                operations.removeFirst();
+            }
+            operations.addLast(operation);
+        }
+    }
+
+    /**
+     * @return recorded slow operations, most recent first
+     */
+    public List<SlowOperation> recent() {
+        synchronized (operations) {
+            List<SlowOperation> recent = new ArrayList<>(operations);
+            return recent.reversed();
+        }
+    }
+
+    /**
+     * Remove all recorded slow operations.
+     */
+    public void clear() {
+        synchronized (operations) {
+            operations.clear();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.moviecat.diagnostics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint ({@code /actuator/slowoperations}) listing recent slow MongoDB commands and
+ * HTTP requests, with explain plans for slow queries. DELETE clears the list.
+ */
+@Component
+@Endpoint(id = "slowoperations")
+@RequiredArgsConstructor
+public class SlowOperationsEndpoint {
+
+    private final SlowOperationLog slowOperationLog;
+
+    @ReadOperation
+    public List<SlowOperation> slowOperations() {
+        return slowOperationLog.recent();
+    }
+
+    @DeleteOperation
+    public void clear() {
+        slowOperationLog.clear();
+    }
+}
@@ -0,0 +1,123 @@
+package com.moviecat.diagnostics;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records HTTP requests slower than {@code diagnostics.slow-operations.request-threshold} in the
+ * {@link SlowOperationLog}. Streaming and reactive responses are measured until the async request
+ * completes, not until the handler returns. Server-Sent Events streams (e.g. {@code /api/notifications/stream})
+ * stay open for minutes by design and are not measured.
+ */
+@Component
+public class SlowRequestFilter extends OncePerRequestFilter {
+
+    private static final int MAX_DETAIL_LENGTH = 2000;
+
+    private final SlowOperationLog slowOperationLog;
+    private final Duration threshold;
+
+    public SlowRequestFilter(SlowOperationLog slowOperationLog,
+                             @Value("${diagnostics.slow-operations.request-threshold:500ms}") Duration threshold) {
+        this.slowOperationLog = slowOperationLog;
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (request.getRequestURI().startsWith("/actuator")) {
+            return true;
+        }
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        String traceId = MDC.get("traceId");
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        check(request, response, start, traceId);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                check(request, response, start, traceId);
+            }
+        }
+    }
+
+    private void check(HttpServletRequest request, HttpServletResponse response, long start, String traceId) {
+        long elapsedNanos = System.nanoTime() - start;
+        if (elapsedNanos < threshold.toNanos() || isEventStream(response)) {
+            return;
+        }
+        slowOperationLog.add(SlowOperation.builder()
+                .type(SlowOperation.Type.HTTP_REQUEST)
+                .timestamp(Instant.now())
+                .durationMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                .name(request.getMethod() + " " + route(request))
+                .detail(truncate(request.getQueryString()))
+                .outcome(String.valueOf(response.getStatus()))
+                .traceId(traceId)
+                .build());
+    }
+
+    /**
+     * Event streams requested without an SSE Accept header (e.g. accepting any type) are recognized by
+     * their response type.
+     */
+    private static boolean isEventStream(HttpServletResponse response) {
+        String contentType = response.getContentType();
+        return contentType != null && contentType.startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
+    /**
+     * Matched route template (e.g. /api/movies/{id}) so IDs do not fragment the log, or the raw URI.
+     */
+    private static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+
+    private static String truncate(String value) {
+        if (value == null || value.length() <= MAX_DETAIL_LENGTH) {
+            return value;
+        }
+        return value.substring(0, MAX_DETAIL_LENGTH) + "...";
+    }
+}
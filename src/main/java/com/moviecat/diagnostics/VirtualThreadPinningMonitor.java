@@ -0,0 +1,74 @@
+package com.moviecat.diagnostics;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Logs virtual threads that stay pinned to their carrier thread, e.g. while blocking inside a
+ * {@code synchronized} block or a native frame, using the JFR {@code jdk.VirtualThreadPinned} event.
+ * Only active when virtual threads are enabled ({@code spring.threads.virtual.enabled=true}).
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_FRAMES = 12;
+
+    @Value("${virtual-threads.pinning.threshold:20ms}")
+    private Duration threshold;
+
+    private RecordingStream recordingStream;
+
+    @Override
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::logPinnedThread);
+        recordingStream.startAsync();
+        log.info("Virtual thread pinning monitor started (threshold: {} ms)", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    private void logPinnedThread(RecordedEvent event) {
+        String thread = event.getThread() != null ? event.getThread().getJavaName() : "unknown";
+        log.warn("Virtual thread {} pinned to its carrier for {} ms at:\n{}",
+                thread, event.getDuration().toMillis(), formatStackTrace(event));
+    }
+
+    private static String formatStackTrace(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "\t<no stack trace>";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.stream()
+                .limit(MAX_FRAMES)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + (frame.getLineNumber() > 0 ? ":" + frame.getLineNumber() : ""))
+                .collect(Collectors.joining("\n"));
+    }
+}
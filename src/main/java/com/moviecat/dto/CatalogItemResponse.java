@@ -1,8 +1,10 @@
 package com.moviecat.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.moviecat.model.ContentType;
 import com.moviecat.model.Season;
 import com.moviecat.model.WatchStatus;
+import com.moviecat.util.FieldSelection;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -18,6 +20,7 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonFilter(FieldSelection.FILTER_ID)
 public class CatalogItemResponse {
     
     private String id;
@@ -1,5 +1,6 @@
 package com.moviecat.dto;
 
+import com.moviecat.model.ImageStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -50,4 +51,9 @@ public class ImageResponse {
      * URL to access the image.
      */
     private String imageUrl;
+    
+    /**
+     * PENDING while the file is still being downloaded, READY once it can be fetched, or FAILED.
+     */
+    private ImageStatus status;
 }
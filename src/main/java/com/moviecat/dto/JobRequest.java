@@ -0,0 +1,25 @@
+package com.moviecat.dto;
+
+import com.moviecat.model.JobType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Request DTO for submitting a background job.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobRequest {
+    
+    private JobType type;
+    
+    @Builder.Default
+    private Map<String, String> params = new HashMap<>();
+}
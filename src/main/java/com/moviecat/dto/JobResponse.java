@@ -0,0 +1,38 @@
+package com.moviecat.dto;
+
+import com.moviecat.model.JobStatus;
+import com.moviecat.model.JobType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Response DTO for background job status and progress.
+ * {@code processed} counts the items done so far out of {@code total} (null until the job is planned).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobResponse {
+    
+    private String id;
+    private JobType type;
+    private JobStatus status;
+    private Map<String, String> params;
+    private Integer total;
+    private Integer processed;
+    private Integer succeeded;
+    private Integer failed;
+    private Integer updated;
+    private Integer attempts;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private LocalDateTime nextAttemptAt;
+}
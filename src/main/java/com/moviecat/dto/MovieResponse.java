@@ -1,6 +1,8 @@
 package com.moviecat.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.moviecat.model.WatchStatus;
+import com.moviecat.util.FieldSelection;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -16,6 +18,7 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonFilter(FieldSelection.FILTER_ID)
 public class MovieResponse {
     
     private String id;
@@ -0,0 +1,26 @@
+package com.moviecat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Change pushed to notification stream subscribers.
+ * {@code notification} is set for {@link Type#CREATED}; dismissals only carry the id.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationEvent {
+
+    private Type type;
+    private String id;
+    private NotificationResponse notification;
+
+    public enum Type {
+        CREATED,
+        DISMISSED
+    }
+}
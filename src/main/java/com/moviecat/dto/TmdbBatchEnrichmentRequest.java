@@ -0,0 +1,37 @@
+package com.moviecat.dto;
+
+import com.moviecat.model.ContentType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request to enrich a list of movies or series from TMDB in one call.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TmdbBatchEnrichmentRequest {
+    
+    /**
+     * MOVIE or SERIES; applies to all items.
+     */
+    private ContentType contentType;
+    
+    /**
+     * Items to enrich, each by title or TMDB ID.
+     */
+    @Builder.Default
+    private List<TmdbEnrichmentRequest> items = new ArrayList<>();
+    
+    /**
+     * ID of an earlier batch with the same items to resume (optional).
+     * Items that already succeeded are returned from the stored results instead of being enriched again.
+     */
+    private String batchId;
+}
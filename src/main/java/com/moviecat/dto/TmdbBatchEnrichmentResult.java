@@ -0,0 +1,41 @@
+package com.moviecat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one item of a batch enrichment, streamed as soon as the item is done.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TmdbBatchEnrichmentResult {
+    
+    /**
+     * Position of the item in the request.
+     */
+    private int index;
+    
+    /**
+     * Title given in the request.
+     */
+    private String title;
+    
+    /**
+     * TMDB ID given in the request.
+     */
+    private Integer tmdbId;
+    
+    /**
+     * Enriched metadata (null if the item failed).
+     */
+    private TmdbEnrichmentResponse enrichment;
+    
+    /**
+     * Why the item failed (null if it succeeded).
+     */
+    private String error;
+}
@@ -65,7 +65,7 @@ public class TmdbEnrichmentResponse {
     private String overview;
     
     /**
-     * IMDB ID if available (movies only).
+     * IMDB ID if available.
      */
     private String imdbId;
 }
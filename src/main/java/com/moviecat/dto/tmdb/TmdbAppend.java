@@ -0,0 +1,24 @@
+package com.moviecat.dto.tmdb;
+
+/**
+ * Sub-resources TMDB can embed in a movie or series details response via {@code append_to_response},
+ * saving one HTTP call (and one rate-limit slot) each.
+ */
+public enum TmdbAppend {
+    
+    EXTERNAL_IDS("external_ids"),
+    IMAGES("images");
+    
+    private final String parameter;
+    
+    TmdbAppend(String parameter) {
+        this.parameter = parameter;
+    }
+    
+    /**
+     * @return value to list in the {@code append_to_response} query parameter
+     */
+    public String getParameter() {
+        return parameter;
+    }
+}
@@ -0,0 +1,23 @@
+package com.moviecat.dto.tmdb;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One changed item in a TMDB changes list (/tv/changes, /movie/changes).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TmdbChange {
+    
+    @JsonProperty("id")
+    private Integer id;
+    
+    @JsonProperty("adult")
+    private Boolean adult;
+}
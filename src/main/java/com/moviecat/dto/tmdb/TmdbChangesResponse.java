@@ -0,0 +1,33 @@
+package com.moviecat.dto.tmdb;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One page of a TMDB changes list: IDs of items changed within a date window.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TmdbChangesResponse {
+    
+    @JsonProperty("page")
+    private Integer page;
+    
+    @JsonProperty("results")
+    @Builder.Default
+    private List<TmdbChange> results = new ArrayList<>();
+    
+    @JsonProperty("total_results")
+    private Integer totalResults;
+    
+    @JsonProperty("total_pages")
+    private Integer totalPages;
+}
@@ -0,0 +1,32 @@
+package com.moviecat.dto.tmdb;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * TMDB episode summary, as embedded in series details (e.g. next_episode_to_air).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TmdbEpisode {
+    
+    @JsonProperty("id")
+    private Integer id;
+    
+    @JsonProperty("name")
+    private String name;
+    
+    @JsonProperty("air_date")
+    private String airDate;
+    
+    @JsonProperty("season_number")
+    private Integer seasonNumber;
+    
+    @JsonProperty("episode_number")
+    private Integer episodeNumber;
+}
@@ -0,0 +1,39 @@
+package com.moviecat.dto.tmdb;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One line of a TMDB daily ID export (movie_ids_MM_DD_YYYY.json.gz, tv_series_ids_MM_DD_YYYY.json.gz).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TmdbExportEntry {
+    
+    @JsonProperty("id")
+    private Integer id;
+    
+    @JsonProperty("original_title")
+    private String originalTitle; // For movies
+    
+    @JsonProperty("original_name")
+    private String originalName; // For TV series
+    
+    @JsonProperty("popularity")
+    private Double popularity;
+    
+    @JsonProperty("adult")
+    private Boolean adult;
+    
+    /**
+     * Get display title (handles both movies and series).
+     */
+    public String getDisplayTitle() {
+        return originalTitle != null ? originalTitle : originalName;
+    }
+}
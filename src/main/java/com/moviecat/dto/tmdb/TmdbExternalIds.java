@@ -0,0 +1,26 @@
+package com.moviecat.dto.tmdb;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * IDs of a movie or series in other databases ({@code external_ids}).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TmdbExternalIds {
+    
+    @JsonProperty("imdb_id")
+    private String imdbId;
+    
+    @JsonProperty("tvdb_id")
+    private Integer tvdbId;
+    
+    @JsonProperty("wikidata_id")
+    private String wikidataId;
+}
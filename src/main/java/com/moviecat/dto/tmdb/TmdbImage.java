@@ -0,0 +1,32 @@
+package com.moviecat.dto.tmdb;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Single poster or backdrop from TMDB.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TmdbImage {
+    
+    @JsonProperty("file_path")
+    private String filePath;
+    
+    @JsonProperty("iso_639_1")
+    private String language; // null for images without text
+    
+    @JsonProperty("width")
+    private Integer width;
+    
+    @JsonProperty("height")
+    private Integer height;
+    
+    @JsonProperty("vote_average")
+    private Double voteAverage;
+}
@@ -0,0 +1,43 @@
+package com.moviecat.dto.tmdb;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Posters and backdrops of a movie or series ({@code images}).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TmdbImages {
+    
+    @JsonProperty("posters")
+    @Builder.Default
+    private List<TmdbImage> posters = new ArrayList<>();
+    
+    @JsonProperty("backdrops")
+    @Builder.Default
+    private List<TmdbImage> backdrops = new ArrayList<>();
+    
+    /**
+     * Get the path of the highest-rated poster, or null if there are none.
+     */
+    public String bestPosterPath() {
+        if (posters == null) {
+            return null;
+        }
+        return posters.stream()
+                .filter(poster -> poster.getFilePath() != null)
+                .max(Comparator.comparing(TmdbImage::getVoteAverage, Comparator.nullsFirst(Double::compareTo)))
+                .map(TmdbImage::getFilePath)
+                .orElse(null);
+    }
+}
@@ -57,4 +57,10 @@ public class TmdbMovieDetails {
     
     @JsonProperty("status")
     private String status;
+    
+    @JsonProperty("external_ids")
+    private TmdbExternalIds externalIds; // Only with append_to_response=external_ids
+    
+    @JsonProperty("images")
+    private TmdbImages images; // Only with append_to_response=images
 }
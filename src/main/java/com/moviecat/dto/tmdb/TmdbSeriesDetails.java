@@ -67,4 +67,13 @@ public class TmdbSeriesDetails {
     
     @JsonProperty("in_production")
     private Boolean inProduction;
+    
+    @JsonProperty("next_episode_to_air")
+    private TmdbEpisode nextEpisodeToAir;
+    
+    @JsonProperty("external_ids")
+    private TmdbExternalIds externalIds; // Only with append_to_response=external_ids
+    
+    @JsonProperty("images")
+    private TmdbImages images; // Only with append_to_response=images
 }
@@ -0,0 +1,25 @@
+package com.moviecat.jobs;
+
+import com.moviecat.model.ContentType;
+
+/**
+ * Job item key of a movie or series, {@code MOVIE:<id>} or {@code SERIES:<id>}.
+ */
+record CatalogItemKey(ContentType type, String id) {
+
+    static CatalogItemKey parse(String key) {
+        int separator = key.indexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid catalog item key: " + key);
+        }
+        return new CatalogItemKey(ContentType.valueOf(key.substring(0, separator)), key.substring(separator + 1));
+    }
+
+    static String movie(String id) {
+        return ContentType.MOVIE + ":" + id;
+    }
+
+    static String series(String id) {
+        return ContentType.SERIES + ":" + id;
+    }
+}
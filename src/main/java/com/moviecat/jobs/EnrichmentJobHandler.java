@@ -0,0 +1,129 @@
+package com.moviecat.jobs;
+
+import com.moviecat.dto.TmdbEnrichmentRequest;
+import com.moviecat.dto.TmdbEnrichmentResponse;
+import com.moviecat.exception.ResourceNotFoundException;
+import com.moviecat.model.Job;
+import com.moviecat.model.JobType;
+import com.moviecat.model.Movie;
+import com.moviecat.model.Series;
+import com.moviecat.repository.MovieRepository;
+import com.moviecat.repository.SeriesRepository;
+import com.moviecat.service.TmdbEnrichmentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fills in missing metadata of movies and series that have a TMDB ID, one movie or series per item:
+ * genres, movie length and the cover image (downloaded to local image storage). Fields that are
+ * already set are left alone.
+ */
+@Component
+@RequiredArgsConstructor
+class EnrichmentJobHandler implements JobHandler {
+
+    private final MovieRepository movieRepository;
+    private final SeriesRepository seriesRepository;
+    private final TmdbEnrichmentService tmdbEnrichmentService;
+
+    @Override
+    public JobType type() {
+        return JobType.ENRICHMENT;
+    }
+
+    @Override
+    public List<String> plan(Job job) {
+        List<String> items = new ArrayList<>();
+        movieRepository.findProjected(incomplete(Criteria.where("length").is(null)), List.of("id"))
+                .forEach(movie -> items.add(CatalogItemKey.movie(movie.getId())));
+        seriesRepository.findProjected(incomplete(), List.of("id"))
+                .forEach(series -> items.add(CatalogItemKey.series(series.getId())));
+        return items;
+    }
+
+    @Override
+    public boolean process(Job job, String item) {
+        CatalogItemKey key = CatalogItemKey.parse(item);
+        return switch (key.type()) {
+            case MOVIE -> enrichMovie(movieRepository.findById(key.id())
+                    .orElseThrow(() -> new ResourceNotFoundException("Movie", key.id())));
+            case SERIES -> enrichSeries(seriesRepository.findById(key.id())
+                    .orElseThrow(() -> new ResourceNotFoundException("Series", key.id())));
+        };
+    }
+
+    private boolean enrichMovie(Movie movie) {
+        if (movie.getTmdbId() == null) {
+            return false;
+        }
+        TmdbEnrichmentResponse enrichment = tmdbEnrichmentService.enrichMovie(request(movie.getTmdbId(), movie.getCoverImage()));
+        boolean changed = false;
+        if (isEmpty(movie.getGenres()) && !isEmpty(enrichment.getGenres())) {
+            movie.setGenres(new ArrayList<>(enrichment.getGenres()));
+            changed = true;
+        }
+        if (movie.getLength() == null && enrichment.getLength() != null) {
+            movie.setLength(enrichment.getLength());
+            changed = true;
+        }
+        if (isBlank(movie.getCoverImage()) && enrichment.getSavedImageId() != null) {
+            movie.setCoverImage(enrichment.getSavedImageId());
+            changed = true;
+        }
+        if (changed) {
+            movieRepository.save(movie);
+        }
+        return changed;
+    }
+
+    private boolean enrichSeries(Series series) {
+        if (series.getTmdbId() == null) {
+            return false;
+        }
+        TmdbEnrichmentResponse enrichment = tmdbEnrichmentService.enrichSeries(request(series.getTmdbId(), series.getCoverImage()));
+        boolean changed = false;
+        if (isEmpty(series.getGenres()) && !isEmpty(enrichment.getGenres())) {
+            series.setGenres(new ArrayList<>(enrichment.getGenres()));
+            changed = true;
+        }
+        if (isBlank(series.getCoverImage()) && enrichment.getSavedImageId() != null) {
+            series.setCoverImage(enrichment.getSavedImageId());
+            changed = true;
+        }
+        if (changed) {
+            seriesRepository.save(series);
+        }
+        return changed;
+    }
+
+    private static TmdbEnrichmentRequest request(Integer tmdbId, String coverImage) {
+        return TmdbEnrichmentRequest.builder()
+                .tmdbId(tmdbId)
+                .downloadImage(isBlank(coverImage))
+                .build();
+    }
+
+    /**
+     * Items with a TMDB ID that miss genres, a cover image or one of the extra conditions.
+     */
+    private static Criteria incomplete(Criteria... missing) {
+        List<Criteria> anyMissing = new ArrayList<>(List.of(
+                Criteria.where("genres").exists(false),
+                Criteria.where("genres").size(0),
+                Criteria.where("coverImage").in(null, "")));
+        anyMissing.addAll(List.of(missing));
+        return Criteria.where("tmdbId").ne(null).orOperator(anyMissing);
+    }
+
+    private static boolean isEmpty(List<String> values) {
+        return values == null || values.isEmpty();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,84 @@
+package com.moviecat.jobs;
+
+import com.moviecat.dto.ImageDownloadRequest;
+import com.moviecat.exception.ResourceNotFoundException;
+import com.moviecat.model.Job;
+import com.moviecat.model.JobType;
+import com.moviecat.model.Movie;
+import com.moviecat.model.Series;
+import com.moviecat.repository.MovieRepository;
+import com.moviecat.repository.SeriesRepository;
+import com.moviecat.service.ImageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Downloads cover images that are still external URLs into local image storage and points the
+ * movie or series at the stored image, one movie or series per item.
+ */
+@Component
+@RequiredArgsConstructor
+class ImageBackfillJobHandler implements JobHandler {
+
+    private static final String EXTERNAL_URL = "^https?://";
+
+    private final MovieRepository movieRepository;
+    private final SeriesRepository seriesRepository;
+    private final ImageService imageService;
+
+    @Override
+    public JobType type() {
+        return JobType.IMAGE_BACKFILL;
+    }
+
+    @Override
+    public List<String> plan(Job job) {
+        Criteria externalCover = Criteria.where("coverImage").regex(EXTERNAL_URL);
+        List<String> items = new ArrayList<>();
+        movieRepository.findProjected(externalCover, List.of("id")).forEach(movie -> items.add(CatalogItemKey.movie(movie.getId())));
+        seriesRepository.findProjected(externalCover, List.of("id")).forEach(series -> items.add(CatalogItemKey.series(series.getId())));
+        return items;
+    }
+
+    @Override
+    public boolean process(Job job, String item) throws IOException {
+        CatalogItemKey key = CatalogItemKey.parse(item);
+        return switch (key.type()) {
+            case MOVIE -> {
+                Movie movie = movieRepository.findById(key.id())
+                        .orElseThrow(() -> new ResourceNotFoundException("Movie", key.id()));
+                String imageId = storeIfExternal(movie.getCoverImage());
+                if (imageId != null) {
+                    movie.setCoverImage(imageId);
+                    movieRepository.save(movie);
+                }
+                yield imageId != null;
+            }
+            case SERIES -> {
+                Series series = seriesRepository.findById(key.id())
+                        .orElseThrow(() -> new ResourceNotFoundException("Series", key.id()));
+                String imageId = storeIfExternal(series.getCoverImage());
+                if (imageId != null) {
+                    series.setCoverImage(imageId);
+                    seriesRepository.save(series);
+                }
+                yield imageId != null;
+            }
+        };
+    }
+
+    /**
+     * @return ID of the stored image, or null if the cover is no longer an external URL (already processed)
+     */
+    private String storeIfExternal(String coverImage) throws IOException {
+        if (coverImage == null || !coverImage.matches(EXTERNAL_URL + ".*")) {
+            return null;
+        }
+        return imageService.downloadAndSaveImage(ImageDownloadRequest.builder().imageUrl(coverImage).build()).getId();
+    }
+}
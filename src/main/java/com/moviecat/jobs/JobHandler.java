@@ -0,0 +1,45 @@
+package com.moviecat.jobs;
+
+import com.moviecat.model.Job;
+import com.moviecat.model.JobType;
+
+import java.util.List;
+
+/**
+ * Executes one type of background job for the {@link JobWorker}: plans the job's work items once,
+ * then processes them one at a time. Items may be processed more than once (a worker can die after
+ * processing an item but before checkpointing it), so processing must be idempotent.
+ */
+public interface JobHandler {
+
+    /**
+     * @return the job type this handler executes
+     */
+    JobType type();
+
+    /**
+     * Decide the work items of a job, on its first run.
+     *
+     * @param job the job, with its parameters
+     * @return item keys in processing order, e.g. document IDs
+     */
+    List<String> plan(Job job);
+
+    /**
+     * Process one item. An exception marks the item failed; the job goes on with the next one.
+     *
+     * @param job the job
+     * @param item item key
+     * @return whether processing changed something (counted as updated)
+     * @throws Exception if the item failed
+     */
+    boolean process(Job job, String item) throws Exception;
+
+    /**
+     * Called once after the last item, before the job is marked succeeded.
+     *
+     * @param job the job, with its final counters
+     */
+    default void completed(Job job) {
+    }
+}
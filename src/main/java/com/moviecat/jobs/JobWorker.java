@@ -0,0 +1,255 @@
+package com.moviecat.jobs;
+
+import com.moviecat.cluster.ClusterMembership;
+import com.moviecat.model.Job;
+import com.moviecat.model.JobStatus;
+import com.moviecat.model.JobType;
+import com.moviecat.repository.JobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool of {@code jobs.workers} threads that run the jobs in the 'jobs' collection, on every instance.
+ *
+ * Each worker polls every {@code jobs.poll-interval} and leases the oldest runnable job (see
+ * {@link JobRepository#claimNext}). A run plans the job's items through its {@link JobHandler} on the
+ * first attempt, then processes them from the job's cursor, checkpointing the cursor and counters after
+ * every item, which also extends the lease by {@code jobs.lease-ttl}. If the worker dies, the lease
+ * runs out and another worker resumes the job at the cursor.
+ *
+ * Single failed items are counted and skipped. A run fails as a whole when planning fails or
+ * {@code jobs.max-consecutive-failures} items fail in a row (e.g. TMDB is down): the failed streak is
+ * rewound and the job is queued again with exponential backoff ({@code jobs.retry.initial-backoff}
+ * doubling up to {@code jobs.retry.max-backoff}), until {@code jobs.max-attempts} runs have failed.
+ */
+@Slf4j
+@Component
+public class JobWorker implements SmartLifecycle {
+
+    private final JobRepository jobRepository;
+    private final Map<JobType, JobHandler> handlers = new EnumMap<>(JobType.class);
+    private final MeterRegistry meterRegistry;
+    private final String instanceId;
+    private final int workers;
+    private final Duration pollInterval;
+    private final Duration leaseTtl;
+    private final int maxConsecutiveFailures;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    private volatile ScheduledExecutorService executor;
+
+    JobWorker(JobRepository jobRepository,
+              List<JobHandler> handlers,
+              ClusterMembership clusterMembership,
+              MeterRegistry meterRegistry,
+              @Value("${jobs.workers:2}") int workers,
+              @Value("${jobs.poll-interval:2s}") Duration pollInterval,
+              @Value("${jobs.lease-ttl:2m}") Duration leaseTtl,
+              @Value("${jobs.max-consecutive-failures:10}") int maxConsecutiveFailures,
+              @Value("${jobs.retry.initial-backoff:30s}") Duration initialBackoff,
+              @Value("${jobs.retry.max-backoff:30m}") Duration maxBackoff) {
+        this.jobRepository = jobRepository;
+        handlers.forEach(handler -> this.handlers.put(handler.type(), handler));
+        this.meterRegistry = meterRegistry;
+        this.instanceId = clusterMembership.instanceId();
+        this.workers = workers;
+        this.pollInterval = pollInterval;
+        this.leaseTtl = leaseTtl;
+        this.maxConsecutiveFailures = maxConsecutiveFailures;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    @Override
+    public void start() {
+        if (workers <= 0) {
+            log.info("Job workers disabled on this instance");
+            return;
+        }
+        executor = Executors.newScheduledThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "job-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workers; i++) {
+            // Spread the polls of the workers over the interval
+            long initialDelay = ThreadLocalRandom.current().nextLong(pollInterval.toMillis() + 1);
+            executor.scheduleWithFixedDelay(this::drain, initialDelay, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        log.info("Started {} job worker(s)", workers);
+    }
+
+    @Override
+    public void stop() {
+        if (executor != null) {
+            // Interrupted runs put their job back in the queue at the current checkpoint
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executor != null;
+    }
+
+    private void drain() {
+        try {
+            while (!Thread.currentThread().isInterrupted() && runNext()) {
+                // keep going while there are runnable jobs
+            }
+        } catch (RuntimeException e) {
+            log.warn("Job worker poll failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Lease and run the oldest runnable job.
+     *
+     * @return whether a job was run
+     */
+    boolean runNext() {
+        // Unique per run, so a stalled run of this instance cannot write over a later run of the same job
+        String owner = instanceId + "/" + UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        Optional<Job> claimed = jobRepository.claimNext(owner, now, now.plus(leaseTtl));
+        if (claimed.isEmpty()) {
+            return false;
+        }
+        run(claimed.get(), owner);
+        return true;
+    }
+
+    private void run(Job job, String owner) {
+        JobHandler handler = handlers.get(job.getType());
+        if (handler == null) {
+            jobRepository.finish(job.getId(), owner, JobStatus.FAILED, "No handler for job type " + job.getType());
+            return;
+        }
+        if (job.getMaxAttempts() != null && job.getAttempts() > job.getMaxAttempts()) {
+            // Runs that died without failing properly (e.g. the instance crashed every time)
+            jobRepository.finish(job.getId(), owner, JobStatus.FAILED, "Gave up after " + job.getMaxAttempts() + " attempts");
+            return;
+        }
+        log.info("Running {} job {} (attempt {}, from item {})", job.getType(), job.getId(), job.getAttempts(), job.getCursor());
+
+        try {
+            if (job.getItems() == null) {
+                List<String> items = handler.plan(job);
+                if (!jobRepository.plan(job.getId(), owner, items)) {
+                    log.info("Job {} was cancelled or taken over while planning", job.getId());
+                    return;
+                }
+                job.setItems(items);
+                job.setTotal(items.size());
+            }
+            if (processItems(job, owner, handler)) {
+                handler.completed(job);
+                jobRepository.finish(job.getId(), owner, JobStatus.SUCCEEDED, job.getLastError());
+                log.info("Job {} succeeded. Total: {}, Succeeded: {}, Failed: {}, Updated: {}",
+                        job.getId(), job.getTotal(), job.getSucceeded(), job.getFailed(), job.getUpdated());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            jobRepository.requeue(job.getId(), owner, LocalDateTime.now(), "Worker stopped");
+        } catch (Exception e) {
+            fail(job, owner, e.getMessage());
+        }
+    }
+
+    /**
+     * @return whether all items were processed; false if the lease was lost
+     * @throws JobRunException if too many items failed in a row
+     */
+    private boolean processItems(Job job, String owner, JobHandler handler) throws InterruptedException {
+        List<String> items = job.getItems();
+        int consecutiveFailures = 0;
+        for (int cursor = job.getCursor(); cursor < items.size(); cursor++) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedException();
+            }
+            String item = items.get(cursor);
+            boolean succeeded = false;
+            boolean updated = false;
+            try {
+                updated = handler.process(job, item);
+                succeeded = true;
+                consecutiveFailures = 0;
+            } catch (Exception e) {
+                log.warn("Job {} item {} failed: {}", job.getId(), item, e.getMessage());
+                job.setLastError(item + ": " + e.getMessage());
+                consecutiveFailures++;
+            }
+            count(job.getType(), succeeded ? (updated ? "updated" : "unchanged") : "failed");
+
+            int next = cursor + 1;
+            int failedStreak = consecutiveFailures >= maxConsecutiveFailures ? consecutiveFailures : 0;
+            // A failed streak is rewound, so its items are retried with the next attempt
+            int checkpoint = next - failedStreak;
+            int failedDelta = succeeded ? 0 : 1 - failedStreak;
+            if (!jobRepository.checkpoint(job.getId(), owner, checkpoint, succeeded ? 1 : 0, failedDelta,
+                    updated ? 1 : 0, LocalDateTime.now().plus(leaseTtl))) {
+                log.info("Job {} was cancelled or taken over, stopping at item {}", job.getId(), next);
+                return false;
+            }
+            job.setCursor(checkpoint);
+            job.setSucceeded(job.getSucceeded() + (succeeded ? 1 : 0));
+            job.setFailed(job.getFailed() + failedDelta);
+            job.setUpdated(job.getUpdated() + (updated ? 1 : 0));
+            if (failedStreak > 0) {
+                throw new JobRunException(failedStreak + " items failed in a row, last: " + job.getLastError());
+            }
+        }
+        return true;
+    }
+
+    private void fail(Job job, String owner, String error) {
+        int attempts = job.getAttempts();
+        if (job.getMaxAttempts() != null && attempts >= job.getMaxAttempts()) {
+            log.error("Job {} failed for good after {} attempts: {}", job.getId(), attempts, error);
+            jobRepository.finish(job.getId(), owner, JobStatus.FAILED, error);
+            return;
+        }
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        if (backoff.compareTo(maxBackoff) > 0) {
+            backoff = maxBackoff;
+        }
+        log.warn("Job {} attempt {} failed, retrying in {}: {}", job.getId(), attempts, backoff, error);
+        jobRepository.requeue(job.getId(), owner, LocalDateTime.now().plus(backoff), error);
+    }
+
+    private void count(JobType type, String outcome) {
+        Counter.builder("moviecat.jobs.items")
+                .description("Job items processed")
+                .tag("type", type.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * A job run failed as a whole and should be retried later.
+     */
+    static class JobRunException extends RuntimeException {
+        JobRunException(String message) {
+            super(message);
+        }
+    }
+}
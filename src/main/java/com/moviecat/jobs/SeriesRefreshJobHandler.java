@@ -0,0 +1,58 @@
+package com.moviecat.jobs;
+
+import com.moviecat.model.Job;
+import com.moviecat.model.JobType;
+import com.moviecat.service.SeriesService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Refreshes the seasons of series from TMDB, one series per item.
+ * With {@code changedOnly=true} only the series TMDB lists as changed since the last successful
+ * changed-only refresh are planned; the window advances when such a job finishes without failed items.
+ */
+@Component
+@RequiredArgsConstructor
+class SeriesRefreshJobHandler implements JobHandler {
+
+    static final String CHANGED_ONLY = "changedOnly";
+
+    private final SeriesService seriesService;
+
+    @Override
+    public JobType type() {
+        return JobType.SERIES_REFRESH;
+    }
+
+    @Override
+    public List<String> plan(Job job) {
+        return changedOnly(job)
+                ? seriesService.findSeriesIdsToRefreshForChanges(windowEnd(job))
+                : seriesService.findSeriesIdsWithTmdbId();
+    }
+
+    @Override
+    public boolean process(Job job, String seriesId) {
+        return Boolean.TRUE.equals(seriesService.refreshSeasons(seriesId).getHasNewSeasons());
+    }
+
+    @Override
+    public void completed(Job job) {
+        if (changedOnly(job) && job.getFailed() == 0) {
+            seriesService.recordChangesRefreshed(windowEnd(job));
+        }
+    }
+
+    private static boolean changedOnly(Job job) {
+        return Boolean.parseBoolean(job.getParams().get(CHANGED_ONLY));
+    }
+
+    // Fixed per job, so a retried plan asks TMDB for the same window
+    private static Instant windowEnd(Job job) {
+        return job.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
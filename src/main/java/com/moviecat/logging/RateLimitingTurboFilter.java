@@ -0,0 +1,98 @@
+package com.moviecat.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logback turbo filter that caps how often the same log statement is written.
+ *
+ * Events are grouped by message pattern (the format string, not the formatted message), so a statement
+ * that fires for every request or every series of a bulk refresh is written at most
+ * {@code maxPerSecond} times per second. Events above {@code maxLevel} (by default ERROR) are never
+ * dropped, and events the logger would not write anyway are left to the normal level check.
+ *
+ * Configured in {@code logback-spring.xml}.
+ */
+public class RateLimitingTurboFilter extends TurboFilter {
+
+    /**
+     * Upper bound on tracked patterns; the table is reset when exceeded, which can only
+     * happen if a caller builds format strings dynamically.
+     */
+    private static final int MAX_TRACKED_PATTERNS = 10_000;
+
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    private int maxPerSecond = 100;
+    private Level maxLevel = Level.WARN;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isXxxEnabled() checks pass a null format; getEffectiveLevel() avoids re-entering the turbo filters
+        if (!isStarted() || format == null || level.levelInt > maxLevel.levelInt
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        if (windows.size() > MAX_TRACKED_PATTERNS) {
+            windows.clear();
+        }
+        Window window = windows.computeIfAbsent(format, key -> new Window());
+        if (window.tryAcquire(System.currentTimeMillis() / 1000, maxPerSecond)) {
+            return FilterReply.NEUTRAL;
+        }
+        suppressed.incrementAndGet();
+        return FilterReply.DENY;
+    }
+
+    /**
+     * Number of events dropped since startup.
+     */
+    public long getSuppressedCount() {
+        return suppressed.get();
+    }
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    /**
+     * Highest level that is rate limited, e.g. {@code INFO} or {@code WARN}.
+     */
+    public void setMaxLevel(String maxLevel) {
+        this.maxLevel = Level.toLevel(maxLevel, Level.WARN);
+    }
+
+    @Override
+    public void start() {
+        if (maxPerSecond <= 0) {
+            addError("maxPerSecond must be positive, was " + maxPerSecond);
+            return;
+        }
+        super.start();
+    }
+
+    /**
+     * Count of events written for one pattern during the current second.
+     */
+    private static final class Window {
+
+        private long second;
+        private int count;
+
+        synchronized boolean tryAcquire(long now, int limit) {
+            if (now != second) {
+                second = now;
+                count = 0;
+            }
+            return ++count <= limit;
+        }
+    }
+}
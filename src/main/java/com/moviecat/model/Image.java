@@ -51,4 +51,21 @@ public class Image {
      */
     @Builder.Default
     private LocalDateTime uploadedAt = LocalDateTime.now();
+    
+    /**
+     * Download state (null for images saved before downloads were queued, which are ready).
+     */
+    private ImageStatus status;
+    
+    /**
+     * Why the background download failed (FAILED images only).
+     */
+    private String error;
+    
+    /**
+     * @return whether the image file has been stored
+     */
+    public boolean isReady() {
+        return status == null || status == ImageStatus.READY;
+    }
 }
@@ -0,0 +1,17 @@
+package com.moviecat.model;
+
+/**
+ * Enumeration for the state of a stored image. Images saved before downloads were queued have no status
+ * and count as READY.
+ */
+public enum ImageStatus {
+    /**
+     * Reserved; the file is still being downloaded in the background.
+     */
+    PENDING,
+    READY,
+    /**
+     * The background download gave up; the image has no file.
+     */
+    FAILED
+}
@@ -0,0 +1,106 @@
+package com.moviecat.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Entity representing a background job (bulk refresh, enrichment, image backfill) and its progress.
+ * Stored as a document in MongoDB 'jobs' collection, so jobs survive restarts and are shared by all instances.
+ * 
+ * A job is split into items (e.g. series IDs) planned on its first run and processed in order;
+ * {@code cursor} is the checkpoint: items before it are done. A worker holds the job through a lease
+ * ({@code leaseOwner}, {@code leaseExpiresAt}) that it extends with every checkpoint; a job whose lease
+ * expired (crashed worker) is picked up by another worker and resumes at the cursor.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "jobs")
+@CompoundIndex(name = "claim", def = "{'status': 1, 'nextAttemptAt': 1, 'createdAt': 1}")
+public class Job {
+    
+    /**
+     * Unique identifier (MongoDB ObjectId).
+     */
+    @Id
+    private String id;
+    
+    private JobType type;
+    
+    @Builder.Default
+    private JobStatus status = JobStatus.QUEUED;
+    
+    /**
+     * Job-type specific parameters, e.g. changedOnly for series refresh.
+     */
+    @Builder.Default
+    private Map<String, String> params = new HashMap<>();
+    
+    /**
+     * Work items in processing order; null until the job is planned on its first run.
+     */
+    private List<String> items;
+    
+    /**
+     * Number of items, known once planned.
+     */
+    private Integer total;
+    
+    /**
+     * Index of the next item to process; all items before it are done.
+     */
+    @Builder.Default
+    private Integer cursor = 0;
+    
+    @Builder.Default
+    private Integer succeeded = 0;
+    
+    @Builder.Default
+    private Integer failed = 0;
+    
+    /**
+     * Items whose processing changed something (e.g. series with new seasons).
+     */
+    @Builder.Default
+    private Integer updated = 0;
+    
+    /**
+     * Number of runs started so far.
+     */
+    @Builder.Default
+    private Integer attempts = 0;
+    
+    private Integer maxAttempts;
+    
+    /**
+     * Earliest time a queued job may run (later than creation after a failed attempt).
+     */
+    private LocalDateTime nextAttemptAt;
+    
+    /**
+     * Worker instance holding the job while it runs.
+     */
+    private String leaseOwner;
+    
+    private LocalDateTime leaseExpiresAt;
+    
+    private String lastError;
+    
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+    
+    private LocalDateTime startedAt;
+    
+    private LocalDateTime finishedAt;
+}
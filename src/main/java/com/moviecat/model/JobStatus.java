@@ -0,0 +1,25 @@
+package com.moviecat.model;
+
+/**
+ * Enumeration for the lifecycle of a background job.
+ */
+public enum JobStatus {
+    /**
+     * Waiting for a worker, initially or for a retry after a failed attempt.
+     */
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    /**
+     * Gave up after the maximum number of attempts.
+     */
+    FAILED,
+    CANCELLED;
+    
+    /**
+     * @return whether the job will not run again
+     */
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED || this == CANCELLED;
+    }
+}
@@ -0,0 +1,19 @@
+package com.moviecat.model;
+
+/**
+ * Enumeration for kinds of background jobs.
+ */
+public enum JobType {
+    /**
+     * Refresh seasons of series from TMDB (param changedOnly=true: only series TMDB lists as changed).
+     */
+    SERIES_REFRESH,
+    /**
+     * Fill in missing genres, length and cover images of movies and series that have a TMDB ID.
+     */
+    ENRICHMENT,
+    /**
+     * Download cover images that are still external URLs into local image storage.
+     */
+    IMAGE_BACKFILL
+}
@@ -102,6 +102,18 @@ public class Series {
      */
     private LocalDateTime lastSeasonCheck;
     
+    /**
+     * Date when the last season check found new seasons (automatic).
+     */
+    private LocalDateTime lastSeasonChange;
+    
+    /**
+     * Date when the series is next due for a season check (automatic, see SeasonCheckPolicy).
+     * Null until the first check, which makes the series due immediately.
+     */
+    @Indexed
+    private LocalDateTime nextSeasonCheck;
+    
     /**
      * Manual priority for recommendations (optional).
      * Higher values indicate higher priority.
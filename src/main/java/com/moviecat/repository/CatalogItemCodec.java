@@ -0,0 +1,304 @@
+package com.moviecat.repository;
+
+import com.moviecat.dto.CatalogItemResponse;
+import com.moviecat.model.ContentType;
+import com.moviecat.model.Season;
+import com.moviecat.model.WatchStatus;
+import com.mongodb.MongoClientSettings;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.types.ObjectId;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.moviecat.util.TmdbLinkUtil.buildTmdbLink;
+
+/**
+ * Codec that decodes a movie or series document straight into a {@link CatalogItemResponse}.
+ *
+ * The BSON stream is read once, field by field, without building an intermediate {@code Document}
+ * or going through the reflective entity mapping. Values absent from the document fall back to the
+ * same defaults the {@code Movie}/{@code Series} entities use, so the output matches the entity path.
+ * The exception is {@code dateAdded}: a document without one has no meaningful date, and leaving it null
+ * keeps the item where MongoDB's sort put it (missing values first, see {@code CatalogQueries}).
+ *
+ * Encoding writes the stored fields back in the entity layout (derived fields such as the link are
+ * omitted, null values are left out), so an encoded item decodes to an equal one.
+ */
+public class CatalogItemCodec implements Codec<CatalogItemResponse> {
+
+    private static final CodecRegistry MOVIE_CODECS = registryWith(new CatalogItemCodec(ContentType.MOVIE));
+    private static final CodecRegistry SERIES_CODECS = registryWith(new CatalogItemCodec(ContentType.SERIES));
+
+    private final ContentType contentType;
+
+    public CatalogItemCodec(ContentType contentType) {
+        this.contentType = contentType;
+    }
+
+    /**
+     * Codec registry that decodes documents of the given content type as {@link CatalogItemResponse},
+     * backed by the driver defaults for everything else (filters, projections, sorts).
+     */
+    static CodecRegistry registryFor(ContentType contentType) {
+        return contentType == ContentType.MOVIE ? MOVIE_CODECS : SERIES_CODECS;
+    }
+
+    private static CodecRegistry registryWith(CatalogItemCodec codec) {
+        return CodecRegistries.fromRegistries(
+                CodecRegistries.fromCodecs(codec),
+                MongoClientSettings.getDefaultCodecRegistry());
+    }
+
+    @Override
+    public CatalogItemResponse decode(BsonReader reader, DecoderContext decoderContext) {
+        boolean isMovie = contentType == ContentType.MOVIE;
+        CatalogItemResponse item = new CatalogItemResponse();
+        item.setContentType(contentType);
+        item.setGenres(new ArrayList<>());
+        item.setWatchStatus(WatchStatus.UNWATCHED);
+        item.setPriority(0);
+        if (!isMovie) {
+            item.setSeasons(new ArrayList<>());
+            item.setHasNewSeasons(false);
+        }
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            switch (name) {
+                case "_id" -> item.setId(readId(reader));
+                case "title" -> item.setTitle(readString(reader));
+                case "comment" -> item.setComment(readString(reader));
+                case "coverImage" -> item.setCoverImage(readString(reader));
+                case "genres" -> item.setGenres(readStringList(reader));
+                case "watchStatus" -> item.setWatchStatus(readWatchStatus(reader));
+                case "addedBy" -> item.setAddedBy(readString(reader));
+                case "dateAdded" -> item.setDateAdded(readDateTime(reader));
+                case "priority" -> item.setPriority(readInteger(reader));
+                case "tmdbId" -> item.setTmdbId(readInteger(reader));
+                case "length" -> {
+                    if (isMovie) {
+                        item.setLength(readInteger(reader));
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+                case "seasons" -> {
+                    if (isMovie) {
+                        reader.skipValue();
+                    } else {
+                        item.setSeasons(readSeasons(reader));
+                    }
+                }
+                case "hasNewSeasons" -> {
+                    if (isMovie) {
+                        reader.skipValue();
+                    } else {
+                        item.setHasNewSeasons(readBoolean(reader));
+                    }
+                }
+                case "seriesStatus" -> {
+                    if (isMovie) {
+                        reader.skipValue();
+                    } else {
+                        item.setSeriesStatus(readString(reader));
+                    }
+                }
+                case "totalAvailableSeasons" -> {
+                    if (isMovie) {
+                        reader.skipValue();
+                    } else {
+                        item.setTotalAvailableSeasons(readInteger(reader));
+                    }
+                }
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+
+        item.setLink(buildTmdbLink(item.getTmdbId(), isMovie));
+        return item;
+    }
+
+    @Override
+    public void encode(BsonWriter writer, CatalogItemResponse value, EncoderContext encoderContext) {
+        boolean isMovie = contentType == ContentType.MOVIE;
+        writer.writeStartDocument();
+        if (value.getId() != null) {
+            writer.writeName("_id");
+            if (ObjectId.isValid(value.getId())) {
+                writer.writeObjectId(new ObjectId(value.getId()));
+            } else {
+                writer.writeString(value.getId());
+            }
+        }
+        writeString(writer, "title", value.getTitle());
+        writeString(writer, "comment", value.getComment());
+        writeString(writer, "coverImage", value.getCoverImage());
+        if (value.getGenres() != null) {
+            writer.writeStartArray("genres");
+            value.getGenres().forEach(genre -> writeString(writer, genre));
+            writer.writeEndArray();
+        }
+        writeString(writer, "watchStatus", value.getWatchStatus() != null ? value.getWatchStatus().name() : null);
+        writeString(writer, "addedBy", value.getAddedBy());
+        if (value.getDateAdded() != null) {
+            writer.writeDateTime("dateAdded", value.getDateAdded().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+        writeInteger(writer, "priority", value.getPriority());
+        writeInteger(writer, "tmdbId", value.getTmdbId());
+        if (isMovie) {
+            writeInteger(writer, "length", value.getLength());
+        } else {
+            if (value.getSeasons() != null) {
+                writer.writeStartArray("seasons");
+                for (Season season : value.getSeasons()) {
+                    writer.writeStartDocument();
+                    writeInteger(writer, "seasonNumber", season.getSeasonNumber());
+                    writeString(writer, "watchStatus", season.getWatchStatus() != null ? season.getWatchStatus().name() : null);
+                    writer.writeEndDocument();
+                }
+                writer.writeEndArray();
+            }
+            if (value.getHasNewSeasons() != null) {
+                writer.writeBoolean("hasNewSeasons", value.getHasNewSeasons());
+            }
+            writeString(writer, "seriesStatus", value.getSeriesStatus());
+            writeInteger(writer, "totalAvailableSeasons", value.getTotalAvailableSeasons());
+        }
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Class<CatalogItemResponse> getEncoderClass() {
+        return CatalogItemResponse.class;
+    }
+
+    private static void writeString(BsonWriter writer, String name, String value) {
+        if (value != null) {
+            writer.writeString(name, value);
+        }
+    }
+
+    private static void writeString(BsonWriter writer, String value) {
+        if (value != null) {
+            writer.writeString(value);
+        } else {
+            writer.writeNull();
+        }
+    }
+
+    private static void writeInteger(BsonWriter writer, String name, Integer value) {
+        if (value != null) {
+            writer.writeInt32(name, value);
+        }
+    }
+
+    private static String readId(BsonReader reader) {
+        return switch (reader.getCurrentBsonType()) {
+            case OBJECT_ID -> reader.readObjectId().toHexString();
+            case STRING -> reader.readString();
+            default -> {
+                reader.skipValue();
+                yield null;
+            }
+        };
+    }
+
+    private static String readString(BsonReader reader) {
+        if (reader.getCurrentBsonType() != BsonType.STRING) {
+            reader.skipValue();
+            return null;
+        }
+        return reader.readString();
+    }
+
+    private static Integer readInteger(BsonReader reader) {
+        return switch (reader.getCurrentBsonType()) {
+            case INT32 -> reader.readInt32();
+            case INT64 -> (int) reader.readInt64();
+            case DOUBLE -> (int) reader.readDouble();
+            default -> {
+                reader.skipValue();
+                yield null;
+            }
+        };
+    }
+
+    private static Boolean readBoolean(BsonReader reader) {
+        if (reader.getCurrentBsonType() != BsonType.BOOLEAN) {
+            reader.skipValue();
+            return null;
+        }
+        return reader.readBoolean();
+    }
+
+    private static WatchStatus readWatchStatus(BsonReader reader) {
+        String value = readString(reader);
+        return value != null ? WatchStatus.valueOf(value) : null;
+    }
+
+    /**
+     * Read a BSON date the same way Spring Data converts it to {@link LocalDateTime} (system default zone).
+     */
+    private static LocalDateTime readDateTime(BsonReader reader) {
+        if (reader.getCurrentBsonType() != BsonType.DATE_TIME) {
+            reader.skipValue();
+            return null;
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(reader.readDateTime()), ZoneId.systemDefault());
+    }
+
+    private static List<String> readStringList(BsonReader reader) {
+        if (reader.getCurrentBsonType() != BsonType.ARRAY) {
+            reader.skipValue();
+            return null;
+        }
+        List<String> values = new ArrayList<>();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            values.add(readString(reader));
+        }
+        reader.readEndArray();
+        return values;
+    }
+
+    private static List<Season> readSeasons(BsonReader reader) {
+        if (reader.getCurrentBsonType() != BsonType.ARRAY) {
+            reader.skipValue();
+            return null;
+        }
+        List<Season> seasons = new ArrayList<>();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (reader.getCurrentBsonType() != BsonType.DOCUMENT) {
+                reader.skipValue();
+                continue;
+            }
+            Season season = new Season();
+            reader.readStartDocument();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                switch (reader.readName()) {
+                    case "seasonNumber" -> season.setSeasonNumber(readInteger(reader));
+                    case "watchStatus" -> season.setWatchStatus(readWatchStatus(reader));
+                    default -> reader.skipValue();
+                }
+            }
+            reader.readEndDocument();
+            seasons.add(season);
+        }
+        reader.readEndArray();
+        return seasons;
+    }
+}
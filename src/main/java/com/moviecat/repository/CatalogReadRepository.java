@@ -0,0 +1,119 @@
+package com.moviecat.repository;
+
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.moviecat.dto.CatalogItemResponse;
+import com.moviecat.model.ContentType;
+import com.moviecat.model.Movie;
+import com.moviecat.model.Series;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Read-only access to movies and series for catalog listings.
+ *
+ * Documents are decoded by {@link CatalogItemCodec} directly from the driver's BSON stream into
+ * {@link CatalogItemResponse}, skipping the {@code Document} and entity instances the regular
+ * repositories materialize. Filters and projections are still expressed with Spring Data
+ * {@link Criteria} and entity property names, and mapped to the stored field names and values.
+ */
+@Repository
+public class CatalogReadRepository {
+
+    /**
+     * Cursor batch size for streamed reads; bounds how many documents are buffered per round trip.
+     */
+    public static final int STREAM_BATCH_SIZE = 256;
+
+    private final MongoTemplate mongoTemplate;
+
+    public CatalogReadRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Find movies as catalog items.
+     *
+     * @param criteria filter on movie properties (null for all movies)
+     * @param properties movie properties to load (empty for the full document)
+     * @return matching movies
+     */
+    public List<CatalogItemResponse> findMovies(Criteria criteria, Collection<String> properties) {
+        return find(Movie.class, ContentType.MOVIE, criteria, properties);
+    }
+
+    /**
+     * Find series as catalog items.
+     *
+     * @param criteria filter on series properties (null for all series)
+     * @param properties series properties to load (empty for the full document)
+     * @return matching series
+     */
+    public List<CatalogItemResponse> findSeries(Criteria criteria, Collection<String> properties) {
+        return find(Series.class, ContentType.SERIES, criteria, properties);
+    }
+
+    /**
+     * Stream movies as catalog items in the given order, straight from a MongoDB cursor.
+     * The caller must close the stream.
+     *
+     * @param criteria filter on movie properties (null for all movies)
+     * @param properties movie properties to load (empty for the full document)
+     * @param sort sort on movie properties
+     * @return stream of matching movies
+     */
+    public Stream<CatalogItemResponse> streamMovies(Criteria criteria, Collection<String> properties, Sort sort) {
+        return stream(Movie.class, ContentType.MOVIE, criteria, properties, sort);
+    }
+
+    /**
+     * Stream series as catalog items in the given order, straight from a MongoDB cursor.
+     * The caller must close the stream.
+     *
+     * @param criteria filter on series properties (null for all series)
+     * @param properties series properties to load (empty for the full document)
+     * @param sort sort on series properties
+     * @return stream of matching series
+     */
+    public Stream<CatalogItemResponse> streamSeries(Criteria criteria, Collection<String> properties, Sort sort) {
+        return stream(Series.class, ContentType.SERIES, criteria, properties, sort);
+    }
+
+    private List<CatalogItemResponse> find(Class<?> entityClass, ContentType contentType,
+                                           Criteria criteria, Collection<String> properties) {
+        MappedQuery query = MappedQuery.of(mongoTemplate.getConverter(), entityClass, criteria, properties, Sort.unsorted());
+        return mongoTemplate.execute(entityClass, collection -> find(collection, contentType, query)
+                .into(new ArrayList<>()));
+    }
+
+    private Stream<CatalogItemResponse> stream(Class<?> entityClass, ContentType contentType,
+                                               Criteria criteria, Collection<String> properties, Sort sort) {
+        MappedQuery query = MappedQuery.of(mongoTemplate.getConverter(), entityClass, criteria, properties, sort);
+        MongoCursor<CatalogItemResponse> cursor = mongoTemplate.execute(entityClass, collection -> find(collection, contentType, query)
+                .batchSize(STREAM_BATCH_SIZE)
+                .cursor());
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED), false)
+                .onClose(cursor::close);
+    }
+
+    private static FindIterable<CatalogItemResponse> find(MongoCollection<Document> collection,
+                                                          ContentType contentType, MappedQuery query) {
+        return collection.withDocumentClass(CatalogItemResponse.class)
+                .withCodecRegistry(CatalogItemCodec.registryFor(contentType))
+                .find(query.filter())
+                .projection(query.projection())
+                .sort(query.sort());
+    }
+}
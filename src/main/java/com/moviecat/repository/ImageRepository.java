@@ -1,13 +1,18 @@
 package com.moviecat.repository;
 
 import com.moviecat.model.Image;
+import com.moviecat.model.ImageStatus;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * Repository interface for Image entities.
  * Provides CRUD operations for images.
  */
 @Repository
 public interface ImageRepository extends MongoRepository<Image, String> {
+    
+    List<Image> findByStatus(ImageStatus status);
 }
@@ -0,0 +1,14 @@
+package com.moviecat.repository;
+
+import com.moviecat.model.Job;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for background jobs.
+ * Claiming, checkpointing and finishing are conditional updates in {@link JobRepositoryCustom},
+ * so only the worker holding a job's lease can change its progress.
+ */
+@Repository
+public interface JobRepository extends MongoRepository<Job, String>, JobRepositoryCustom {
+}
@@ -0,0 +1,73 @@
+package com.moviecat.repository;
+
+import com.moviecat.model.Job;
+import com.moviecat.model.JobStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Atomic job state transitions that need MongoTemplate find-and-modify and conditional updates.
+ * Every update by a worker is conditioned on the job still being RUNNING under that worker's lease;
+ * a false result means the lease was lost (expired and taken over, or the job was cancelled).
+ */
+public interface JobRepositoryCustom {
+    
+    /**
+     * Lease the oldest runnable job: queued and due, or running under an expired lease (its worker died).
+     * Increments its attempt count.
+     * 
+     * @param owner worker instance ID
+     * @param now current time
+     * @param leaseExpiresAt end of the lease unless extended
+     * @return the claimed job, empty if none is runnable
+     */
+    Optional<Job> claimNext(String owner, LocalDateTime now, LocalDateTime leaseExpiresAt);
+    
+    /**
+     * Store the planned work items of a job on its first run.
+     * 
+     * @return whether the lease is still held
+     */
+    boolean plan(String id, String owner, List<String> items);
+    
+    /**
+     * Record progress: move the cursor, add to the counters and extend the lease.
+     * 
+     * @return whether the lease is still held
+     */
+    boolean checkpoint(String id, String owner, int cursor, int succeeded, int failed, int updated,
+                       LocalDateTime leaseExpiresAt);
+    
+    /**
+     * Finish a job for good (SUCCEEDED or FAILED) and release its lease.
+     * 
+     * @return whether the lease was still held
+     */
+    boolean finish(String id, String owner, JobStatus status, String error);
+    
+    /**
+     * Put a job back in the queue after a failed attempt and release its lease.
+     * 
+     * @return whether the lease was still held
+     */
+    boolean requeue(String id, String owner, LocalDateTime nextAttemptAt, String error);
+    
+    /**
+     * Cancel a job unless it has already finished. A running job stops at its next checkpoint.
+     * 
+     * @return the cancelled job without its items, empty if it does not exist or has already finished
+     */
+    Optional<Job> cancel(String id);
+    
+    /**
+     * Find a job without loading its (possibly long) item list.
+     */
+    Optional<Job> findSummary(String id);
+    
+    /**
+     * Find the most recently created jobs, without their item lists.
+     */
+    List<Job> findRecentSummaries(int limit);
+}
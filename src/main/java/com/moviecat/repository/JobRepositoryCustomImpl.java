@@ -0,0 +1,111 @@
+package com.moviecat.repository;
+
+import com.moviecat.model.Job;
+import com.moviecat.model.JobStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * MongoTemplate-backed implementation of {@link JobRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class JobRepositoryCustomImpl implements JobRepositoryCustom {
+    
+    private final MongoTemplate mongoTemplate;
+    
+    @Override
+    public Optional<Job> claimNext(String owner, LocalDateTime now, LocalDateTime leaseExpiresAt) {
+        Query runnable = Query.query(new Criteria().orOperator(
+                        Criteria.where("status").is(JobStatus.QUEUED).and("nextAttemptAt").lte(now),
+                        Criteria.where("status").is(JobStatus.RUNNING).and("leaseExpiresAt").lt(now)))
+                .with(Sort.by(Sort.Direction.ASC, "createdAt"));
+        Update lease = new Update()
+                .set("status", JobStatus.RUNNING)
+                .set("leaseOwner", owner)
+                .set("leaseExpiresAt", leaseExpiresAt)
+                .min("startedAt", now)
+                .inc("attempts", 1);
+        return Optional.ofNullable(mongoTemplate.findAndModify(runnable, lease,
+                FindAndModifyOptions.options().returnNew(true), Job.class));
+    }
+    
+    @Override
+    public boolean plan(String id, String owner, List<String> items) {
+        return updateHeld(id, owner, new Update().set("items", items).set("total", items.size()));
+    }
+    
+    @Override
+    public boolean checkpoint(String id, String owner, int cursor, int succeeded, int failed, int updated,
+                              LocalDateTime leaseExpiresAt) {
+        return updateHeld(id, owner, new Update()
+                .set("cursor", cursor)
+                .inc("succeeded", succeeded)
+                .inc("failed", failed)
+                .inc("updated", updated)
+                .set("leaseExpiresAt", leaseExpiresAt));
+    }
+    
+    @Override
+    public boolean finish(String id, String owner, JobStatus status, String error) {
+        return updateHeld(id, owner, new Update()
+                .set("status", status)
+                .set("lastError", error)
+                .set("finishedAt", LocalDateTime.now())
+                .unset("leaseOwner")
+                .unset("leaseExpiresAt"));
+    }
+    
+    @Override
+    public boolean requeue(String id, String owner, LocalDateTime nextAttemptAt, String error) {
+        return updateHeld(id, owner, new Update()
+                .set("status", JobStatus.QUEUED)
+                .set("nextAttemptAt", nextAttemptAt)
+                .set("lastError", error)
+                .unset("leaseOwner")
+                .unset("leaseExpiresAt"));
+    }
+    
+    @Override
+    public Optional<Job> cancel(String id) {
+        Query unfinished = Query.query(Criteria.where("_id").is(id)
+                .and("status").in(JobStatus.QUEUED, JobStatus.RUNNING));
+        unfinished.fields().exclude("items");
+        Update cancel = new Update()
+                .set("status", JobStatus.CANCELLED)
+                .set("finishedAt", LocalDateTime.now())
+                .unset("leaseOwner")
+                .unset("leaseExpiresAt");
+        return Optional.ofNullable(mongoTemplate.findAndModify(unfinished, cancel,
+                FindAndModifyOptions.options().returnNew(true), Job.class));
+    }
+    
+    @Override
+    public Optional<Job> findSummary(String id) {
+        Query query = Query.query(Criteria.where("_id").is(id));
+        query.fields().exclude("items");
+        return Optional.ofNullable(mongoTemplate.findOne(query, Job.class));
+    }
+    
+    @Override
+    public List<Job> findRecentSummaries(int limit) {
+        Query query = new Query().with(Sort.by(Sort.Direction.DESC, "createdAt")).limit(limit);
+        query.fields().exclude("items");
+        return mongoTemplate.find(query, Job.class);
+    }
+    
+    private boolean updateHeld(String id, String owner, Update update) {
+        Query held = Query.query(Criteria.where("_id").is(id)
+                .and("status").is(JobStatus.RUNNING)
+                .and("leaseOwner").is(owner));
+        return mongoTemplate.updateFirst(held, update, Job.class).getMatchedCount() == 1;
+    }
+}
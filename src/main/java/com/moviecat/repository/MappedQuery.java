@@ -0,0 +1,42 @@
+package com.moviecat.repository;
+
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Collection;
+
+/**
+ * Filter, projection and sort of a catalog query, mapped from entity property names and values
+ * to the stored document fields, ready to be passed to a raw driver collection.
+ */
+record MappedQuery(Document filter, Document projection, Document sort) {
+
+    /**
+     * Map a query on entity properties.
+     *
+     * @param converter converter holding the mapping metadata
+     * @param entityClass entity the query targets
+     * @param criteria filter criteria (null to match all documents)
+     * @param properties properties to load (empty for the full document)
+     * @param sort sort on entity properties
+     * @return mapped query
+     */
+    static MappedQuery of(MongoConverter converter, Class<?> entityClass, Criteria criteria,
+                          Collection<String> properties, Sort sort) {
+        Query query = criteria != null ? Query.query(criteria) : new Query();
+        properties.forEach(query.fields()::include);
+        query.with(sort);
+
+        QueryMapper queryMapper = new QueryMapper(converter);
+        MongoPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(entityClass);
+        return new MappedQuery(
+                queryMapper.getMappedObject(query.getQueryObject(), entity),
+                queryMapper.getMappedFields(query.getFieldsObject(), entity),
+                queryMapper.getMappedSort(query.getSortObject(), entity));
+    }
+}
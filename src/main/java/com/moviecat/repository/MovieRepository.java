@@ -12,7 +12,7 @@ import java.util.List;
  * Provides CRUD operations and custom query methods for movies.
  */
 @Repository
-public interface MovieRepository extends MongoRepository<Movie, String> {
+public interface MovieRepository extends MongoRepository<Movie, String>, MovieRepositoryCustom {
     
     /**
      * Find movies by title (case-insensitive).
@@ -0,0 +1,35 @@
+package com.moviecat.repository;
+
+import com.moviecat.model.Movie;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Custom query methods for Movie entity that need MongoTemplate features
+ * not expressible as derived queries (field projection).
+ */
+public interface MovieRepositoryCustom {
+    
+    /**
+     * Find movies matching the criteria, loading only the listed properties.
+     * Properties that are not loaded keep their entity defaults.
+     * 
+     * @param criteria filter criteria (null to match all movies)
+     * @param properties entity properties to load (empty to load full documents)
+     * @return list of (partially loaded) movies
+     */
+    List<Movie> findProjected(Criteria criteria, Collection<String> properties);
+    
+    /**
+     * Stream movies matching the criteria from a MongoDB cursor, loading only the listed properties.
+     * Documents are fetched in batches as the stream is consumed; the caller must close the stream.
+     * 
+     * @param criteria filter criteria (null to match all movies)
+     * @param properties entity properties to load (empty to load full documents)
+     * @return stream of (partially loaded) movies
+     */
+    Stream<Movie> streamProjected(Criteria criteria, Collection<String> properties);
+}
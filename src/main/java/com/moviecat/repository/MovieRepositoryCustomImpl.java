@@ -0,0 +1,37 @@
+package com.moviecat.repository;
+
+import com.moviecat.model.Movie;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * MongoTemplate-backed implementation of {@link MovieRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class MovieRepositoryCustomImpl implements MovieRepositoryCustom {
+    
+    private final MongoTemplate mongoTemplate;
+    
+    @Override
+    public List<Movie> findProjected(Criteria criteria, Collection<String> properties) {
+        return mongoTemplate.find(projectedQuery(criteria, properties), Movie.class);
+    }
+    
+    @Override
+    public Stream<Movie> streamProjected(Criteria criteria, Collection<String> properties) {
+        Query query = projectedQuery(criteria, properties).cursorBatchSize(CatalogReadRepository.STREAM_BATCH_SIZE);
+        return mongoTemplate.stream(query, Movie.class);
+    }
+    
+    private static Query projectedQuery(Criteria criteria, Collection<String> properties) {
+        Query query = criteria != null ? Query.query(criteria) : new Query();
+        properties.forEach(query.fields()::include);
+        return query;
+    }
+}
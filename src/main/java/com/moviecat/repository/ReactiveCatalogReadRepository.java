@@ -0,0 +1,65 @@
+package com.moviecat.repository;
+
+import com.moviecat.dto.CatalogItemResponse;
+import com.moviecat.model.ContentType;
+import com.moviecat.model.Movie;
+import com.moviecat.model.Series;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+
+/**
+ * Non-blocking counterpart of {@link CatalogReadRepository}.
+ *
+ * Runs the same mapped queries on the reactive driver and decodes documents with
+ * {@link CatalogItemCodec}; no thread is held while a query is in flight.
+ */
+@Repository
+public class ReactiveCatalogReadRepository {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    public ReactiveCatalogReadRepository(ReactiveMongoTemplate reactiveMongoTemplate) {
+        this.reactiveMongoTemplate = reactiveMongoTemplate;
+    }
+
+    /**
+     * Find movies as catalog items in the given order.
+     *
+     * @param criteria filter on movie properties (null for all movies)
+     * @param properties movie properties to load (empty for the full document)
+     * @param sort sort on movie properties
+     * @return matching movies
+     */
+    public Flux<CatalogItemResponse> findMovies(Criteria criteria, Collection<String> properties, Sort sort) {
+        return find(Movie.class, ContentType.MOVIE, criteria, properties, sort);
+    }
+
+    /**
+     * Find series as catalog items in the given order.
+     *
+     * @param criteria filter on series properties (null for all series)
+     * @param properties series properties to load (empty for the full document)
+     * @param sort sort on series properties
+     * @return matching series
+     */
+    public Flux<CatalogItemResponse> findSeries(Criteria criteria, Collection<String> properties, Sort sort) {
+        return find(Series.class, ContentType.SERIES, criteria, properties, sort);
+    }
+
+    private Flux<CatalogItemResponse> find(Class<?> entityClass, ContentType contentType,
+                                           Criteria criteria, Collection<String> properties, Sort sort) {
+        MappedQuery query = MappedQuery.of(reactiveMongoTemplate.getConverter(), entityClass, criteria, properties, sort);
+        return reactiveMongoTemplate.execute(entityClass, collection -> collection
+                .withDocumentClass(CatalogItemResponse.class)
+                .withCodecRegistry(CatalogItemCodec.registryFor(contentType))
+                .find(query.filter())
+                .projection(query.projection())
+                .sort(query.sort())
+                .batchSize(CatalogReadRepository.STREAM_BATCH_SIZE));
+    }
+}
@@ -0,0 +1,23 @@
+package com.moviecat.repository;
+
+import com.moviecat.model.Movie;
+import com.moviecat.model.WatchStatus;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+/**
+ * Reactive repository interface for Movie entity.
+ * Non-blocking counterpart of {@link MovieRepository} used by the reactive read path.
+ */
+@Repository
+public interface ReactiveMovieRepository extends ReactiveMongoRepository<Movie, String> {
+    
+    /**
+     * Find movies by watch status.
+     * 
+     * @param watchStatus the watch status (WATCHED or UNWATCHED)
+     * @return movies with the specified watch status
+     */
+    Flux<Movie> findByWatchStatus(WatchStatus watchStatus);
+}
@@ -0,0 +1,22 @@
+package com.moviecat.repository;
+
+import com.moviecat.model.Notification;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+/**
+ * Reactive repository interface for Notification entity.
+ * Non-blocking counterpart of {@link NotificationRepository} used by the reactive read path.
+ */
+@Repository
+public interface ReactiveNotificationRepository extends ReactiveMongoRepository<Notification, String> {
+    
+    /**
+     * Find all active (non-dismissed) notifications.
+     * 
+     * @param dismissed false to find active notifications
+     * @return active notifications
+     */
+    Flux<Notification> findByDismissed(Boolean dismissed);
+}
@@ -0,0 +1,23 @@
+package com.moviecat.repository;
+
+import com.moviecat.model.Series;
+import com.moviecat.model.WatchStatus;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+/**
+ * Reactive repository interface for Series entity.
+ * Non-blocking counterpart of {@link SeriesRepository} used by the reactive read path.
+ */
+@Repository
+public interface ReactiveSeriesRepository extends ReactiveMongoRepository<Series, String> {
+    
+    /**
+     * Find series by watch status.
+     * 
+     * @param watchStatus the watch status (WATCHED or UNWATCHED)
+     * @return series with the specified watch status
+     */
+    Flux<Series> findByWatchStatus(WatchStatus watchStatus);
+}
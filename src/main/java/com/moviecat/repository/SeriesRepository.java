@@ -14,7 +14,7 @@ import java.util.List;
  * Provides CRUD operations and custom query methods for TV series.
  */
 @Repository
-public interface SeriesRepository extends MongoRepository<Series, String> {
+public interface SeriesRepository extends MongoRepository<Series, String>, SeriesRepositoryCustom {
     
     /**
      * Find series by title (case-insensitive).
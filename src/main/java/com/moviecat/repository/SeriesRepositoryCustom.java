@@ -0,0 +1,88 @@
+package com.moviecat.repository;
+
+import com.moviecat.model.Series;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Custom query methods for Series entity that need MongoTemplate features
+ * not expressible as derived queries (field projection).
+ */
+public interface SeriesRepositoryCustom {
+    
+    /**
+     * Find series matching the criteria, loading only the listed properties.
+     * Properties that are not loaded keep their entity defaults.
+     * 
+     * @param criteria filter criteria (null to match all series)
+     * @param properties entity properties to load (empty to load full documents)
+     * @return list of (partially loaded) series
+     */
+    List<Series> findProjected(Criteria criteria, Collection<String> properties);
+    
+    /**
+     * Stream series matching the criteria from a MongoDB cursor, loading only the listed properties.
+     * Documents are fetched in batches as the stream is consumed; the caller must close the stream.
+     * 
+     * @param criteria filter criteria (null to match all series)
+     * @param properties entity properties to load (empty to load full documents)
+     * @return stream of (partially loaded) series
+     */
+    Stream<Series> streamProjected(Criteria criteria, Collection<String> properties);
+    
+    /**
+     * Find IDs of series with a TMDB ID that are due for a season check, most overdue first.
+     * Series never checked (no nextSeasonCheck) come first.
+     * 
+     * @param now current time
+     * @param limit maximum number of IDs
+     * @return IDs of due series
+     */
+    List<String> findIdsDueForSeasonCheck(LocalDateTime now, int limit);
+    
+    /**
+     * Set when a series is next due for a season check, without touching the rest of the document.
+     * Like the other check-time-only writes, this leaves cached catalog pages and ETags valid.
+     * 
+     * @param id series ID
+     * @param nextSeasonCheck next check time
+     */
+    void scheduleSeasonCheck(String id, LocalDateTime nextSeasonCheck);
+    
+    /**
+     * Make series due for a season check now, unless they already are.
+     * 
+     * @param ids series IDs
+     * @param now current time
+     * @return number of series that were not due yet
+     */
+    long markDueForSeasonCheck(Collection<String> ids, LocalDateTime now);
+    
+    /**
+     * Write the result of a season check (seasons, TMDB status and check times), unless the series has been
+     * checked again since it was read. Other fields are left as stored.
+     * 
+     * @param series series carrying the check result
+     * @param previousCheck lastSeasonCheck of the series as read before the check (null if never checked)
+     * @return true if written, false if another check got there first
+     */
+    boolean saveSeasonCheck(Series series, LocalDateTime previousCheck);
+    
+    /**
+     * Write only the check times of a season check that changed nothing else, unless the series has been
+     * checked again since it was read. Cached catalog pages and ETags stay valid; series responses show
+     * the previous lastSeasonCheck until the next visible change.
+     * 
+     * @param id series ID
+     * @param previousCheck lastSeasonCheck of the series as read before the check (null if never checked)
+     * @param lastSeasonCheck time of this check
+     * @param nextSeasonCheck next check time
+     * @return true if written, false if another check got there first
+     */
+    boolean recordSeasonCheck(String id, LocalDateTime previousCheck, LocalDateTime lastSeasonCheck,
+                              LocalDateTime nextSeasonCheck);
+}
@@ -0,0 +1,95 @@
+package com.moviecat.repository;
+
+import com.moviecat.model.Series;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * MongoTemplate-backed implementation of {@link SeriesRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class SeriesRepositoryCustomImpl implements SeriesRepositoryCustom {
+    
+    private final MongoTemplate mongoTemplate;
+    
+    @Override
+    public List<Series> findProjected(Criteria criteria, Collection<String> properties) {
+        return mongoTemplate.find(projectedQuery(criteria, properties), Series.class);
+    }
+    
+    @Override
+    public Stream<Series> streamProjected(Criteria criteria, Collection<String> properties) {
+        Query query = projectedQuery(criteria, properties).cursorBatchSize(CatalogReadRepository.STREAM_BATCH_SIZE);
+        return mongoTemplate.stream(query, Series.class);
+    }
+    
+    @Override
+    public List<String> findIdsDueForSeasonCheck(LocalDateTime now, int limit) {
+        Query query = Query.query(Criteria.where("tmdbId").ne(null)
+                        .orOperator(Criteria.where("nextSeasonCheck").lte(now), Criteria.where("nextSeasonCheck").is(null)))
+                .with(Sort.by(Sort.Direction.ASC, "nextSeasonCheck"))
+                .limit(limit);
+        query.fields().include("_id");
+        return mongoTemplate.find(query, Series.class).stream().map(Series::getId).toList();
+    }
+    
+    @Override
+    public void scheduleSeasonCheck(String id, LocalDateTime nextSeasonCheck) {
+        // No version bump, and ChangeStreamWatcher skips updates of only the check times
+        // (change-streams.ignored-fields), so cached catalog pages and ETags stay valid
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(id)),
+                Update.update("nextSeasonCheck", nextSeasonCheck), Series.class);
+    }
+    
+    @Override
+    public long markDueForSeasonCheck(Collection<String> ids, LocalDateTime now) {
+        // Series already due keep their place in the due order
+        return mongoTemplate.updateMulti(Query.query(Criteria.where("_id").in(ids).and("nextSeasonCheck").gt(now)),
+                Update.update("nextSeasonCheck", now), Series.class).getModifiedCount();
+    }
+    
+    @Override
+    public boolean saveSeasonCheck(Series series, LocalDateTime previousCheck) {
+        Query query = checkedAt(series.getId(), previousCheck);
+        Update update = new Update()
+                .set("seasons", series.getSeasons())
+                .set("watchStatus", series.getWatchStatus())
+                .set("totalAvailableSeasons", series.getTotalAvailableSeasons())
+                .set("hasNewSeasons", series.getHasNewSeasons())
+                .set("seriesStatus", series.getSeriesStatus())
+                .set("tmdbId", series.getTmdbId())
+                .set("lastSeasonCheck", series.getLastSeasonCheck())
+                .set("lastSeasonChange", series.getLastSeasonChange())
+                .set("nextSeasonCheck", series.getNextSeasonCheck());
+        return mongoTemplate.updateFirst(query, update, Series.class).getMatchedCount() > 0;
+    }
+    
+    @Override
+    public boolean recordSeasonCheck(String id, LocalDateTime previousCheck, LocalDateTime lastSeasonCheck,
+                                     LocalDateTime nextSeasonCheck) {
+        Update update = new Update()
+                .set("lastSeasonCheck", lastSeasonCheck)
+                .set("nextSeasonCheck", nextSeasonCheck);
+        return mongoTemplate.updateFirst(checkedAt(id, previousCheck), update, Series.class).getMatchedCount() > 0;
+    }
+    
+    private static Query checkedAt(String id, LocalDateTime previousCheck) {
+        // lastSeasonCheck changes on every check, so it serves as the version of the check results
+        return Query.query(Criteria.where("_id").is(id).and("lastSeasonCheck").is(previousCheck));
+    }
+    
+    private static Query projectedQuery(Criteria criteria, Collection<String> properties) {
+        Query query = criteria != null ? Query.query(criteria) : new Query();
+        properties.forEach(query.fields()::include);
+        return query;
+    }
+}
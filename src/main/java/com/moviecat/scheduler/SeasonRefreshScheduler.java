@@ -1,52 +1,129 @@
 package com.moviecat.scheduler;
 
+import com.moviecat.cluster.ClusterMembership;
+import com.moviecat.cluster.Lease;
+import com.moviecat.cluster.LeaseLock;
+import com.moviecat.cluster.Shard;
 import com.moviecat.dto.BulkRefreshResponse;
 import com.moviecat.service.SeriesService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.Optional;
+
 /**
- * Scheduler for automatic weekly refresh of TV series season data.
+ * Scheduler for continuous, staleness-driven refresh of TV series season data.
  * 
- * This scheduler runs every Monday at midnight (configurable via scheduler.cron.season-check property)
- * and refreshes season information for all series that have a TMDB ID configured.
+ * Every series carries the time it is next due for a season check ({@code nextSeasonCheck}), set by
+ * {@link com.moviecat.service.SeasonCheckPolicy} after each check: ended series are checked monthly,
+ * returning ones weekly, recently changed ones every couple of days and series with an upcoming premiere
+ * twice a day. This scheduler ticks every minute (configurable via scheduler.cron.season-check) and
+ * refreshes up to {@code scheduler.season-refresh.batch-size} of the most overdue series, so TMDB load
+ * is spread evenly instead of arriving as one weekly sweep, and new seasons are found sooner.
  * 
  * The refresh process:
  * - Fetches latest season data from TMDB API
  * - Updates season lists and episode counts
  * - Sets hasNewSeasons flag if new seasons detected
  * - Generates notifications for series with watched content and new seasons
+ * - Schedules the series' next check
+ * 
+ * Once a day (scheduler.cron.tmdb-changes) the series TMDB lists in its /tv/changes feed since the previous
+ * day's pass are made due right away, whatever their due time, so changes between due checks are not missed.
+ * They are then refreshed by the due ticks, so only one pass ever refreshes a series.
+ * 
+ * Every instance fires the schedule, but each tick runs under a cluster-wide {@link LeaseLock}, so a due
+ * series is refreshed (and notified about) once however many replicas are up; a holder that stalls past
+ * its lease has its refresh rejected by the conditional write in {@link SeriesService#refreshSeasons}. With
+ * {@code scheduler.season-refresh.sharding=true} the series are split by hash(id) across the live instances
+ * ({@link ClusterMembership}), each shard under its own lock.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SeasonRefreshScheduler {
 
+    static final String LOCK_NAME = "season-refresh";
+    static final String CHANGES_LOCK_NAME = "tmdb-changes";
+
     private final SeriesService seriesService;
+    private final LeaseLock leaseLock;
+    private final ClusterMembership clusterMembership;
+
+    @Value("${scheduler.season-refresh.sharding:false}")
+    private boolean sharding;
+
+    @Value("${scheduler.season-refresh.batch-size:20}")
+    private int batchSize = 20;
+
+    @Value("${scheduler.tmdb-changes.hold-after-completion:1h}")
+    private Duration changesHoldAfterCompletion = Duration.ofHours(1);
 
     /**
-     * Scheduled task to refresh all series with TMDB ID.
+     * Scheduled task to refresh the series that are due for a season check.
      * Runs based on cron expression defined in application.properties (scheduler.cron.season-check).
-     * Default: Every Monday at 00:00:00 (0 0 0 * * MON)
+     * Default: every minute (0 * * * * *)
      */
     @Scheduled(cron = "${scheduler.cron.season-check}")
-    public void refreshAllSeriesSeasons() {
-        log.info("Starting scheduled weekly series refresh");
+    public void refreshDueSeries() {
+        Shard shard = sharding ? clusterMembership.currentShard() : Shard.ALL;
+        String lockName = sharding ? LOCK_NAME + "-" + shard : LOCK_NAME;
+        
+        Optional<Lease> acquired = leaseLock.tryAcquire(lockName);
+        if (acquired.isEmpty()) {
+            log.debug("Skipping season check tick: {} is held by another instance", lockName);
+            return;
+        }
+        
+        try (Lease lease = acquired.get()) {
+            BulkRefreshResponse response = seriesService.refreshDueSeries(shard, batchSize, lease::ensureValid);
+            
+            if (response.getTotalProcessed() > 0) {
+                log.info("Scheduled season checks completed (shard {}, fencing token {}). " +
+                        "Total: {}, Success: {}, Failed: {}, Updated: {}",
+                        shard, lease.fencingToken(),
+                        response.getTotalProcessed(),
+                        response.getSuccessCount(),
+                        response.getFailureCount(),
+                        response.getUpdatedCount());
+            }
+            
+        } catch (Exception e) {
+            log.error("Scheduled season checks failed with error: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Scheduled task to make the series TMDB reports as changed since the previous pass due for a season check.
+     * Runs based on cron expression defined in application.properties (scheduler.cron.tmdb-changes).
+     * Default: daily at 03:00 (0 0 3 * * *)
+     * 
+     * The lock is kept for {@code scheduler.tmdb-changes.hold-after-completion} after the pass, so instances
+     * whose schedule fires a little later do not fetch the same day's changes again.
+     */
+    @Scheduled(cron = "${scheduler.cron.tmdb-changes}")
+    public void refreshChangedSeries() {
+        Optional<Lease> acquired = leaseLock.tryAcquire(CHANGES_LOCK_NAME);
+        if (acquired.isEmpty()) {
+            log.info("Skipping TMDB changes pass: it is running or has just run on another instance");
+            return;
+        }
+        Lease lease = acquired.get();
         
         try {
-            BulkRefreshResponse response = seriesService.refreshAllSeriesWithTmdbId();
+            long scheduled = seriesService.scheduleChangedSeries();
             
-            log.info("Scheduled series refresh completed successfully. " +
-                    "Total: {}, Success: {}, Failed: {}, Updated: {}",
-                    response.getTotalProcessed(),
-                    response.getSuccessCount(),
-                    response.getFailureCount(),
-                    response.getUpdatedCount());
+            log.info("Scheduled TMDB changes pass completed (fencing token {}). Series made due: {}",
+                    lease.fencingToken(), scheduled);
             
         } catch (Exception e) {
-            log.error("Scheduled series refresh failed with error: {}", e.getMessage(), e);
+            log.error("Scheduled TMDB changes pass failed with error: {}", e.getMessage(), e);
+        } finally {
+            lease.releaseAfter(changesHoldAfterCompletion);
         }
     }
 }
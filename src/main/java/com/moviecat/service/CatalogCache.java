@@ -0,0 +1,118 @@
+package com.moviecat.service;
+
+import com.moviecat.dto.CatalogItemResponse;
+import com.moviecat.util.FieldSelection;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static com.moviecat.service.CatalogQueries.includesMovies;
+import static com.moviecat.service.CatalogQueries.includesSeries;
+
+/**
+ * Least-recently-used cache of {@link CatalogService#getCatalog} results, keyed on the normalized filter set.
+ *
+ * Each entry remembers the {@link CollectionVersions} of the collections it was read from; an entry is only
+ * served while those versions are unchanged, so a movie or series write invalidates every page built from
+ * that collection without the writers having to know which pages exist. Cached lists are unmodifiable.
+ */
+@Component
+class CatalogCache {
+
+    static final String CACHE_COUNTER = "moviecat.catalog.cache";
+
+    private final CollectionVersions collectionVersions;
+    private final boolean enabled;
+    private final int maxItems;
+    private final Map<Key, Entry> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    CatalogCache(CollectionVersions collectionVersions,
+                 MeterRegistry meterRegistry,
+                 @Value("${catalog.cache.enabled:true}") boolean enabled,
+                 @Value("${catalog.cache.max-entries:64}") int maxEntries,
+                 @Value("${catalog.cache.max-items:50000}") int maxItems) {
+        this.collectionVersions = collectionVersions;
+        this.enabled = enabled;
+        this.maxItems = maxItems;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+        this.hits = Counter.builder(CACHE_COUNTER).description("Catalog result cache lookups")
+                .tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder(CACHE_COUNTER).description("Catalog result cache lookups")
+                .tag("result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * Return the cached result for the key if it is still current, otherwise load and cache it.
+     *
+     * @param key normalized filter set
+     * @param loader reads the catalog from MongoDB
+     * @return catalog items (unmodifiable)
+     */
+    List<CatalogItemResponse> get(Key key, Supplier<List<CatalogItemResponse>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        // Versions are read before the data, see CollectionVersions
+        long moviesVersion = includesMovies(key.contentType()) ? collectionVersions.current(CollectionVersions.MOVIES) : -1;
+        long seriesVersion = includesSeries(key.contentType()) ? collectionVersions.current(CollectionVersions.SERIES) : -1;
+
+        Entry entry = entries.get(key);
+        if (entry != null && entry.moviesVersion() == moviesVersion && entry.seriesVersion() == seriesVersion) {
+            hits.increment();
+            return entry.items();
+        }
+        misses.increment();
+
+        List<CatalogItemResponse> items = Collections.unmodifiableList(loader.get());
+        if (items.size() <= maxItems) {
+            entries.put(key, new Entry(moviesVersion, seriesVersion, items));
+        }
+        return items;
+    }
+
+    /**
+     * Catalog filter set with the same normalization as the queries: case-insensitive parameters
+     * are upper-cased, genre (matched case-insensitively) is lower-cased and blank values are dropped,
+     * so equivalent requests share one entry.
+     */
+    record Key(String contentType, String genre, String watchStatus, String addedBy, Boolean hasNewSeasons,
+               String seriesStatus, String sortBy, Set<String> fields) {
+
+        static Key of(String contentType, String genre, String watchStatus, String addedBy, Boolean hasNewSeasons,
+                      String seriesStatus, String sortBy, FieldSelection fields) {
+            return new Key(upper(contentType), lower(genre), upper(watchStatus), blankToNull(addedBy), hasNewSeasons,
+                    upper(seriesStatus), lower(sortBy), Set.copyOf(fields.getFields()));
+        }
+
+        private static String upper(String value) {
+            return value == null || value.isEmpty() ? null : value.toUpperCase(Locale.ROOT);
+        }
+
+        private static String lower(String value) {
+            return value == null || value.isEmpty() ? null : value.toLowerCase(Locale.ROOT);
+        }
+
+        private static String blankToNull(String value) {
+            return value == null || value.isEmpty() ? null : value;
+        }
+    }
+
+    private record Entry(long moviesVersion, long seriesVersion, List<CatalogItemResponse> items) {
+    }
+}
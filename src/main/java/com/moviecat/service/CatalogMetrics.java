@@ -0,0 +1,121 @@
+package com.moviecat.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Catalog query metrics, shared by the blocking and reactive catalog services.
+ *
+ * Records {@value #QUERY_TIMER} (latency) and {@value #RESULT_SUMMARY} (result-set size), tagged with
+ * the operation, the combination of filters in use and the sort option.
+ */
+@Component
+@RequiredArgsConstructor
+class CatalogMetrics {
+
+    static final String QUERY_TIMER = "moviecat.catalog.query";
+    static final String RESULT_SUMMARY = "moviecat.catalog.results";
+
+    static final String LIST = "list";
+    static final String SEARCH = "search";
+
+    static final String NO_FILTERS = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Start timing a catalog query.
+     */
+    Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * Record a finished catalog query.
+     *
+     * @param sample sample started before the query
+     * @param operation {@link #LIST} or {@link #SEARCH}
+     * @param filters filter combination, see {@link #filterTag}
+     * @param sortBy requested sort field (may be null)
+     * @param resultCount number of items returned
+     */
+    void record(Timer.Sample sample, String operation, String filters, String sortBy, int resultCount) {
+        Tags tags = Tags.of("operation", operation, "filters", filters, "sort", sortTag(sortBy));
+        sample.stop(Timer.builder(QUERY_TIMER)
+                .description("Catalog query latency")
+                .tags(tags)
+                .register(meterRegistry));
+        DistributionSummary.builder(RESULT_SUMMARY)
+                .description("Number of items returned by a catalog query")
+                .baseUnit("items")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(resultCount);
+    }
+
+    /**
+     * Time a reactive catalog query from subscription until it completes.
+     *
+     * @param items query results
+     * @param operation {@link #LIST} or {@link #SEARCH}
+     * @param filters filter combination, see {@link #filterTag}
+     * @param sortBy requested sort field (may be null)
+     * @return the same results, recorded on completion
+     */
+    <T> Flux<T> timed(Flux<T> items, String operation, String filters, String sortBy) {
+        return Flux.defer(() -> {
+            Timer.Sample sample = start();
+            AtomicInteger count = new AtomicInteger();
+            return items
+                    .doOnNext(item -> count.incrementAndGet())
+                    .doOnComplete(() -> record(sample, operation, filters, sortBy, count.get()));
+        });
+    }
+
+    /**
+     * Names of the filters in use joined with '+', e.g. "genre+watchStatus", or "none".
+     * Only presence is tagged, never values, so the number of tag values stays bounded.
+     */
+    static String filterTag(String contentType, String genre, String watchStatus, String addedBy,
+                            Boolean hasNewSeasons, String seriesStatus) {
+        StringJoiner filters = new StringJoiner("+").setEmptyValue(NO_FILTERS);
+        addIfPresent(filters, "contentType", contentType);
+        addIfPresent(filters, "genre", genre);
+        addIfPresent(filters, "watchStatus", watchStatus);
+        addIfPresent(filters, "addedBy", addedBy);
+        if (hasNewSeasons != null) {
+            filters.add("hasNewSeasons");
+        }
+        addIfPresent(filters, "seriesStatus", seriesStatus);
+        return filters.toString();
+    }
+
+    /**
+     * Sort option as a tag value; unknown sort fields are grouped under "other".
+     */
+    private static String sortTag(String sortBy) {
+        if (sortBy == null || sortBy.isEmpty()) {
+            return "default";
+        }
+        return switch (sortBy.toLowerCase()) {
+            case "title" -> "title";
+            case "dateadded" -> "dateAdded";
+            case "length" -> "length";
+            default -> "other";
+        };
+    }
+
+    private static void addIfPresent(StringJoiner filters, String name, String value) {
+        if (value != null && !value.isEmpty()) {
+            filters.add(name);
+        }
+    }
+}
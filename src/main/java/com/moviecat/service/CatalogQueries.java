@@ -0,0 +1,189 @@
+package com.moviecat.service;
+
+import com.moviecat.dto.CatalogItemResponse;
+import com.moviecat.model.SeriesStatus;
+import com.moviecat.model.WatchStatus;
+import com.moviecat.util.FieldSelection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Filters, projections and ordering of catalog queries, shared by the blocking and reactive catalog services.
+ */
+@Slf4j
+final class CatalogQueries {
+
+    /**
+     * Entity properties every catalog query loads, because sorting depends on them.
+     */
+    private static final String[] MOVIE_SORT_PROPERTIES = {"title", "watchStatus", "priority", "dateAdded", "length"};
+    private static final String[] SERIES_SORT_PROPERTIES = {"title", "watchStatus", "priority", "dateAdded"};
+
+    private CatalogQueries() {
+    }
+
+    static boolean includesMovies(String contentType) {
+        return contentType == null || contentType.equalsIgnoreCase("MOVIE");
+    }
+
+    static boolean includesSeries(String contentType) {
+        return contentType == null || contentType.equalsIgnoreCase("SERIES");
+    }
+
+    /**
+     * Movie properties to load for the selected response fields.
+     */
+    static Set<String> movieProperties(FieldSelection fields) {
+        return fields.toProperties(CatalogQueries::toEntityProperty, MOVIE_SORT_PROPERTIES);
+    }
+
+    /**
+     * Series properties to load for the selected response fields.
+     */
+    static Set<String> seriesProperties(FieldSelection fields) {
+        return fields.toProperties(CatalogQueries::toEntityProperty, SERIES_SORT_PROPERTIES);
+    }
+
+    /**
+     * Build filters shared by movies and series.
+     */
+    static List<Criteria> commonCriteria(String genre, String watchStatus, String addedBy) {
+        List<Criteria> criteria = new ArrayList<>();
+        if (genre != null && !genre.isEmpty()) {
+            criteria.add(Criteria.where("genres").regex("^" + Pattern.quote(genre) + "$", "i"));
+        }
+        if (watchStatus != null && !watchStatus.isEmpty()) {
+            criteria.add(Criteria.where("watchStatus").is(WatchStatus.valueOf(watchStatus.toUpperCase())));
+        }
+        if (addedBy != null && !addedBy.isEmpty()) {
+            criteria.add(Criteria.where("addedBy").is(addedBy));
+        }
+        return criteria;
+    }
+
+    /**
+     * Add series-only filters to the shared ones.
+     */
+    static List<Criteria> seriesCriteria(List<Criteria> commonCriteria, Boolean hasNewSeasons, String seriesStatus) {
+        List<Criteria> criteria = new ArrayList<>(commonCriteria);
+        if (hasNewSeasons != null) {
+            criteria.add(Criteria.where("hasNewSeasons").is(hasNewSeasons));
+        }
+        if (seriesStatus != null && !seriesStatus.isEmpty()) {
+            criteria.add(Criteria.where("seriesStatus").is(SeriesStatus.valueOf(seriesStatus.toUpperCase())));
+        }
+        return criteria;
+    }
+
+    /**
+     * Case-insensitive substring match on title, comment or any genre.
+     */
+    static Criteria searchCriteria(String query) {
+        String pattern = Pattern.quote(query);
+        return new Criteria().orOperator(
+                Criteria.where("title").regex(pattern, "i"),
+                Criteria.where("comment").regex(pattern, "i"),
+                Criteria.where("genres").regex(pattern, "i"));
+    }
+
+    /**
+     * Combine criteria with $and (null when there is nothing to filter on).
+     */
+    static Criteria and(List<Criteria> criteria) {
+        if (criteria.isEmpty()) {
+            return null;
+        }
+        return new Criteria().andOperator(criteria);
+    }
+
+    /**
+     * Catalog order - always prioritize unwatched items first, then the requested sort field.
+     * Without a sort field: priority (higher first), then date added (older first).
+     */
+    static Comparator<CatalogItemResponse> comparator(String sortBy) {
+        Comparator<CatalogItemResponse> comparator = createWatchStatusComparator();
+
+        if (sortBy != null && !sortBy.isEmpty()) {
+            Comparator<CatalogItemResponse> secondarySort;
+            switch (sortBy.toLowerCase()) {
+                case "title":
+                    secondarySort = Comparator.comparing(CatalogItemResponse::getTitle);
+                    break;
+                case "dateadded":
+                    secondarySort = dateAdded().reversed();
+                    break;
+                case "length":
+                    secondarySort = Comparator.comparing(item ->
+                            item.getLength() != null ? item.getLength() : 0, Comparator.reverseOrder());
+                    break;
+                default:
+                    log.warn("Unknown sort field: {}", sortBy);
+                    secondarySort = dateAdded().reversed();
+            }
+            return comparator.thenComparing(secondarySort);
+        }
+
+        // Default sort: unwatched first, then by priority (higher first), then by date added (older first)
+        return comparator
+                .thenComparing(Comparator.comparing(CatalogItemResponse::getPriority,
+                        Comparator.nullsLast(Comparator.reverseOrder())))
+                .thenComparing(dateAdded());
+    }
+
+    /**
+     * Oldest first. Items without a date come first, as MongoDB sorts missing values before any date.
+     */
+    private static Comparator<CatalogItemResponse> dateAdded() {
+        return Comparator.comparing(CatalogItemResponse::getDateAdded, Comparator.nullsFirst(Comparator.naturalOrder()));
+    }
+
+    /**
+     * MongoDB sort equivalent to {@link #comparator}, used to read each collection in catalog order.
+     * Watch status is stored as the enum name and "UNWATCHED" sorts before "WATCHED", so an ascending watch
+     * status puts unwatched items first. Each collection must come back in comparator order, since the
+     * collections are merged with {@link #comparator}.
+     */
+    static Sort sort(String sortBy) {
+        Sort unwatchedFirst = Sort.by(Sort.Direction.ASC, "watchStatus");
+        Sort secondarySort;
+        if (sortBy == null || sortBy.isEmpty()) {
+            secondarySort = Sort.by(Sort.Order.desc("priority"), Sort.Order.asc("dateAdded"));
+        } else {
+            secondarySort = switch (sortBy.toLowerCase()) {
+                case "title" -> Sort.by(Sort.Direction.ASC, "title");
+                case "length" -> Sort.by(Sort.Direction.DESC, "length");
+                default -> Sort.by(Sort.Direction.DESC, "dateAdded");
+            };
+        }
+        // Keep ties in insertion order, like the stable in-memory sort
+        return unwatchedFirst.and(secondarySort).and(Sort.by(Sort.Direction.ASC, "id"));
+    }
+
+    /**
+     * Map a catalog response field to the entity property it is built from.
+     */
+    private static String toEntityProperty(String field) {
+        return switch (field) {
+            case "link" -> "tmdbId";
+            case "contentType" -> null;
+            default -> field;
+        };
+    }
+
+    /**
+     * Create comparator that prioritizes unwatched items first.
+     */
+    private static Comparator<CatalogItemResponse> createWatchStatusComparator() {
+        return Comparator.comparing((CatalogItemResponse item) -> {
+            // UNWATCHED = 0, WATCHED = 1, so unwatched items come first
+            return item.getWatchStatus() == WatchStatus.UNWATCHED ? 0 : 1;
+        });
+    }
+}
@@ -0,0 +1,74 @@
+package com.moviecat.service;
+
+import com.moviecat.changes.ChangeStreamWatcher;
+import com.moviecat.changes.CollectionChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-collection write counters. Every save or delete through Spring Data (the blocking and reactive
+ * repositories used by {@link MovieService} and {@link SeriesService}, or {@code MongoTemplate}) bumps the
+ * version of the collection it changed, once MongoDB has acknowledged the write. Anything derived from a
+ * collection, such as a cached catalog page, is current as long as the version it was built from is unchanged.
+ *
+ * Read the version before reading the data: a concurrent write then either is visible to the read or
+ * bumps the version afterwards, so derived data is never stored under a newer version than its source.
+ * Partial updates issued with {@code updateFirst}/{@code updateMulti} publish no mapping events and must
+ * call {@link #bump} themselves.
+ *
+ * Writes made by other instances (or any other client) arrive through {@link ChangeStreamWatcher}, which
+ * bumps the version on every instance; local writes are bumped both ways, the second bump only costs
+ * one more cache miss.
+ */
+@Component
+public class CollectionVersions {
+
+    public static final String MOVIES = "movies";
+    public static final String SERIES = "series";
+    public static final String NOTIFICATIONS = "notifications";
+
+    private final ConcurrentMap<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    /**
+     * @param collection collection name, e.g. {@link #MOVIES}
+     * @return current version of the collection
+     */
+    public long current(String collection) {
+        return counter(collection).get();
+    }
+
+    /**
+     * Record a write to the collection.
+     *
+     * @param collection collection name, e.g. {@link #MOVIES}
+     * @return new version of the collection
+     */
+    public long bump(String collection) {
+        return counter(collection).incrementAndGet();
+    }
+
+    @EventListener
+    void onAfterSave(AfterSaveEvent<?> event) {
+        bump(event.getCollectionName());
+    }
+
+    @EventListener
+    void onAfterDelete(AfterDeleteEvent<?> event) {
+        bump(event.getCollectionName());
+    }
+
+    @EventListener
+    void onCollectionChange(CollectionChangeEvent event) {
+        bump(event.collection());
+    }
+
+    private AtomicLong counter(String collection) {
+        return versions.computeIfAbsent(collection, name -> new AtomicLong());
+    }
+}
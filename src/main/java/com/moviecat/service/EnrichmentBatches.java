@@ -0,0 +1,96 @@
+package com.moviecat.service;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Updates;
+import com.moviecat.dto.TmdbBatchEnrichmentResult;
+import com.moviecat.model.ContentType;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Progress of batch enrichments, in the {@code enrichmentBatches} collection.
+ * Each finished item is written as soon as it is done, keyed by its position, so a batch cut off
+ * by a dropped connection or the request timeout can be resumed without enriching those items again.
+ */
+@Component
+@RequiredArgsConstructor
+public class EnrichmentBatches {
+
+    static final String COLLECTION = "enrichmentBatches";
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * A batch and the results stored so far.
+     *
+     * @param contentType content type of the items
+     * @param total number of items
+     * @param results stored results by item position
+     */
+    public record Batch(ContentType contentType, int total, Map<Integer, TmdbBatchEnrichmentResult> results) {
+    }
+
+    /**
+     * @param contentType content type of the items
+     * @param total number of items
+     * @return ID of the new batch
+     */
+    public String create(ContentType contentType, int total) {
+        ObjectId id = new ObjectId();
+        collection().insertOne(new Document("_id", id)
+                .append("contentType", contentType.name())
+                .append("total", total)
+                .append("results", new Document())
+                .append("createdAt", new Date()));
+        return id.toHexString();
+    }
+
+    /**
+     * @param id batch ID
+     * @return the batch, empty if there is none with this ID
+     */
+    public Optional<Batch> find(String id) {
+        if (!ObjectId.isValid(id)) {
+            return Optional.empty();
+        }
+        Document batch = collection().find(Filters.eq("_id", new ObjectId(id))).first();
+        if (batch == null) {
+            return Optional.empty();
+        }
+        Map<Integer, TmdbBatchEnrichmentResult> results = new HashMap<>();
+        Document stored = batch.get("results", Document.class);
+        if (stored != null) {
+            stored.forEach((index, result) -> results.put(Integer.valueOf(index),
+                    mongoTemplate.getConverter().read(TmdbBatchEnrichmentResult.class, (Document) result)));
+        }
+        return Optional.of(new Batch(ContentType.valueOf(batch.getString("contentType")), batch.getInteger("total"), results));
+    }
+
+    /**
+     * Store the result of one item, replacing an earlier result for the same position.
+     *
+     * @param id batch ID
+     * @param result item result
+     */
+    public void saveResult(String id, TmdbBatchEnrichmentResult result) {
+        Document document = new Document();
+        mongoTemplate.getConverter().write(result, document);
+        document.remove("_class");
+        collection().updateOne(Filters.eq("_id", new ObjectId(id)), Updates.combine(
+                Updates.set("results." + result.getIndex(), document),
+                Updates.set("updatedAt", new Date())));
+    }
+
+    private MongoCollection<Document> collection() {
+        return mongoTemplate.getCollection(COLLECTION);
+    }
+}
@@ -0,0 +1,99 @@
+package com.moviecat.service;
+
+import com.moviecat.dto.ImageResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background image downloads, so callers get an image ID without waiting for the image bytes.
+ *
+ * {@link #enqueue} saves a PENDING image (see {@link ImageService#reserveDownload}) and downloads its file
+ * on one of {@code image.download.concurrency} threads. Failed downloads are retried after
+ * {@code image.download.retry-delay} (growing linearly) until {@code image.download.max-attempts}, then the
+ * image is marked FAILED. Downloads cut off by a shutdown are picked up again when an instance starts.
+ */
+@Slf4j
+@Component
+public class ImageDownloadQueue {
+
+    private final ImageService imageService;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+    private final ScheduledExecutorService executor;
+
+    public ImageDownloadQueue(ImageService imageService,
+                              @Value("${image.download.concurrency:4}") int concurrency,
+                              @Value("${image.download.max-attempts:3}") int maxAttempts,
+                              @Value("${image.download.retry-delay:5s}") Duration retryDelay) {
+        this.imageService = imageService;
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = retryDelay;
+        this.executor = Executors.newScheduledThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "image-download");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Reserve an image for a URL and download it in the background.
+     *
+     * @param imageUrl URL to download the image from
+     * @return the PENDING image, whose ID can be stored right away
+     */
+    public ImageResponse enqueue(String imageUrl) {
+        ImageResponse image = imageService.reserveDownload(imageUrl);
+        schedule(image.getId(), 1, Duration.ZERO);
+        log.info("Queued download of {} as image {}", imageUrl, image.getId());
+        return image;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void resumePendingDownloads() {
+        List<String> pending = imageService.findPendingImageIds();
+        if (!pending.isEmpty()) {
+            log.info("Resuming {} pending image download(s)", pending.size());
+            pending.forEach(id -> schedule(id, 1, Duration.ZERO));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void schedule(String id, int attempt, Duration delay) {
+        try {
+            executor.schedule(() -> download(id, attempt), delay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Shutting down; the image stays PENDING and is resumed on the next start
+            log.info("Image download {} not scheduled: shutting down", id);
+        }
+    }
+
+    private void download(String id, int attempt) {
+        try {
+            imageService.completeDownload(id);
+        } catch (Exception e) {
+            if (attempt < maxAttempts) {
+                Duration delay = retryDelay.multipliedBy(attempt);
+                log.warn("Download of image {} failed (attempt {}), retrying in {}: {}", id, attempt, delay, e.getMessage());
+                schedule(id, attempt + 1, delay);
+            } else {
+                log.error("Download of image {} failed after {} attempts: {}", id, attempt, e.getMessage());
+                imageService.failDownload(id, e.getMessage());
+            }
+        }
+    }
+}
@@ -1,28 +1,49 @@
 package com.moviecat.service;
 
+import com.mongodb.client.result.UpdateResult;
 import com.moviecat.dto.ImageDownloadRequest;
 import com.moviecat.dto.ImageResponse;
 import com.moviecat.exception.ResourceNotFoundException;
 import com.moviecat.model.Image;
+import com.moviecat.model.ImageStatus;
 import com.moviecat.repository.ImageRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
-import javax.net.ssl.*;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509ExtendedTrustManager;
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.MalformedURLException;
+import java.net.Socket;
 import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -31,39 +52,25 @@ import java.util.UUID;
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Observed
 public class ImageService {
     
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration DOWNLOAD_TIMEOUT = Duration.ofSeconds(30);
+    
     private final ImageRepository imageRepository;
+    private final MongoTemplate mongoTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ObservationRegistry observationRegistry;
     
     @Value("${image.storage.path:images}")
     private String imageStoragePath;
     
-    static {
-        // Disable SSL certificate validation for image downloads
-        try {
-            TrustManager[] trustAllCerts = new TrustManager[]{
-                new X509TrustManager() {
-                    public X509Certificate[] getAcceptedIssuers() {
-                        return null;
-                    }
-                    public void checkClientTrusted(X509Certificate[] certs, String authType) {
-                    }
-                    public void checkServerTrusted(X509Certificate[] certs, String authType) {
-                    }
-                }
-            };
-            
-            SSLContext sc = SSLContext.getInstance("SSL");
-            sc.init(null, trustAllCerts, new java.security.SecureRandom());
-            HttpsURLConnection.setDefaultSSLSocketFactory(sc.getSocketFactory());
-            
-            // Disable hostname verification
-            HostnameVerifier allHostsValid = (hostname, session) -> true;
-            HttpsURLConnection.setDefaultHostnameVerifier(allHostsValid);
-        } catch (NoSuchAlgorithmException | KeyManagementException e) {
-            throw new RuntimeException("Failed to initialize SSL context", e);
-        }
-    }
+    /**
+     * HTTP client for image downloads. Blocking sends park virtual threads instead of pinning them,
+     * and a single request returns both the body and the content type.
+     */
+    private final HttpClient httpClient = createHttpClient();
     
     /**
      * Download an image from a URL and save it to the file system.
@@ -75,6 +82,97 @@ public class ImageService {
     public ImageResponse downloadAndSaveImage(ImageDownloadRequest request) throws IOException {
         log.info("Downloading image from URL: {}", request.getImageUrl());
         
+        Image image = Image.builder()
+                .originalUrl(request.getImageUrl())
+                .build();
+        storeFile(image, UUID.randomUUID().toString());
+        
+        image = imageRepository.save(image);
+        log.info("Image metadata saved with ID: {}", image.getId());
+        
+        return toResponse(image);
+    }
+    
+    /**
+     * Save a PENDING image for a URL whose file is downloaded later (see {@link ImageDownloadQueue}).
+     * The image ID can be referenced right away; the file is served once the download has completed.
+     * 
+     * @param imageUrl URL to download the image from
+     * @return the reserved image metadata
+     */
+    public ImageResponse reserveDownload(String imageUrl) {
+        Image image = imageRepository.save(Image.builder()
+                .originalUrl(imageUrl)
+                .status(ImageStatus.PENDING)
+                .build());
+        return toResponse(image);
+    }
+    
+    /**
+     * Download the file of a PENDING image and mark the image READY.
+     * The file is named after the image ID, so repeated downloads of the same image overwrite each other.
+     * The image only becomes READY if it is still PENDING when the file is stored, in one conditional update,
+     * so an image deleted during the download is not saved again.
+     * 
+     * @param id the image ID
+     * @return false if the image was deleted or is no longer pending
+     * @throws IOException if download or file operation fails; the image stays PENDING
+     */
+    public boolean completeDownload(String id) throws IOException {
+        Image image = imageRepository.findById(id).orElse(null);
+        if (image == null || image.getStatus() != ImageStatus.PENDING) {
+            return false;
+        }
+        
+        storeFile(image, id);
+        UpdateResult result = mongoTemplate.updateFirst(pending(id),
+                new Update()
+                        .set("status", ImageStatus.READY)
+                        .set("filename", image.getFilename())
+                        .set("contentType", image.getContentType())
+                        .set("fileSize", image.getFileSize())
+                        .set("uploadedAt", LocalDateTime.now())
+                        .unset("error"),
+                Image.class);
+        if (result.getMatchedCount() == 0) {
+            // Deleted while downloading, unless another instance completed it first and now serves the file
+            if (!imageRepository.existsById(id)) {
+                Path filePath = Paths.get(imageStoragePath).resolve(image.getFilename());
+                observeFile("delete", filePath, () -> Files.deleteIfExists(filePath));
+            }
+            return false;
+        }
+        log.info("Completed download of image {}", id);
+        return true;
+    }
+    
+    /**
+     * Mark a PENDING image as FAILED after its download was given up.
+     * 
+     * @param id the image ID
+     * @param error why the download failed
+     */
+    public void failDownload(String id, String error) {
+        mongoTemplate.updateFirst(pending(id),
+                new Update().set("status", ImageStatus.FAILED).set("error", error),
+                Image.class);
+    }
+    
+    /**
+     * @return IDs of the images whose download has not completed yet
+     */
+    public List<String> findPendingImageIds() {
+        return imageRepository.findByStatus(ImageStatus.PENDING).stream()
+                .map(Image::getId)
+                .toList();
+    }
+    
+    /**
+     * Download the image of {@code image.originalUrl} into image storage and fill in its file metadata.
+     */
+    private void storeFile(Image image, String baseName) throws IOException {
+        String imageUrl = image.getOriginalUrl();
+        
         // Create storage directory if it doesn't exist
         Path storageDir = Paths.get(imageStoragePath);
         if (!Files.exists(storageDir)) {
@@ -82,42 +180,26 @@ public class ImageService {
         }
         
         // Download the image
-        URI uri = URI.create(request.getImageUrl());
-        String contentType;
-        byte[] imageBytes;
+        HttpResponse<byte[]> response = download(URI.create(imageUrl));
+        byte[] imageBytes = response.body();
         
-        try (InputStream inputStream = uri.toURL().openStream()) {
-            imageBytes = inputStream.readAllBytes();
-            
-            // Try to determine content type from URL connection
-            contentType = uri.toURL().openConnection().getContentType();
-            if (contentType == null || !contentType.startsWith("image/")) {
-                // Fallback to detecting from file extension
-                contentType = detectContentType(request.getImageUrl());
-            }
+        // Try to determine content type from the response
+        String contentType = response.headers().firstValue("Content-Type").orElse(null);
+        if (contentType == null || !contentType.startsWith("image/")) {
+            // Fallback to detecting from file extension
+            contentType = detectContentType(imageUrl);
         }
         
-        // Generate unique filename
-        String fileExtension = getFileExtension(request.getImageUrl(), contentType);
-        String filename = UUID.randomUUID().toString() + fileExtension;
+        String filename = baseName + getFileExtension(imageUrl, contentType);
         Path filePath = storageDir.resolve(filename);
         
         // Save file to disk
-        Files.write(filePath, imageBytes);
+        observeFile("write", filePath, () -> Files.write(filePath, imageBytes));
         log.info("Image saved to: {}", filePath);
         
-        // Create and save metadata
-        Image image = Image.builder()
-                .originalUrl(request.getImageUrl())
-                .filename(filename)
-                .contentType(contentType)
-                .fileSize((long) imageBytes.length)
-                .build();
-        
-        image = imageRepository.save(image);
-        log.info("Image metadata saved with ID: {}", image.getId());
-        
-        return toResponse(image);
+        image.setFilename(filename);
+        image.setContentType(contentType);
+        image.setFileSize((long) imageBytes.length);
     }
     
     /**
@@ -138,10 +220,17 @@ public class ImageService {
      * @param id the image ID
      * @return the image file as a Resource
      * @throws MalformedURLException if the file path is invalid
+     * @throws IllegalStateException if the image is still being downloaded
      */
     public Resource getImageFile(String id) throws MalformedURLException {
         Image image = imageRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Image", id));
+        if (image.getStatus() == ImageStatus.PENDING) {
+            throw new IllegalStateException("Image " + id + " is still being downloaded");
+        }
+        if (!image.isReady()) {
+            throw new ResourceNotFoundException("Image file", id);
+        }
         
         Path filePath = Paths.get(imageStoragePath).resolve(image.getFilename());
         Resource resource = new UrlResource(filePath.toUri());
@@ -155,22 +244,148 @@ public class ImageService {
     
     /**
      * Delete an image by ID.
+     * The metadata is removed first, in one step with reading it: an image still PENDING at that moment has
+     * no file yet, and its download then finds the image gone and deletes the file itself.
      * 
      * @param id the image ID
      */
     public void deleteImage(String id) throws IOException {
-        Image image = imageRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Image", id));
-        
-        // Delete file from disk
-        Path filePath = Paths.get(imageStoragePath).resolve(image.getFilename());
-        Files.deleteIfExists(filePath);
+        Image image = mongoTemplate.findAndRemove(Query.query(Criteria.where("_id").is(id)), Image.class);
+        if (image == null) {
+            throw new ResourceNotFoundException("Image", id);
+        }
         
-        // Delete metadata from database
-        imageRepository.deleteById(id);
+        // Delete file from disk (pending and failed downloads have none)
+        if (image.getFilename() != null) {
+            Path filePath = Paths.get(imageStoragePath).resolve(image.getFilename());
+            observeFile("delete", filePath, () -> Files.deleteIfExists(filePath));
+        }
         log.info("Image deleted: {}", id);
     }
     
+    private static Query pending(String id) {
+        return Query.query(Criteria.where("_id").is(id).and("status").is(ImageStatus.PENDING));
+    }
+    
+    /**
+     * Fetch the image bytes with a single GET request.
+     * Observed as {@code moviecat.image.download} (span, and timer by HTTP status); the size
+     * of successful downloads is recorded in {@code moviecat.image.download.size}.
+     * 
+     * @param uri image URL
+     * @return response with the image bytes
+     * @throws IOException if the URL is not HTTP(S), the request fails or the server returns an error status
+     */
+    private HttpResponse<byte[]> download(URI uri) throws IOException {
+        HttpRequest httpRequest;
+        try {
+            httpRequest = HttpRequest.newBuilder(uri)
+                    .timeout(DOWNLOAD_TIMEOUT)
+                    .GET()
+                    .build();
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Unsupported image URL: " + uri, e);
+        }
+        
+        HttpResponse<byte[]> response;
+        Observation observation = Observation.createNotStarted("moviecat.image.download", observationRegistry)
+                .contextualName("image download")
+                .highCardinalityKeyValue("url", uri.toString())
+                .start();
+        String status = "IO_ERROR";
+        try (Observation.Scope scope = observation.openScope()) {
+            response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofByteArray());
+            status = String.valueOf(response.statusCode());
+        } catch (IOException e) {
+            observation.error(e);
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            observation.error(e);
+            throw new IOException("Image download interrupted: " + uri, e);
+        } finally {
+            observation.lowCardinalityKeyValue("status", status).stop();
+        }
+        
+        if (response.statusCode() >= 400) {
+            throw new IOException("Image download failed with HTTP " + response.statusCode() + ": " + uri);
+        }
+        DistributionSummary.builder("moviecat.image.download.size")
+                .description("Size of downloaded images")
+                .baseUnit("bytes")
+                .register(meterRegistry)
+                .record(response.body().length);
+        return response;
+    }
+    
+    /**
+     * Run a file operation as a {@code moviecat.image.file} observation (span, and timer by operation).
+     */
+    private void observeFile(String operation, Path path, Observation.CheckedRunnable<IOException> action)
+            throws IOException {
+        Observation.createNotStarted("moviecat.image.file", observationRegistry)
+                .contextualName("image file " + operation)
+                .lowCardinalityKeyValue("operation", operation)
+                .highCardinalityKeyValue("path", path.toString())
+                .observeChecked(action);
+    }
+    
+    /**
+     * Create the image download client.
+     * SSL certificate and hostname validation are disabled for image downloads only,
+     * instead of changing the JVM-wide HttpsURLConnection defaults.
+     */
+    private static HttpClient createHttpClient() {
+        try {
+            SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(null, new TrustManager[]{new TrustAllTrustManager()}, new SecureRandom());
+            
+            return HttpClient.newBuilder()
+                    .sslContext(sslContext)
+                    .followRedirects(HttpClient.Redirect.NORMAL)
+                    .connectTimeout(CONNECT_TIMEOUT)
+                    .build();
+        } catch (NoSuchAlgorithmException | KeyManagementException e) {
+            throw new IllegalStateException("Failed to initialize SSL context", e);
+        }
+    }
+    
+    /**
+     * Trust manager that accepts every certificate. Being an {@link X509ExtendedTrustManager},
+     * it also takes over (and skips) hostname verification.
+     */
+    private static class TrustAllTrustManager extends X509ExtendedTrustManager {
+        
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket) {
+        }
+        
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket) {
+        }
+        
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {
+        }
+        
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {
+        }
+        
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType) {
+        }
+        
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType) {
+        }
+        
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return new X509Certificate[0];
+        }
+    }
+    
     /**
      * Convert Image entity to ImageResponse DTO.
      */
@@ -183,6 +398,7 @@ public class ImageService {
                 .fileSize(image.getFileSize())
                 .uploadedAt(image.getUploadedAt())
                 .imageUrl("/api/images/" + image.getId())
+                .status(image.isReady() ? ImageStatus.READY : image.getStatus())
                 .build();
     }
     
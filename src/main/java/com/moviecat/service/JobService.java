@@ -0,0 +1,136 @@
+package com.moviecat.service;
+
+import com.moviecat.dto.JobRequest;
+import com.moviecat.dto.JobResponse;
+import com.moviecat.exception.ResourceNotFoundException;
+import com.moviecat.model.Job;
+import com.moviecat.model.JobType;
+import com.moviecat.repository.JobRepository;
+import io.micrometer.observation.annotation.Observed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service for submitting background jobs and following their progress.
+ * Jobs are persisted in the 'jobs' collection and run by the job workers of any instance
+ * (see {@link com.moviecat.jobs.JobWorker}).
+ */
+@Service
+@Slf4j
+@Observed
+public class JobService {
+
+    private final JobRepository jobRepository;
+    private final int maxAttempts;
+
+    public JobService(JobRepository jobRepository,
+                      @Value("${jobs.max-attempts:5}") int maxAttempts) {
+        this.jobRepository = jobRepository;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * Queue a job.
+     *
+     * @param request job type and parameters
+     * @return the queued job
+     * @throws IllegalArgumentException if the job type is missing
+     */
+    public JobResponse submit(JobRequest request) {
+        if (request.getType() == null) {
+            throw new IllegalArgumentException("Job type is required");
+        }
+        return submit(request.getType(), request.getParams() != null ? request.getParams() : Map.of());
+    }
+
+    /**
+     * Queue a job.
+     *
+     * @param type job type
+     * @param params job parameters
+     * @return the queued job
+     */
+    public JobResponse submit(JobType type, Map<String, String> params) {
+        LocalDateTime now = LocalDateTime.now();
+        Job job = jobRepository.save(Job.builder()
+                .type(type)
+                .params(new HashMap<>(params))
+                .maxAttempts(maxAttempts)
+                .createdAt(now)
+                .nextAttemptAt(now)
+                .build());
+        log.info("Queued {} job {} with params {}", type, job.getId(), params);
+        return toResponse(job);
+    }
+
+    /**
+     * Get a job's status and progress.
+     *
+     * @param id job ID
+     * @return the job
+     * @throws ResourceNotFoundException if the job does not exist
+     */
+    public JobResponse getJob(String id) {
+        return jobRepository.findSummary(id)
+                .map(this::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Job", id));
+    }
+
+    /**
+     * Get the most recently submitted jobs, newest first.
+     *
+     * @param limit maximum number of jobs
+     * @return recent jobs
+     */
+    public List<JobResponse> getRecentJobs(int limit) {
+        return jobRepository.findRecentSummaries(limit).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    /**
+     * Cancel a queued or running job. A running job stops after the item it is processing.
+     *
+     * @param id job ID
+     * @return the cancelled job
+     * @throws ResourceNotFoundException if the job does not exist
+     * @throws IllegalStateException if the job has already finished
+     */
+    public JobResponse cancel(String id) {
+        return jobRepository.cancel(id)
+                .map(job -> {
+                    log.info("Cancelled job {}", id);
+                    return toResponse(job);
+                })
+                .orElseThrow(() -> {
+                    JobResponse job = getJob(id);
+                    return new IllegalStateException("Job " + id + " has already finished with status " + job.getStatus());
+                });
+    }
+
+    private JobResponse toResponse(Job job) {
+        return JobResponse.builder()
+                .id(job.getId())
+                .type(job.getType())
+                .status(job.getStatus())
+                .params(job.getParams())
+                .total(job.getTotal())
+                .processed(job.getCursor())
+                .succeeded(job.getSucceeded())
+                .failed(job.getFailed())
+                .updated(job.getUpdated())
+                .attempts(job.getAttempts())
+                .lastError(job.getLastError())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .nextAttemptAt(job.getStatus().isFinished() ? null : job.getNextAttemptAt())
+                .build();
+    }
+}
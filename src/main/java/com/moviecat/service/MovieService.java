@@ -5,8 +5,10 @@ import static com.moviecat.util.TmdbLinkUtil.*;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.moviecat.exception.ResourceNotFoundException;
+import com.moviecat.util.FieldSelection;
 import com.moviecat.util.TmdbLinkUtil;
 import org.springframework.stereotype.Service;
 
@@ -16,6 +18,7 @@ import com.moviecat.model.Movie;
 import com.moviecat.model.WatchStatus;
 import com.moviecat.repository.MovieRepository;
 
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -25,6 +28,7 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 @Slf4j
 @RequiredArgsConstructor
+@Observed
 public class MovieService {
 
 
@@ -77,7 +81,7 @@ public class MovieService {
      * @throws ResourceNotFoundException if movie not found
      */
     public MovieResponse getMovieById(String id) {
-        log.info("Getting movie by id: {}", id);
+        log.debug("Getting movie by id: {}", id);
 
         Movie movie = movieRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Movie", id));
@@ -86,21 +90,38 @@ public class MovieService {
     }
 
     /**
-     * Get all movies.
+     * Get all movies, loading only the fields needed for the selected response fields.
      *
+     * @param fields response fields to return
      * @return list of all movies
      */
-    public List<MovieResponse> getAllMovies() {
-        log.info("Getting all movies");
+    public List<MovieResponse> getAllMovies(FieldSelection fields) {
+        log.debug("Getting all movies");
 
-        List<Movie> movies = movieRepository.findAll();
-        log.info("Found {} movies", movies.size());
+        List<Movie> movies = movieRepository.findProjected(null,
+                fields.toProperties(field -> field.equals("link") ? "tmdbId" : field));
+        log.debug("Found {} movies", movies.size());
 
         return movies.stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Stream all movies from a MongoDB cursor, loading only the fields needed for the selected response fields.
+     * The caller must close the stream.
+     *
+     * @param fields response fields to return
+     * @return stream of all movies
+     */
+    public Stream<MovieResponse> streamAllMovies(FieldSelection fields) {
+        log.debug("Streaming all movies");
+
+        return movieRepository.streamProjected(null,
+                        fields.toProperties(field -> field.equals("link") ? "tmdbId" : field))
+                .map(this::toResponse);
+    }
+
     /**
      * Update movie information.
      *
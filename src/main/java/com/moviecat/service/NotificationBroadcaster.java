@@ -0,0 +1,114 @@
+package com.moviecat.service;
+
+import com.moviecat.dto.NotificationEvent;
+import com.moviecat.dto.NotificationResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Exceptions;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process fan-out of notification changes to stream subscribers.
+ *
+ * Events are emitted once into a multicast sink; every subscriber reads them through its own bounded
+ * buffer, so a slow client never holds up publishers or other clients. A subscriber whose buffer
+ * overflows is failed rather than silently skipping events, so it can reconnect and reload the list.
+ *
+ * Each change is published twice on the instance that made it: by the service right after the write, and
+ * again when it comes back through the change stream ({@link NotificationChangeRelay}), which is how the
+ * other instances hear about it. The recently published events are remembered and a repeat is dropped.
+ */
+@Component
+@Slf4j
+public class NotificationBroadcaster {
+
+    // Far more events than arrive between a write and its change stream echo
+    private static final int RECENT_EVENTS = 1024;
+
+    private final Sinks.Many<NotificationEvent> sink = Sinks.many().multicast().directBestEffort();
+    private final Map<String, Boolean> recent = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > RECENT_EVENTS;
+        }
+    };
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final int bufferSize;
+    private final Counter overflows;
+
+    NotificationBroadcaster(MeterRegistry meterRegistry,
+                            @Value("${notifications.stream.buffer-size:32}") int bufferSize) {
+        this.bufferSize = bufferSize;
+        Gauge.builder("moviecat.notifications.stream.subscribers", subscribers, AtomicInteger::get)
+                .description("Connected notification stream clients")
+                .register(meterRegistry);
+        this.overflows = Counter.builder("moviecat.notifications.stream.overflows")
+                .description("Notification stream clients disconnected for falling behind")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publish a newly created notification.
+     *
+     * @param notification created notification
+     */
+    public void created(NotificationResponse notification) {
+        publish(NotificationEvent.builder()
+                .type(NotificationEvent.Type.CREATED)
+                .id(notification.getId())
+                .notification(notification)
+                .build());
+    }
+
+    /**
+     * Publish the dismissal of a notification.
+     *
+     * @param id notification ID
+     */
+    public void dismissed(String id) {
+        publish(NotificationEvent.builder()
+                .type(NotificationEvent.Type.DISMISSED)
+                .id(id)
+                .build());
+    }
+
+    /**
+     * Events published from now on, buffered per subscriber.
+     *
+     * @return endless stream of notification events; if the subscriber falls too far behind, it stops
+     *         receiving new events and fails with an overflow error ({@link Exceptions#isOverflow})
+     *         once the buffered ones are delivered
+     */
+    public Flux<NotificationEvent> subscribe() {
+        return sink.asFlux()
+                .onBackpressureBuffer(bufferSize, dropped -> overflows.increment(), BufferOverflowStrategy.ERROR)
+                .doOnSubscribe(subscription -> subscribers.incrementAndGet())
+                .doFinally(signal -> subscribers.decrementAndGet());
+    }
+
+    int subscriberCount() {
+        return subscribers.get();
+    }
+
+    // The sink requires serialized emission; publishers run on request and scheduler threads
+    private synchronized void publish(NotificationEvent event) {
+        if (recent.put(event.getType() + ":" + event.getId(), Boolean.TRUE) != null) {
+            log.debug("Notification event {} for {} already published", event.getType(), event.getId());
+            return;
+        }
+        Sinks.EmitResult result = sink.tryEmitNext(event);
+        if (result.isFailure() && result != Sinks.EmitResult.FAIL_ZERO_SUBSCRIBER) {
+            log.warn("Could not publish notification event {} for {}: {}", event.getType(), event.getId(), result);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.moviecat.service;
+
+import com.mongodb.client.model.changestream.OperationType;
+import com.moviecat.changes.ChangeStreamWatcher;
+import com.moviecat.changes.CollectionChangeEvent;
+import com.moviecat.model.Notification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Forwards notifications created or dismissed on any instance to this instance's stream subscribers.
+ *
+ * {@link ChangeStreamWatcher} delivers inserted and replaced notification documents (the services save
+ * dismissals as a replace); an insert is published as created and a replace of a dismissed notification as
+ * dismissed. Partial updates carry no document and are not forwarded. Without change streams (standalone
+ * server) subscribers only hear about changes made by the instance they are connected to.
+ */
+@Component
+@RequiredArgsConstructor
+class NotificationChangeRelay {
+
+    private final MongoConverter mongoConverter;
+    private final NotificationService notificationService;
+    private final NotificationBroadcaster notificationBroadcaster;
+
+    @EventListener
+    void onCollectionChange(CollectionChangeEvent event) {
+        if (!CollectionVersions.NOTIFICATIONS.equals(event.collection()) || event.document() == null) {
+            return;
+        }
+        Notification notification = mongoConverter.read(Notification.class, event.document());
+        boolean dismissed = Boolean.TRUE.equals(notification.getDismissed());
+        if (event.operationType() == OperationType.INSERT && !dismissed) {
+            notificationBroadcaster.created(notificationService.toResponse(notification));
+        } else if (event.operationType() == OperationType.REPLACE && dismissed) {
+            notificationBroadcaster.dismissed(notification.getId());
+        }
+    }
+}
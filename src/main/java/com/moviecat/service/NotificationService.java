@@ -4,6 +4,7 @@ import com.moviecat.dto.NotificationResponse;
 import com.moviecat.exception.ResourceNotFoundException;
 import com.moviecat.model.Notification;
 import com.moviecat.repository.NotificationRepository;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -17,9 +18,11 @@ import java.util.stream.Collectors;
 @Service
 @Slf4j
 @RequiredArgsConstructor
+@Observed
 public class NotificationService {
     
     private final NotificationRepository notificationRepository;
+    private final NotificationBroadcaster notificationBroadcaster;
     
     /**
      * Get all active (non-dismissed) notifications.
@@ -27,10 +30,10 @@ public class NotificationService {
      * @return list of active notifications
      */
     public List<NotificationResponse> getActiveNotifications() {
-        log.info("Getting active notifications");
+        log.debug("Getting active notifications");
         
         List<Notification> notifications = notificationRepository.findByDismissed(false);
-        log.info("Found {} active notifications", notifications.size());
+        log.debug("Found {} active notifications", notifications.size());
         
         return notifications.stream()
                 .map(this::toResponse)
@@ -38,7 +41,7 @@ public class NotificationService {
     }
     
     /**
-     * Dismiss a notification.
+     * Dismiss a notification and notify stream subscribers.
      * 
      * @param id notification ID
      * @throws RuntimeException if notification not found
@@ -51,13 +54,14 @@ public class NotificationService {
         
         notification.setDismissed(true);
         notificationRepository.save(notification);
+        notificationBroadcaster.dismissed(id);
         
         log.info("Notification dismissed successfully: {}", id);
     }
     
     /**
      * Create a new notification for a series with new seasons.
-     * Used internally by the season refresh scheduler.
+     * Used internally by the season refresh scheduler; stream subscribers receive it immediately.
      * 
      * @param seriesId series ID
      * @param seriesTitle series title
@@ -81,13 +85,15 @@ public class NotificationService {
         Notification savedNotification = notificationRepository.save(notification);
         log.info("Notification created successfully with id: {}", savedNotification.getId());
         
-        return toResponse(savedNotification);
+        NotificationResponse response = toResponse(savedNotification);
+        notificationBroadcaster.created(response);
+        return response;
     }
     
     /**
      * Convert Notification entity to NotificationResponse DTO.
      */
-    private NotificationResponse toResponse(Notification notification) {
+    NotificationResponse toResponse(Notification notification) {
         return NotificationResponse.builder()
                 .id(notification.getId())
                 .seriesId(notification.getSeriesId())
@@ -0,0 +1,91 @@
+package com.moviecat.service;
+
+import com.moviecat.dto.CatalogItemResponse;
+import com.moviecat.repository.ReactiveCatalogReadRepository;
+import com.moviecat.util.FieldSelection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+import static com.moviecat.service.CatalogQueries.*;
+
+/**
+ * Non-blocking catalog operations (combined movies and series).
+ * Same filters and order as {@link CatalogService}, read through the reactive MongoDB driver.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveCatalogService {
+    
+    private final ReactiveCatalogReadRepository reactiveCatalogReadRepository;
+    private final CatalogMetrics catalogMetrics;
+    
+    /**
+     * Get combined catalog of movies and series with optional filters.
+     * Movies and series are each sorted by MongoDB and merged in catalog order.
+     * 
+     * @param contentType filter by content type (MOVIE, SERIES, or null for both)
+     * @param genre filter by genre
+     * @param watchStatus filter by watch status
+     * @param addedBy filter by person who added
+     * @param hasNewSeasons filter series with new seasons
+     * @param seriesStatus filter by series status (COMPLETE, ONGOING)
+     * @param sortBy sort field (title, dateAdded, length)
+     * @param fields response fields to return
+     * @return catalog items in catalog order
+     */
+    public Flux<CatalogItemResponse> getCatalog(
+            String contentType,
+            String genre,
+            String watchStatus,
+            String addedBy,
+            Boolean hasNewSeasons,
+            String seriesStatus,
+            String sortBy,
+            FieldSelection fields) {
+        if (log.isDebugEnabled()) {
+            log.debug("Getting catalog (reactive) with filters - contentType: {}, genre: {}, watchStatus: {}, addedBy: {}, hasNewSeasons: {}, seriesStatus: {}, sortBy: {}",
+                    contentType, genre, watchStatus, addedBy, hasNewSeasons, seriesStatus, sortBy);
+        }
+        
+        List<Criteria> commonCriteria = commonCriteria(genre, watchStatus, addedBy);
+        Sort sort = sort(sortBy);
+        
+        Flux<CatalogItemResponse> movies = includesMovies(contentType)
+                ? reactiveCatalogReadRepository.findMovies(and(commonCriteria), movieProperties(fields), sort)
+                : Flux.empty();
+        Flux<CatalogItemResponse> series = includesSeries(contentType)
+                ? reactiveCatalogReadRepository.findSeries(
+                        and(seriesCriteria(commonCriteria, hasNewSeasons, seriesStatus)), seriesProperties(fields), sort)
+                : Flux.empty();
+        
+        return catalogMetrics.timed(Flux.mergeComparing(comparator(sortBy), movies, series), CatalogMetrics.LIST,
+                CatalogMetrics.filterTag(contentType, genre, watchStatus, addedBy, hasNewSeasons, seriesStatus), sortBy);
+    }
+    
+    /**
+     * Search catalog by title or other attributes.
+     * 
+     * @param query search query
+     * @param fields response fields to return
+     * @return matching catalog items in catalog order
+     */
+    public Flux<CatalogItemResponse> searchCatalog(String query, FieldSelection fields) {
+        log.debug("Searching catalog (reactive) with query: {}", query);
+        
+        Criteria criteria = searchCriteria(query);
+        Sort sort = sort(null);
+        
+        Flux<CatalogItemResponse> results = Flux.mergeComparing(comparator(null),
+                reactiveCatalogReadRepository.findMovies(criteria, movieProperties(fields), sort),
+                reactiveCatalogReadRepository.findSeries(criteria, seriesProperties(fields), sort));
+        return catalogMetrics.timed(results, CatalogMetrics.SEARCH,
+                CatalogMetrics.NO_FILTERS, null);
+    }
+}
@@ -0,0 +1,57 @@
+package com.moviecat.service;
+
+import com.moviecat.dto.NotificationResponse;
+import com.moviecat.exception.ResourceNotFoundException;
+import com.moviecat.repository.ReactiveNotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking notification operations.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveNotificationService {
+    
+    private final ReactiveNotificationRepository reactiveNotificationRepository;
+    private final NotificationService notificationService;
+    private final NotificationBroadcaster notificationBroadcaster;
+    
+    /**
+     * Get all active (non-dismissed) notifications.
+     * 
+     * @return active notifications
+     */
+    public Flux<NotificationResponse> getActiveNotifications() {
+        log.debug("Getting active notifications (reactive)");
+        
+        return reactiveNotificationRepository.findByDismissed(false)
+                .map(notificationService::toResponse);
+    }
+    
+    /**
+     * Dismiss a notification and notify stream subscribers.
+     * 
+     * @param id notification ID
+     * @return completion signal, or {@link ResourceNotFoundException} if notification not found
+     */
+    public Mono<Void> dismissNotification(String id) {
+        log.info("Dismissing notification (reactive): {}", id);
+        
+        return reactiveNotificationRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Notification", id)))
+                .flatMap(notification -> {
+                    notification.setDismissed(true);
+                    return reactiveNotificationRepository.save(notification);
+                })
+                .doOnSuccess(notification -> {
+                    notificationBroadcaster.dismissed(id);
+                    log.info("Notification dismissed successfully: {}", id);
+                })
+                .then();
+    }
+}
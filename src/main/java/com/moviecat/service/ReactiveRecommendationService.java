@@ -0,0 +1,43 @@
+package com.moviecat.service;
+
+import com.moviecat.dto.RecommendationResponse;
+import com.moviecat.model.WatchStatus;
+import com.moviecat.repository.ReactiveMovieRepository;
+import com.moviecat.repository.ReactiveSeriesRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Non-blocking recommendation operations.
+ * Loads candidates through the reactive repositories and applies the weighting of {@link RecommendationService}.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveRecommendationService {
+    
+    private final ReactiveMovieRepository reactiveMovieRepository;
+    private final ReactiveSeriesRepository reactiveSeriesRepository;
+    private final RecommendationService recommendationService;
+    
+    /**
+     * Get multiple recommendations for next movies/series to watch.
+     * 
+     * @param count number of recommendations to return
+     * @param addedBy filter by user who added the content (null for all users)
+     * @return list of recommended movies or series
+     */
+    public Mono<List<RecommendationResponse>> getRecommendations(int count, String addedBy) {
+        log.debug("Getting {} recommendations (reactive) for user: {}", count, addedBy != null ? addedBy : "all");
+        
+        return Mono.zip(
+                        reactiveMovieRepository.findByWatchStatus(WatchStatus.UNWATCHED).collectList(),
+                        reactiveSeriesRepository.findByWatchStatus(WatchStatus.UNWATCHED).collectList())
+                .map(content -> recommendationService.selectRecommendations(
+                        content.getT1(), content.getT2(), count, addedBy));
+    }
+}
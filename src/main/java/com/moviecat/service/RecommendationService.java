@@ -4,6 +4,10 @@ import com.moviecat.dto.RecommendationResponse;
 import com.moviecat.model.*;
 import com.moviecat.repository.MovieRepository;
 import com.moviecat.repository.SeriesRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,10 +26,12 @@ import static com.moviecat.util.TmdbLinkUtil.buildTmdbLink;
 @Service
 @Slf4j
 @RequiredArgsConstructor
+@Observed
 public class RecommendationService {
     
     private final MovieRepository movieRepository;
     private final SeriesRepository seriesRepository;
+    private final MeterRegistry meterRegistry;
     private final Random random = new Random();
     
     /**
@@ -40,9 +46,47 @@ public class RecommendationService {
      * @return list of recommended movies or series
      */
     public List<RecommendationResponse> getRecommendations(int count, String addedBy) {
-        log.info("Getting {} recommendations for user: {}", count, addedBy != null ? addedBy : "all");
+        log.debug("Getting {} recommendations for user: {}", count, addedBy != null ? addedBy : "all");
         
-        List<WeightedItem> candidates = buildCandidateList(addedBy);
+        return selectRecommendations(
+                movieRepository.findByWatchStatus(WatchStatus.UNWATCHED), seriesRepository.findAll(), count, addedBy);
+    }
+    
+    /**
+     * Pick recommendations from already loaded content using the weighted random algorithm.
+     * Shared by the blocking and reactive read paths, which only differ in how content is loaded.
+     * Records selection time ({@code moviecat.recommendations.selection}) and the number of candidates
+     * ({@code moviecat.recommendations.candidates}), tagged by scope (all users or a single user).
+     * 
+     * @param unwatchedMovies unwatched movies
+     * @param series series to consider (only unwatched ones are recommended)
+     * @param count number of recommendations to return
+     * @param addedBy filter by user who added the content (null for all users)
+     * @return list of recommended movies or series
+     */
+    List<RecommendationResponse> selectRecommendations(List<Movie> unwatchedMovies, List<Series> series, 
+                                                       int count, String addedBy) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String scope = addedBy == null ? "all" : "user";
+        try {
+            return pickRecommendations(unwatchedMovies, series, count, addedBy, scope);
+        } finally {
+            sample.stop(Timer.builder("moviecat.recommendations.selection")
+                    .description("Time to weigh candidates and sample recommendations")
+                    .tag("scope", scope)
+                    .register(meterRegistry));
+        }
+    }
+    
+    private List<RecommendationResponse> pickRecommendations(List<Movie> unwatchedMovies, List<Series> series,
+                                                             int count, String addedBy, String scope) {
+        List<WeightedItem> candidates = buildCandidateList(unwatchedMovies, series, addedBy);
+        DistributionSummary.builder("moviecat.recommendations.candidates")
+                .description("Number of candidates considered for recommendations")
+                .baseUnit("items")
+                .tag("scope", scope)
+                .register(meterRegistry)
+                .record(candidates.size());
         
         if (candidates.isEmpty()) {
             log.warn("No unwatched content available for recommendation");
@@ -57,10 +101,12 @@ public class RecommendationService {
             WeightedItem selected = selectWeightedRandom(availableCandidates);
             availableCandidates.remove(selected);
             
-            log.info("Recommendation {} selected: {} (weight: {})", 
-                    i + 1,
-                    selected.movie != null ? selected.movie.getTitle() : selected.series.getTitle(),
-                    selected.weight);
+            if (log.isDebugEnabled()) {
+                log.debug("Recommendation {} selected: {} (weight: {})", 
+                        i + 1,
+                        selected.movie != null ? selected.movie.getTitle() : selected.series.getTitle(),
+                        selected.weight);
+            }
             
             if (selected.movie != null) {
                 recommendations.add(movieToRecommendation(selected.movie));
@@ -89,14 +135,15 @@ public class RecommendationService {
     /**
      * Build list of candidates with their weights.
      * 
+     * @param unwatchedMovies unwatched movies
+     * @param allSeries series to consider
      * @param addedBy filter by user who added the content (null for all users)
      * @return list of weighted items
      */
-    private List<WeightedItem> buildCandidateList(String addedBy) {
+    private List<WeightedItem> buildCandidateList(List<Movie> unwatchedMovies, List<Series> allSeries, String addedBy) {
         List<WeightedItem> candidates = new ArrayList<>();
         
-        // Get unwatched movies
-        List<Movie> unwatchedMovies = movieRepository.findByWatchStatus(WatchStatus.UNWATCHED);
+        // Unwatched movies
         for (Movie movie : unwatchedMovies) {
             if (addedBy == null || addedBy.equals(movie.getAddedBy())) {
                 double weight = calculateWeight(movie.getDateAdded(), movie.getPriority(), false);
@@ -104,8 +151,7 @@ public class RecommendationService {
             }
         }
         
-        // Get series with unwatched seasons
-        List<Series> allSeries = seriesRepository.findAll();
+        // Series with unwatched seasons
         for (Series series : allSeries) {
             if (series.getWatchStatus() == WatchStatus.UNWATCHED) {
                 if (addedBy == null || addedBy.equals(series.getAddedBy())) {
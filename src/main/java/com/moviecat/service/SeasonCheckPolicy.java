@@ -0,0 +1,114 @@
+package com.moviecat.service;
+
+import com.moviecat.dto.tmdb.TmdbSeriesDetails;
+import com.moviecat.model.Series;
+import com.moviecat.model.SeriesStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides when a series is next due for a season check, from what the last check learned.
+ *
+ * In order of precedence:
+ * - an episode or premiere airs within one returning interval: check every {@code interval.premiere}
+ * - ended or canceled ({@link SeriesStatus#COMPLETE}): check every {@code interval.ended}
+ * - a new season was found or an episode aired within {@code recent-window}: check every {@code interval.recent}
+ * - otherwise (returning, on hiatus, unknown status): check every {@code interval.returning}
+ *
+ * Intervals are jittered by up to 10% either way, so series added or refreshed together drift apart
+ * and the TMDB load stays spread out.
+ */
+@Component
+public class SeasonCheckPolicy {
+
+    private static final double JITTER = 0.1;
+
+    private final Duration premiereInterval;
+    private final Duration recentInterval;
+    private final Duration returningInterval;
+    private final Duration endedInterval;
+    private final Duration recentWindow;
+    private final Duration retryDelay;
+
+    public SeasonCheckPolicy(@Value("${scheduler.season-refresh.interval.premiere:12h}") Duration premiereInterval,
+                             @Value("${scheduler.season-refresh.interval.recent:2d}") Duration recentInterval,
+                             @Value("${scheduler.season-refresh.interval.returning:7d}") Duration returningInterval,
+                             @Value("${scheduler.season-refresh.interval.ended:30d}") Duration endedInterval,
+                             @Value("${scheduler.season-refresh.recent-window:60d}") Duration recentWindow,
+                             @Value("${scheduler.season-refresh.retry-delay:6h}") Duration retryDelay) {
+        this.premiereInterval = premiereInterval;
+        this.recentInterval = recentInterval;
+        this.returningInterval = returningInterval;
+        this.endedInterval = endedInterval;
+        this.recentWindow = recentWindow;
+        this.retryDelay = retryDelay;
+    }
+
+    /**
+     * @param series series as updated by the check (status, last season change)
+     * @param details TMDB details the check fetched
+     * @param now time of the check
+     * @return when to check the series next
+     */
+    public LocalDateTime nextCheck(Series series, TmdbSeriesDetails details, LocalDateTime now) {
+        return now.plus(jitter(interval(series, details, now)));
+    }
+
+    /**
+     * @param now time of the failed check
+     * @return when to retry a series whose check failed
+     */
+    public LocalDateTime retryAt(LocalDateTime now) {
+        return now.plus(jitter(retryDelay));
+    }
+
+    Duration interval(Series series, TmdbSeriesDetails details, LocalDateTime now) {
+        LocalDate today = now.toLocalDate();
+        LocalDate nextAirDate = nextAirDate(details, today);
+        if (nextAirDate != null && !nextAirDate.isAfter(now.plus(returningInterval).toLocalDate())) {
+            return premiereInterval;
+        }
+        if (series.getSeriesStatus() == SeriesStatus.COMPLETE) {
+            return endedInterval;
+        }
+        LocalDateTime recentSince = now.minus(recentWindow);
+        LocalDate lastAirDate = parseDate(details.getLastAirDate());
+        boolean changedRecently = series.getLastSeasonChange() != null && series.getLastSeasonChange().isAfter(recentSince);
+        boolean airedRecently = lastAirDate != null && lastAirDate.isAfter(recentSince.toLocalDate());
+        return changedRecently || airedRecently ? recentInterval : returningInterval;
+    }
+
+    private static LocalDate nextAirDate(TmdbSeriesDetails details, LocalDate today) {
+        if (details.getNextEpisodeToAir() != null) {
+            LocalDate nextEpisode = parseDate(details.getNextEpisodeToAir().getAirDate());
+            if (nextEpisode != null) {
+                return nextEpisode;
+            }
+        }
+        // Announced series that have not premiered yet carry the premiere as first air date
+        LocalDate firstAirDate = parseDate(details.getFirstAirDate());
+        return firstAirDate != null && !firstAirDate.isBefore(today) ? firstAirDate : null;
+    }
+
+    private static LocalDate parseDate(String date) {
+        if (date == null || date.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static Duration jitter(Duration interval) {
+        double factor = 1 + ThreadLocalRandom.current().nextDouble(-JITTER, JITTER);
+        return Duration.ofSeconds(Math.round(interval.toSeconds() * factor));
+    }
+}
@@ -2,14 +2,23 @@ package com.moviecat.service;
 
 import static com.moviecat.util.TmdbLinkUtil.*;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.moviecat.exception.ResourceNotFoundException;
+import com.moviecat.util.FieldSelection;
+import com.moviecat.util.IntHashSet;
 import com.moviecat.util.TmdbLinkUtil;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Service;
 
+import com.moviecat.cluster.Shard;
 import com.moviecat.dto.BulkRefreshResponse;
 import com.moviecat.dto.SeriesRequest;
 import com.moviecat.dto.SeriesResponse;
@@ -19,6 +28,9 @@ import com.moviecat.model.Series;
 import com.moviecat.model.SeriesStatus;
 import com.moviecat.model.WatchStatus;
 import com.moviecat.repository.SeriesRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.annotation.Observed;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,11 +41,20 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 @Slf4j
 @RequiredArgsConstructor
+@Observed
 public class SeriesService {
 
+    static final String TMDB_CHANGES_CHECKPOINT = "tmdb-tv-changes";
+    // TMDB serves at most 14 days of changes, counting both the start and the end day
+    private static final Duration TMDB_CHANGES_WINDOW = Duration.ofDays(13);
+
     private final SeriesRepository seriesRepository;
     private final TmdbApiService tmdbApiService;
     private final NotificationService notificationService;
+    private final SeasonCheckPolicy seasonCheckPolicy;
+    private final SyncCheckpoints syncCheckpoints;
+    private final CollectionVersions collectionVersions;
+    private final MeterRegistry meterRegistry;
     
     /**
      * Add a new TV series to the catalog.
@@ -99,7 +120,7 @@ public class SeriesService {
      * @throws RuntimeException if series not found
      */
     public SeriesResponse getSeriesById(String id) {
-        log.info("Getting series by id: {}", id);
+        log.debug("Getting series by id: {}", id);
         
         Series series = seriesRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Series", id));
@@ -108,21 +129,38 @@ public class SeriesService {
     }
     
     /**
-     * Get all series.
+     * Get all series, loading only the fields needed for the selected response fields.
      * 
+     * @param fields response fields to return
      * @return list of all series
      */
-    public List<SeriesResponse> getAllSeries() {
-        log.info("Getting all series");
+    public List<SeriesResponse> getAllSeries(FieldSelection fields) {
+        log.debug("Getting all series");
         
-        List<Series> seriesList = seriesRepository.findAll();
-        log.info("Found {} series", seriesList.size());
+        List<Series> seriesList = seriesRepository.findProjected(null,
+                fields.toProperties(field -> field.equals("link") ? "tmdbId" : field));
+        log.debug("Found {} series", seriesList.size());
         
         return seriesList.stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
     }
     
+    /**
+     * Stream all series from a MongoDB cursor, loading only the fields needed for the selected response fields.
+     * The caller must close the stream.
+     * 
+     * @param fields response fields to return
+     * @return stream of all series
+     */
+    public Stream<SeriesResponse> streamAllSeries(FieldSelection fields) {
+        log.debug("Streaming all series");
+        
+        return seriesRepository.streamProjected(null,
+                        fields.toProperties(field -> field.equals("link") ? "tmdbId" : field))
+                .map(this::toResponse);
+    }
+    
     /**
      * Update series information.
      * 
@@ -333,7 +371,9 @@ public class SeriesService {
     
     /**
      * Manually trigger season refresh for a series.
-     * This is a placeholder - actual implementation would call external API service.
+     * The result is only written if no other refresh checked the series meanwhile (another instance, or a
+     * scheduler that stalled past its lease); the losing refresh writes nothing, creates no notification and
+     * returns the series as the winner left it.
      * 
      * @param id series ID
      * @return updated series
@@ -349,11 +389,13 @@ public class SeriesService {
         if (tmdbId == null) {
             throw new RuntimeException("Series requires a valid TMDB link or ID to refresh seasons");
         }
+        LocalDateTime previousCheck = series.getLastSeasonCheck();
 
         TmdbSeriesDetails details = tmdbApiService.getSeriesDetails(tmdbId);
         int targetSeasonCount = normalizeSeasonCount(details.getNumberOfSeasons());
 
         List<Season> seasons = ensureSeasonList(series);
+        VisibleCheckFields before = VisibleCheckFields.of(series);
         int previousMaxSeason = seasons.stream()
                 .map(Season::getSeasonNumber)
                 .filter(Objects::nonNull)
@@ -381,15 +423,34 @@ public class SeriesService {
         seasons.sort(Comparator.comparing(Season::getSeasonNumber, Comparator.nullsLast(Integer::compareTo)));
 
         boolean newSeasonsDetected = targetSeasonCount > previousMaxSeason;
+        LocalDateTime now = LocalDateTime.now();
         series.setHasNewSeasons(newSeasonsDetected);
         series.setTotalAvailableSeasons(targetSeasonCount);
         series.setSeriesStatus(mapSeriesStatus(details.getStatus()));
-        series.setLastSeasonCheck(LocalDateTime.now());
+        series.setLastSeasonCheck(now);
+        if (newSeasonsDetected) {
+            series.setLastSeasonChange(now);
+        }
+        series.setNextSeasonCheck(seasonCheckPolicy.nextCheck(series, details, now));
         if (series.getTmdbId() == null) {
             series.setTmdbId(tmdbId);
         }
         series.updateSeriesWatchStatus();
-        Series updatedSeries = seriesRepository.save(series);
+        // Most checks find nothing new; writing only the check times then leaves the series version, and
+        // with it cached catalog pages and ETags, alone (the change stream ignores these fields as well)
+        boolean visibleChange = !before.equals(VisibleCheckFields.of(series));
+        boolean written = visibleChange
+                ? seriesRepository.saveSeasonCheck(series, previousCheck)
+                : seriesRepository.recordSeasonCheck(id, previousCheck, now, series.getNextSeasonCheck());
+        if (!written) {
+            log.info("Series {} was refreshed concurrently, keeping that refresh's result", id);
+            return toResponse(seriesRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Series", id)));
+        }
+        if (visibleChange) {
+            // A partial update publishes no mapping event
+            collectionVersions.bump(CollectionVersions.SERIES);
+        }
 
         // Create notification if new seasons detected and series has watched content
         if (newSeasonsDetected && hasWatchedSeasons(series)) {
@@ -400,79 +461,155 @@ public class SeriesService {
 
         log.info("Season refresh completed for series: {}. Added missing seasons: {}, removed extras: {}",
                 id, addedSeasons, removedSeasons);
-        return toResponse(updatedSeries);
+        return toResponse(series);
     }
 
     /**
-     * Refresh all series that have a TMDB ID.
+     * Refresh the series that are due for a season check (see {@link SeasonCheckPolicy}), most overdue first.
+     * Each refresh schedules the series' next check; a failed one is retried after the policy's retry delay.
+     * Timed in {@code moviecat.series.refresh} like the bulk refresh.
      * 
-     * @return bulk refresh summary
+     * @param shard part of the series (by ID) to refresh
+     * @param limit maximum number of series to refresh
+     * @param beforeEach check run before each series; an exception from it stops the refresh
+     * @return refresh summary
      */
-    public BulkRefreshResponse refreshAllSeriesWithTmdbId() {
-        log.info("Starting bulk refresh for all series with TMDB ID");
-        
-        List<Series> allSeries = seriesRepository.findAll();
-        List<Series> seriesWithTmdbId = allSeries.stream()
-                .filter(s -> resolveTmdbId(s) != null)
+    public BulkRefreshResponse refreshDueSeries(Shard shard, int limit, Runnable beforeEach) {
+        // Due series of other shards are skipped, so fetch enough to fill this shard's batch
+        List<String> dueIds = seriesRepository.findIdsDueForSeasonCheck(LocalDateTime.now(), limit * shard.count())
+                .stream()
+                .filter(shard::owns)
+                .limit(limit)
                 .toList();
         
+        BulkRefreshResponse response = refreshEach(dueIds, beforeEach);
+        if (!dueIds.isEmpty()) {
+            log.info("Due season checks completed (shard {}). Total: {}, Success: {}, Failed: {}, Updated: {}",
+                    shard, response.getTotalProcessed(), response.getSuccessCount(),
+                    response.getFailureCount(), response.getUpdatedCount());
+        }
+        return response;
+    }
+    
+    /**
+     * Make the series that changed on TMDB since the last successful changed-only refresh due for a season
+     * check now: one paged /tv/changes call for the window, intersected with the tracked TMDB IDs, instead of
+     * one /tv/{id} call per tracked series (see {@link #findSeriesIdsToRefreshForChanges}).
+     * The series are then refreshed by {@link #refreshDueSeries} like any other due series, so the two passes
+     * never work on the same series at once. The window advances once the series are scheduled.
+     * 
+     * @return number of changed series that were not due yet
+     */
+    public long scheduleChangedSeries() {
+        Instant startedAt = Instant.now();
+        List<String> changedIds = findSeriesIdsToRefreshForChanges(startedAt);
+        
+        long scheduled = changedIds.isEmpty() ? 0 : seriesRepository.markDueForSeasonCheck(changedIds, LocalDateTime.now());
+        log.info("Changed series scheduled for a season check. Changed: {}, not due before: {}",
+                changedIds.size(), scheduled);
+        
+        recordChangesRefreshed(startedAt);
+        return scheduled;
+    }
+    
+    /**
+     * Find the series a changed-only refresh starting now has to refresh: those whose TMDB ID is in TMDB's
+     * /tv/changes feed since the last successful changed-only refresh. All series with a TMDB ID when there
+     * is no previous refresh or it is older than TMDB's changes window (14 days).
+     * 
+     * @param startedAt start of the changed-only refresh
+     * @return IDs of the series to refresh
+     */
+    public List<String> findSeriesIdsToRefreshForChanges(Instant startedAt) {
+        Optional<Instant> lastSuccess = syncCheckpoints.lastSuccess(TMDB_CHANGES_CHECKPOINT)
+                .filter(since -> since.isAfter(startedAt.minus(TMDB_CHANGES_WINDOW)));
+        if (lastSuccess.isEmpty()) {
+            log.info("No TMDB changes checkpoint within the last {} days, refreshing all series",
+                    TMDB_CHANGES_WINDOW.toDays());
+            return findSeriesIdsWithTmdbId();
+        }
+        
+        // TMDB windows are whole UTC days, so the day of the last run is fetched again
+        LocalDate startDate = LocalDate.ofInstant(lastSuccess.get(), ZoneOffset.UTC);
+        IntHashSet changedTmdbIds = tmdbApiService.getChangedSeriesIds(startDate, LocalDate.ofInstant(startedAt, ZoneOffset.UTC));
+        
+        List<String> changedIds = seriesRepository.findProjected(Criteria.where("tmdbId").ne(null), List.of("id", "tmdbId"))
+                .stream()
+                .filter(series -> changedTmdbIds.contains(series.getTmdbId()))
+                .map(Series::getId)
+                .toList();
+        log.info("TMDB lists {} changed series since {}, {} of them tracked", changedTmdbIds.size(), startDate, changedIds.size());
+        return changedIds;
+    }
+    
+    /**
+     * Advance the changed-only refresh window after a refresh that handled every changed series.
+     * 
+     * @param startedAt start of that refresh
+     */
+    public void recordChangesRefreshed(Instant startedAt) {
+        syncCheckpoints.recordSuccess(TMDB_CHANGES_CHECKPOINT, startedAt);
+    }
+    
+    /**
+     * @return IDs of all series with a TMDB ID
+     */
+    public List<String> findSeriesIdsWithTmdbId() {
+        return seriesRepository.findProjected(Criteria.where("tmdbId").ne(null), List.of("id")).stream()
+                .map(Series::getId)
+                .toList();
+    }
+    
+    private BulkRefreshResponse refreshEach(List<String> ids, Runnable beforeEach) {
         int successCount = 0;
         int failureCount = 0;
         int updatedCount = 0;
-        int notificationsCreated = 0;
         
-        for (Series series : seriesWithTmdbId) {
+        for (String id : ids) {
+            beforeEach.run();
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = "failed";
             try {
-                int previousMaxSeason = series.getSeasons() != null ? 
-                        series.getSeasons().stream()
-                                .map(Season::getSeasonNumber)
-                                .filter(Objects::nonNull)
-                                .max(Integer::compareTo)
-                                .orElse(0) : 0;
-                
-                boolean hadWatchedSeasons = hasWatchedSeasons(series);
-                
-                refreshSeasons(series.getId());
+                SeriesResponse refreshed = refreshSeasons(id);
                 successCount++;
-                
-                Series updatedSeries = seriesRepository.findById(series.getId()).orElse(null);
-                if (updatedSeries != null) {
-                    int newMaxSeason = updatedSeries.getSeasons() != null ?
-                            updatedSeries.getSeasons().stream()
-                                    .map(Season::getSeasonNumber)
-                                    .filter(Objects::nonNull)
-                                    .max(Integer::compareTo)
-                                    .orElse(0) : 0;
-                    
-                    if (newMaxSeason > previousMaxSeason) {
-                        updatedCount++;
-                        
-                        // Create notification if series has watched content
-                        if (hadWatchedSeasons) {
-                            int newSeasonsCount = newMaxSeason - previousMaxSeason;
-                            log.info("Creating notification for series {} with {} new season(s)", updatedSeries.getTitle(), newSeasonsCount);
-                            notificationService.createNotification(updatedSeries.getId(), updatedSeries.getTitle(), newSeasonsCount);
-                            notificationsCreated++;
-                        }
-                    }
+                outcome = Boolean.TRUE.equals(refreshed.getHasNewSeasons()) ? "updated" : "unchanged";
+                if ("updated".equals(outcome)) {
+                    updatedCount++;
                 }
             } catch (Exception e) {
-                log.error("Failed to refresh series {}: {}", series.getId(), e.getMessage());
+                log.error("Failed to refresh series {}: {}", id, e.getMessage());
                 failureCount++;
+                seriesRepository.scheduleSeasonCheck(id, seasonCheckPolicy.retryAt(LocalDateTime.now()));
+            } finally {
+                sample.stop(Timer.builder("moviecat.series.refresh")
+                        .description("Time to refresh one series from TMDB during a bulk refresh")
+                        .tag("outcome", outcome)
+                        .register(meterRegistry));
             }
         }
         
-        log.info("Bulk refresh completed. Total: {}, Success: {}, Failed: {}, Updated: {}, Notifications: {}",
-                seriesWithTmdbId.size(), successCount, failureCount, updatedCount, notificationsCreated);
-        
         return BulkRefreshResponse.builder()
-                .totalProcessed(seriesWithTmdbId.size())
+                .totalProcessed(ids.size())
                 .successCount(successCount)
                 .failureCount(failureCount)
                 .updatedCount(updatedCount)
                 .build();
     }
 
+    /**
+     * The fields a season check can change that API responses show, apart from the check times.
+     */
+    private record VisibleCheckFields(List<Season> seasons, WatchStatus watchStatus, Integer totalAvailableSeasons,
+                                      Boolean hasNewSeasons, SeriesStatus seriesStatus, Integer tmdbId) {
+
+        static VisibleCheckFields of(Series series) {
+            // Seasons are only added, removed or reordered by a check, so copying the list is enough
+            return new VisibleCheckFields(new ArrayList<>(series.getSeasons()), series.getWatchStatus(),
+                    series.getTotalAvailableSeasons(), series.getHasNewSeasons(), series.getSeriesStatus(),
+                    series.getTmdbId());
+        }
+    }
+
     private List<Season> ensureSeasonList(Series series) {
         if (series.getSeasons() == null) {
             series.setSeasons(new ArrayList<>());
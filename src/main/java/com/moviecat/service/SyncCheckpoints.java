@@ -0,0 +1,49 @@
+package com.moviecat.service;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * Named high-water marks of incremental syncs with external sources, in the {@code syncCheckpoints}
+ * collection, so the next run (on any instance) only asks for what changed since the last successful one.
+ */
+@Component
+@RequiredArgsConstructor
+public class SyncCheckpoints {
+
+    static final String COLLECTION = "syncCheckpoints";
+
+    private final MongoDatabaseFactory mongoDatabaseFactory;
+
+    /**
+     * @param name checkpoint name
+     * @return start time of the last successful run, empty if there has been none
+     */
+    public Optional<Instant> lastSuccess(String name) {
+        Document checkpoint = collection().find(Filters.eq("_id", name)).first();
+        return Optional.ofNullable(checkpoint).map(document -> document.getDate("lastSuccess")).map(Date::toInstant);
+    }
+
+    /**
+     * @param name checkpoint name
+     * @param runStartedAt start time of the run that just succeeded; changes made during the run are seen again next time
+     */
+    public void recordSuccess(String name, Instant runStartedAt) {
+        collection().updateOne(Filters.eq("_id", name), Updates.set("lastSuccess", Date.from(runStartedAt)),
+                new UpdateOptions().upsert(true));
+    }
+
+    private MongoCollection<Document> collection() {
+        return mongoDatabaseFactory.getMongoDatabase().getCollection(COLLECTION);
+    }
+}
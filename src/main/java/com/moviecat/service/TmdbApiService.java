@@ -1,30 +1,51 @@
 package com.moviecat.service;
 
+import com.moviecat.dto.tmdb.TmdbAppend;
+import com.moviecat.dto.tmdb.TmdbChange;
+import com.moviecat.dto.tmdb.TmdbChangesResponse;
 import com.moviecat.dto.tmdb.TmdbMovieDetails;
 import com.moviecat.dto.tmdb.TmdbSearchResponse;
 import com.moviecat.dto.tmdb.TmdbSearchResult;
 import com.moviecat.dto.tmdb.TmdbSeriesDetails;
+import com.moviecat.exception.ExternalApiException;
 import com.moviecat.model.ContentType;
+import com.moviecat.util.IntHashSet;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriBuilder;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Service for interacting with TMDB (The Movie Database) API.
  * Provides methods for searching and retrieving detailed information about movies and TV series.
+ * Calls use URI templates, so the {@code http.client.requests} metric reports latency and status per TMDB endpoint,
+ * and go through the {@link TmdbRateLimiter}.
  */
 @Service
 @Slf4j
 @RequiredArgsConstructor
+@Observed
 public class TmdbApiService {
     
+    /**
+     * Longest window TMDB accepts for a changes list; changes are kept for as long.
+     */
+    static final int MAX_CHANGES_WINDOW_DAYS = 14;
+    
     private final WebClient tmdbWebClient;
+    private final TmdbRateLimiter rateLimiter;
+    private final TmdbTitleIndex tmdbTitleIndex;
     
     @Value("${tmdb.image.base-url}")
     private String tmdbImageBaseUrl;
@@ -37,14 +58,38 @@ public class TmdbApiService {
      * @return list of search results
      */
     public List<TmdbSearchResult> searchByTitle(String title, ContentType contentType) {
+        TmdbSearchResponse response = searchFirstPage(title, contentType);
+        
+        if (response == null || response.getResults() == null) {
+            log.warn("No results found for title: {}", title);
+            return List.of();
+        }
+        return response.getResults();
+    }
+    
+    /**
+     * Search for movies or TV series by title and return the first page with the result totals.
+     * Answered from the offline index ({@link TmdbTitleIndex}) when it has matches, otherwise by the API.
+     * 
+     * @param title search query
+     * @param contentType MOVIE or SERIES
+     * @return first page of results, or null if TMDB answered with an error
+     */
+    public TmdbSearchResponse searchFirstPage(String title, ContentType contentType) {
+        Optional<TmdbSearchResponse> offline = tmdbTitleIndex.search(title, contentType);
+        if (offline.isPresent()) {
+            log.info("Found {} results for title: {} in the offline index", offline.get().getResults().size(), title);
+            return offline.get();
+        }
+        
         log.info("Searching TMDB for {} with title: {}", contentType, title);
         
         String endpoint = contentType == ContentType.MOVIE ? "/search/movie" : "/search/tv";
         
         try {
+            rateLimiter.acquire();
             TmdbSearchResponse response = tmdbWebClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path(endpoint)
+                    .uri(endpoint, uriBuilder -> uriBuilder
                             .queryParam("query", title)
                             .queryParam("language", "en-US")
                             .queryParam("page", 1)
@@ -57,13 +102,10 @@ public class TmdbApiService {
                     })
                     .block();
             
-            if (response == null || response.getResults() == null) {
-                log.warn("No results found for title: {}", title);
-                return List.of();
+            if (response != null && response.getResults() != null) {
+                log.info("Found {} results for title: {}", response.getResults().size(), title);
             }
-            
-            log.info("Found {} results for title: {}", response.getResults().size(), title);
-            return response.getResults();
+            return response;
             
         } catch (Exception ex) {
             log.error("Error searching TMDB for title: {}", title, ex);
@@ -78,13 +120,24 @@ public class TmdbApiService {
      * @return movie details
      */
     public TmdbMovieDetails getMovieDetails(Integer tmdbId) {
-        log.info("Fetching movie details from TMDB for ID: {}", tmdbId);
+        return getMovieDetails(tmdbId, Set.of());
+    }
+    
+    /**
+     * Get detailed movie information by TMDB ID, with sub-resources embedded in the same call.
+     * 
+     * @param tmdbId TMDB movie ID
+     * @param append sub-resources to embed via append_to_response
+     * @return movie details
+     */
+    public TmdbMovieDetails getMovieDetails(Integer tmdbId, Set<TmdbAppend> append) {
+        log.info("Fetching movie details from TMDB for ID: {} (append: {})", tmdbId, append);
         
         try {
+            rateLimiter.acquire();
             TmdbMovieDetails details = tmdbWebClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/movie/{id}")
-                            .queryParam("language", "en-US")
+                    .uri("/movie/{id}", uriBuilder -> withAppend(uriBuilder
+                            .queryParam("language", "en-US"), append)
                             .build(tmdbId))
                     .retrieve()
                     .bodyToMono(TmdbMovieDetails.class)
@@ -115,13 +168,25 @@ public class TmdbApiService {
      * @return series details
      */
     public TmdbSeriesDetails getSeriesDetails(Integer tmdbId) {
-        log.info("Fetching series details from TMDB for ID: {}", tmdbId);
+        return getSeriesDetails(tmdbId, Set.of());
+    }
+    
+    /**
+     * Get detailed TV series information by TMDB ID, with sub-resources embedded in the same call.
+     * Season summaries are always part of the details.
+     * 
+     * @param tmdbId TMDB series ID
+     * @param append sub-resources to embed via append_to_response
+     * @return series details
+     */
+    public TmdbSeriesDetails getSeriesDetails(Integer tmdbId, Set<TmdbAppend> append) {
+        log.info("Fetching series details from TMDB for ID: {} (append: {})", tmdbId, append);
         
         try {
+            rateLimiter.acquire();
             TmdbSeriesDetails details = tmdbWebClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/tv/{id}")
-                            .queryParam("language", "en-US")
+                    .uri("/tv/{id}", uriBuilder -> withAppend(uriBuilder
+                            .queryParam("language", "en-US"), append)
                             .build(tmdbId))
                     .retrieve()
                     .bodyToMono(TmdbSeriesDetails.class)
@@ -145,6 +210,88 @@ public class TmdbApiService {
         }
     }
     
+    /**
+     * Get the IDs of all TV series changed on TMDB within a date window, across all pages of /tv/changes.
+     * TMDB keeps changes for 14 days and accepts windows of at most 14 days, so an earlier start is moved
+     * up to 14 days before the end; callers needing older changes must refresh everything instead.
+     * 
+     * @param startDate first day of the window (inclusive)
+     * @param endDate last day of the window (inclusive)
+     * @return TMDB IDs of the changed series
+     * @throws ExternalApiException if any page cannot be fetched, since a partial list would miss changes
+     */
+    public IntHashSet getChangedSeriesIds(LocalDate startDate, LocalDate endDate) {
+        LocalDate earliestStart = endDate.minusDays(MAX_CHANGES_WINDOW_DAYS);
+        LocalDate windowStart = startDate.isBefore(earliestStart) ? earliestStart : startDate;
+        if (!windowStart.equals(startDate)) {
+            log.warn("TV changes window from {} exceeds TMDB's {} days, fetching from {}",
+                    startDate, MAX_CHANGES_WINDOW_DAYS, windowStart);
+        }
+        log.info("Fetching TV changes from TMDB for {} to {}", windowStart, endDate);
+        
+        IntHashSet changedIds = new IntHashSet(1024);
+        int page = 1;
+        int totalPages = 1;
+        do {
+            int currentPage = page;
+            TmdbChangesResponse response;
+            rateLimiter.acquire();
+            try {
+                response = tmdbWebClient.get()
+                        .uri("/tv/changes", uriBuilder -> uriBuilder
+                                .queryParam("start_date", windowStart)
+                                .queryParam("end_date", endDate)
+                                .queryParam("page", currentPage)
+                                .build())
+                        .retrieve()
+                        .bodyToMono(TmdbChangesResponse.class)
+                        .block();
+            } catch (WebClientResponseException ex) {
+                throw new ExternalApiException("TMDB", ex.getStatusCode().value(),
+                        "Failed to fetch TV changes page " + currentPage + ": " + ex.getMessage());
+            } catch (Exception ex) {
+                throw new ExternalApiException("TMDB", "Failed to fetch TV changes page " + currentPage, ex);
+            }
+            
+            if (response == null) {
+                throw new ExternalApiException("TMDB", "Empty TV changes page " + currentPage);
+            }
+            // An empty page may come back as "results": null
+            if (response.getResults() != null) {
+                for (TmdbChange change : response.getResults()) {
+                    if (change.getId() != null) {
+                        changedIds.add(change.getId());
+                    }
+                }
+            }
+            if (response.getTotalPages() != null) {
+                totalPages = response.getTotalPages();
+            }
+            page++;
+        } while (page <= totalPages);
+        
+        log.info("TMDB reports {} changed series in {} page(s)", changedIds.size(), totalPages);
+        return changedIds;
+    }
+    
+    /**
+     * Add append_to_response for the requested sub-resources. Images are filtered by the request language
+     * unless include_image_language says otherwise, so English and text-free images are asked for.
+     */
+    private static UriBuilder withAppend(UriBuilder uriBuilder, Set<TmdbAppend> append) {
+        if (append.isEmpty()) {
+            return uriBuilder;
+        }
+        uriBuilder.queryParam("append_to_response", append.stream()
+                .sorted()
+                .map(TmdbAppend::getParameter)
+                .collect(Collectors.joining(",")));
+        if (append.contains(TmdbAppend.IMAGES)) {
+            uriBuilder.queryParam("include_image_language", "en,null");
+        }
+        return uriBuilder;
+    }
+    
     /**
      * Build full image URL from TMDB poster path.
      * 
@@ -0,0 +1,148 @@
+package com.moviecat.service;
+
+import com.moviecat.dto.TmdbBatchEnrichmentRequest;
+import com.moviecat.dto.TmdbBatchEnrichmentResult;
+import com.moviecat.dto.TmdbEnrichmentRequest;
+import com.moviecat.dto.TmdbEnrichmentResponse;
+import com.moviecat.exception.ResourceNotFoundException;
+import com.moviecat.model.ContentType;
+import io.micrometer.observation.annotation.Observed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Service for enriching many movies or series from TMDB in one request.
+ *
+ * Items are enriched (search, details, cover download) up to {@code tmdb.enrich.batch.concurrency} at a time,
+ * with all TMDB calls going through the shared {@link TmdbRateLimiter}. Results are returned in the order items
+ * finish and stored as they finish (see {@link EnrichmentBatches}), so a batch that was cut off can be resumed.
+ */
+@Service
+@Slf4j
+@Observed
+public class TmdbBatchEnrichmentService {
+
+    private final TmdbEnrichmentService tmdbEnrichmentService;
+    private final EnrichmentBatches enrichmentBatches;
+    private final int concurrency;
+    private final int maxItems;
+
+    public TmdbBatchEnrichmentService(TmdbEnrichmentService tmdbEnrichmentService,
+                                      EnrichmentBatches enrichmentBatches,
+                                      @Value("${tmdb.enrich.batch.concurrency:8}") int concurrency,
+                                      @Value("${tmdb.enrich.batch.max-items:1000}") int maxItems) {
+        this.tmdbEnrichmentService = tmdbEnrichmentService;
+        this.enrichmentBatches = enrichmentBatches;
+        this.concurrency = concurrency;
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * A started batch.
+     *
+     * @param batchId ID to resume the batch with
+     * @param results item results, produced while the stream is consumed; closing the stream stops the batch
+     */
+    public record BatchRun(String batchId, Stream<TmdbBatchEnrichmentResult> results) {
+    }
+
+    /**
+     * Start or resume a batch enrichment.
+     *
+     * @param request content type, items and optionally the batch to resume
+     * @return the batch ID and the stream of item results
+     * @throws IllegalArgumentException if the request is invalid or does not match the batch to resume
+     * @throws ResourceNotFoundException if the batch to resume does not exist
+     */
+    public BatchRun enrich(TmdbBatchEnrichmentRequest request) {
+        List<TmdbEnrichmentRequest> items = validate(request);
+
+        String batchId;
+        Map<Integer, TmdbBatchEnrichmentResult> stored;
+        if (request.getBatchId() != null) {
+            EnrichmentBatches.Batch batch = enrichmentBatches.find(request.getBatchId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Enrichment batch", request.getBatchId()));
+            if (batch.contentType() != request.getContentType() || batch.total() != items.size()) {
+                throw new IllegalArgumentException("Batch " + request.getBatchId() + " has " + batch.total() + " "
+                        + batch.contentType() + " items; resume it with the same items");
+            }
+            batchId = request.getBatchId();
+            stored = batch.results();
+        } else {
+            batchId = enrichmentBatches.create(request.getContentType(), items.size());
+            stored = Map.of();
+        }
+
+        // Items that already succeeded are returned as stored; new and failed items are enriched
+        List<TmdbBatchEnrichmentResult> done = stored.values().stream()
+                .filter(result -> result.getError() == null)
+                .sorted(Comparator.comparingInt(TmdbBatchEnrichmentResult::getIndex))
+                .toList();
+        List<Integer> pending = IntStream.range(0, items.size())
+                .filter(index -> !stored.containsKey(index) || stored.get(index).getError() != null)
+                .boxed()
+                .toList();
+        log.info("Enrichment batch {}: {} {} items, {} already done", batchId, items.size(), request.getContentType(), done.size());
+
+        Flux<TmdbBatchEnrichmentResult> enriched = Flux.fromIterable(pending)
+                .flatMap(index -> Mono.fromCallable(() -> enrichItem(batchId, request.getContentType(), index, items.get(index)))
+                        .subscribeOn(Schedulers.boundedElastic()), concurrency)
+                .doOnComplete(() -> log.info("Enrichment batch {} finished", batchId));
+        return new BatchRun(batchId, Stream.concat(done.stream(), enriched.toStream(concurrency)));
+    }
+
+    private List<TmdbEnrichmentRequest> validate(TmdbBatchEnrichmentRequest request) {
+        if (request.getContentType() == null) {
+            throw new IllegalArgumentException("Content type is required");
+        }
+        List<TmdbEnrichmentRequest> items = request.getItems();
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("At least one item is required");
+        }
+        if (items.size() > maxItems) {
+            throw new IllegalArgumentException("At most " + maxItems + " items per batch, got " + items.size());
+        }
+        for (int i = 0; i < items.size(); i++) {
+            TmdbEnrichmentRequest item = items.get(i);
+            if (item == null || (item.getTitle() == null && item.getTmdbId() == null)) {
+                throw new IllegalArgumentException("Item " + i + " needs a title or a TMDB ID");
+            }
+        }
+        return items;
+    }
+
+    private TmdbBatchEnrichmentResult enrichItem(String batchId, ContentType contentType, int index, TmdbEnrichmentRequest item) {
+        TmdbBatchEnrichmentResult result = TmdbBatchEnrichmentResult.builder()
+                .index(index)
+                .title(item.getTitle())
+                .tmdbId(item.getTmdbId())
+                .build();
+        try {
+            TmdbEnrichmentResponse enrichment = contentType == ContentType.MOVIE
+                    ? tmdbEnrichmentService.enrichMovie(item)
+                    : tmdbEnrichmentService.enrichSeries(item);
+            result.setEnrichment(enrichment);
+        } catch (Exception e) {
+            log.warn("Enrichment batch {} item {} failed: {}", batchId, index, e.getMessage());
+            result.setError(e.getMessage());
+        }
+
+        try {
+            enrichmentBatches.saveResult(batchId, result);
+        } catch (Exception e) {
+            // The client still gets the result; only resuming will redo this item
+            log.warn("Failed to store result of enrichment batch {} item {}: {}", batchId, index, e.getMessage());
+        }
+        return result;
+    }
+}
@@ -1,62 +1,106 @@
 package com.moviecat.service;
 
-import com.moviecat.dto.ImageDownloadRequest;
 import com.moviecat.dto.ImageResponse;
 import com.moviecat.dto.TmdbEnrichmentRequest;
 import com.moviecat.dto.TmdbEnrichmentResponse;
+import com.moviecat.dto.tmdb.TmdbAppend;
+import com.moviecat.dto.tmdb.TmdbExternalIds;
 import com.moviecat.dto.tmdb.TmdbGenre;
+import com.moviecat.dto.tmdb.TmdbImages;
 import com.moviecat.dto.tmdb.TmdbMovieDetails;
+import com.moviecat.dto.tmdb.TmdbSearchResponse;
 import com.moviecat.dto.tmdb.TmdbSearchResult;
 import com.moviecat.dto.tmdb.TmdbSeriesDetails;
 import com.moviecat.model.ContentType;
 import com.moviecat.model.SeriesStatus;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * Service for enriching movie and series metadata using TMDB API.
- * Handles searching, fetching details, and downloading cover images.
+ * Handles searching, fetching details, and downloading cover images. Cover images are downloaded in the
+ * background ({@link ImageDownloadQueue}); responses carry the ID of the pending image.
  */
 @Service
 @Slf4j
 @RequiredArgsConstructor
+@Observed
 public class TmdbEnrichmentService {
     
+    /**
+     * Fetched with the details in one call: the IMDB ID of series and a poster for titles without a main one.
+     */
+    private static final Set<TmdbAppend> ENRICHMENT_APPEND = EnumSet.of(TmdbAppend.EXTERNAL_IDS, TmdbAppend.IMAGES);
+    
     private final TmdbApiService tmdbApiService;
     private final ImageService imageService;
+    private final ImageDownloadQueue imageDownloadQueue;
+    private final TmdbSearchCache tmdbSearchCache;
+    private final TypeaheadSessions typeaheadSessions;
     
     /**
      * Search for movies in TMDB.
      * Converts poster paths to full URLs.
+     * 
+     * @param title search text
+     * @param session type-ahead session of the client, for server-side debouncing (optional)
+     * @return results, or empty if a newer search of the same session superseded this one
      */
-    public List<TmdbSearchResult> searchMovies(String title) {
-        List<TmdbSearchResult> results = tmdbApiService.searchByTitle(title, ContentType.MOVIE);
-        // Convert poster paths to full URLs
-        results.forEach(result -> {
-            if (result.getPosterPath() != null) {
-                result.setPosterPath(tmdbApiService.buildImageUrl(result.getPosterPath()));
-            }
-        });
-        return results;
+    public Optional<List<TmdbSearchResult>> searchMovies(String title, String session) {
+        return search(title, ContentType.MOVIE, session);
     }
     
     /**
      * Search for TV series in TMDB.
      * Converts poster paths to full URLs.
+     * 
+     * @param title search text
+     * @param session type-ahead session of the client, for server-side debouncing (optional)
+     * @return results, or empty if a newer search of the same session superseded this one
+     */
+    public Optional<List<TmdbSearchResult>> searchSeries(String title, String session) {
+        return search(title, ContentType.SERIES, session);
+    }
+    
+    /**
+     * Answer from the search cache if possible (see {@link TmdbSearchCache}); otherwise debounce within
+     * the session (see {@link TypeaheadSessions}) and search TMDB.
      */
-    public List<TmdbSearchResult> searchSeries(String title) {
-        List<TmdbSearchResult> results = tmdbApiService.searchByTitle(title, ContentType.SERIES);
-        // Convert poster paths to full URLs
-        results.forEach(result -> {
-            if (result.getPosterPath() != null) {
-                result.setPosterPath(tmdbApiService.buildImageUrl(result.getPosterPath()));
+    private Optional<List<TmdbSearchResult>> search(String title, ContentType contentType, String session) {
+        String query = TmdbSearchCache.normalize(title);
+        
+        Optional<List<TmdbSearchResult>> cached = tmdbSearchCache.lookup(contentType, query);
+        if (cached.isPresent()) {
+            if (session != null) {
+                typeaheadSessions.supersedeOlder(session);
             }
-        });
-        return results;
+            return cached;
+        }
+        
+        if (session != null && !typeaheadSessions.awaitLatest(session)) {
+            log.debug("Search for '{}' superseded in session {}", query, session);
+            return Optional.empty();
+        }
+        return Optional.of(tmdbSearchCache.get(contentType, query, () -> {
+            TmdbSearchResponse response = tmdbApiService.searchFirstPage(query, contentType);
+            if (response != null && response.getResults() != null) {
+                // Convert poster paths to full URLs
+                response.getResults().forEach(result -> {
+                    if (result.getPosterPath() != null) {
+                        result.setPosterPath(tmdbApiService.buildImageUrl(result.getPosterPath()));
+                    }
+                });
+            }
+            return response;
+        }));
     }
     
     /**
@@ -68,6 +112,7 @@ public class TmdbEnrichmentService {
         log.info("Enriching movie: tmdbId={}, title={}", request.getTmdbId(), request.getTitle());
         
         Integer tmdbId = request.getTmdbId();
+        ImageResponse earlyPoster = null;
         
         // If no tmdbId, search by title to get it
         if (tmdbId == null) {
@@ -82,10 +127,22 @@ public class TmdbEnrichmentService {
             
             tmdbId = searchResult.getId();
             log.info("Found TMDB ID {} for movie: {}", tmdbId, request.getTitle());
+            
+            // The search result names the poster, so its download runs while the details are fetched
+            if (request.getDownloadImage()) {
+                earlyPoster = queuePoster(searchResult.getPosterPath());
+            }
         }
         
-        // Fetch detailed movie information
-        TmdbMovieDetails details = tmdbApiService.getMovieDetails(tmdbId);
+        // Fetch detailed movie information, external IDs and images
+        TmdbMovieDetails details;
+        try {
+            details = tmdbApiService.getMovieDetails(tmdbId, ENRICHMENT_APPEND);
+        } catch (RuntimeException ex) {
+            discardPoster(earlyPoster);
+            throw ex;
+        }
+        String posterPath = posterPath(details.getPosterPath(), details.getImages());
         
         // Build enrichment response
         TmdbEnrichmentResponse response = TmdbEnrichmentResponse.builder()
@@ -93,25 +150,14 @@ public class TmdbEnrichmentService {
                 .title(details.getTitle())
                 .length(details.getRuntime())
                 .genres(extractGenreNames(details.getGenres()))
-                .posterUrl(tmdbApiService.buildImageUrl(details.getPosterPath()))
+                .posterUrl(tmdbApiService.buildImageUrl(posterPath))
                 .overview(details.getOverview())
-                .imdbId(details.getImdbId())
+                .imdbId(details.getImdbId() != null ? details.getImdbId() : imdbId(details.getExternalIds()))
                 .build();
         
-        // Download and save image if requested
-        if (request.getDownloadImage() && details.getPosterPath() != null) {
-            String imageUrl = tmdbApiService.buildImageUrl(details.getPosterPath());
-            try {
-                ImageDownloadRequest imageRequest = ImageDownloadRequest.builder()
-                        .imageUrl(imageUrl)
-                        .build();
-                ImageResponse imageResponse = imageService.downloadAndSaveImage(imageRequest);
-                response.setSavedImageId(imageResponse.getId());
-                log.info("Downloaded and saved cover image: {}", imageResponse.getId());
-            } catch (Exception ex) {
-                log.error("Failed to download cover image from TMDB", ex);
-                // Continue without image - not critical
-            }
+        // Save cover image if requested; the image ID is returned before the download completes
+        if (request.getDownloadImage()) {
+            response.setSavedImageId(savePoster(posterPath, earlyPoster));
         }
         
         log.info("Successfully enriched movie: {}", details.getTitle());
@@ -127,6 +173,7 @@ public class TmdbEnrichmentService {
         log.info("Enriching series: tmdbId={}, title={}", request.getTmdbId(), request.getTitle());
         
         Integer tmdbId = request.getTmdbId();
+        ImageResponse earlyPoster = null;
         
         // If no tmdbId, search by title to get it
         if (tmdbId == null) {
@@ -141,10 +188,22 @@ public class TmdbEnrichmentService {
             
             tmdbId = searchResult.getId();
             log.info("Found TMDB ID {} for series: {}", tmdbId, request.getTitle());
+            
+            // The search result names the poster, so its download runs while the details are fetched
+            if (request.getDownloadImage()) {
+                earlyPoster = queuePoster(searchResult.getPosterPath());
+            }
         }
         
-        // Fetch detailed series information
-        TmdbSeriesDetails details = tmdbApiService.getSeriesDetails(tmdbId);
+        // Fetch detailed series information, external IDs and images
+        TmdbSeriesDetails details;
+        try {
+            details = tmdbApiService.getSeriesDetails(tmdbId, ENRICHMENT_APPEND);
+        } catch (RuntimeException ex) {
+            discardPoster(earlyPoster);
+            throw ex;
+        }
+        String posterPath = posterPath(details.getPosterPath(), details.getImages());
         
         // Calculate average episode length if available
         Integer avgEpisodeLength = null;
@@ -161,32 +220,84 @@ public class TmdbEnrichmentService {
                 .title(details.getName())
                 .length(avgEpisodeLength)
                 .genres(extractGenreNames(details.getGenres()))
-                .posterUrl(tmdbApiService.buildImageUrl(details.getPosterPath()))
+                .posterUrl(tmdbApiService.buildImageUrl(posterPath))
                 .totalSeasons(details.getNumberOfSeasons())
                 .status(details.getStatus())
                 .overview(details.getOverview())
+                .imdbId(imdbId(details.getExternalIds()))
                 .build();
         
-        // Download and save image if requested
-        if (request.getDownloadImage() && details.getPosterPath() != null) {
-            String imageUrl = tmdbApiService.buildImageUrl(details.getPosterPath());
-            try {
-                ImageDownloadRequest imageRequest = ImageDownloadRequest.builder()
-                        .imageUrl(imageUrl)
-                        .build();
-                ImageResponse imageResponse = imageService.downloadAndSaveImage(imageRequest);
-                response.setSavedImageId(imageResponse.getId());
-                log.info("Downloaded and saved cover image: {}", imageResponse.getId());
-            } catch (Exception ex) {
-                log.error("Failed to download cover image from TMDB", ex);
-                // Continue without image - not critical
-            }
+        // Save cover image if requested; the image ID is returned before the download completes
+        if (request.getDownloadImage()) {
+            response.setSavedImageId(savePoster(posterPath, earlyPoster));
         }
         
         log.info("Successfully enriched series: {}", details.getName());
         return response;
     }
     
+    /**
+     * Keep the poster download started from the search result if it is the final poster,
+     * otherwise queue the download of the final poster.
+     * 
+     * @return ID of the (pending) cover image, or null if there is none
+     */
+    private String savePoster(String posterPath, ImageResponse earlyPoster) {
+        if (earlyPoster != null) {
+            if (earlyPoster.getOriginalUrl().equals(tmdbApiService.buildImageUrl(posterPath))) {
+                return earlyPoster.getId();
+            }
+            discardPoster(earlyPoster);
+        }
+        ImageResponse poster = queuePoster(posterPath);
+        return poster != null ? poster.getId() : null;
+    }
+    
+    /**
+     * Queue the download of a TMDB poster.
+     * 
+     * @return the pending image, or null if there is no poster or the download could not be queued
+     */
+    private ImageResponse queuePoster(String posterPath) {
+        if (posterPath == null) {
+            return null;
+        }
+        try {
+            ImageResponse poster = imageDownloadQueue.enqueue(tmdbApiService.buildImageUrl(posterPath));
+            log.info("Queued cover image download: {}", poster.getId());
+            return poster;
+        } catch (Exception ex) {
+            log.error("Failed to queue cover image download from TMDB", ex);
+            // Continue without image - not critical
+            return null;
+        }
+    }
+    
+    private void discardPoster(ImageResponse poster) {
+        if (poster == null) {
+            return;
+        }
+        try {
+            imageService.deleteImage(poster.getId());
+        } catch (Exception ex) {
+            log.warn("Failed to discard unused cover image {}: {}", poster.getId(), ex.getMessage());
+        }
+    }
+    
+    /**
+     * Use the main poster, or the highest-rated one from the images if there is no main poster.
+     */
+    private String posterPath(String mainPosterPath, TmdbImages images) {
+        if (mainPosterPath != null || images == null) {
+            return mainPosterPath;
+        }
+        return images.bestPosterPath();
+    }
+    
+    private String imdbId(TmdbExternalIds externalIds) {
+        return externalIds != null ? externalIds.getImdbId() : null;
+    }
+    
     /**
      * Extract genre names from TMDB genre objects.
      */
@@ -0,0 +1,55 @@
+package com.moviecat.service;
+
+import com.moviecat.exception.ExternalApiException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Client-side rate limit for TMDB API calls, shared by every caller on this instance.
+ *
+ * Calls are spaced {@code 1 / tmdb.rate-limit.requests-per-second} apart; up to {@code tmdb.rate-limit.burst}
+ * calls may go out back to back after a quiet period. Each caller reserves the next free slot without
+ * holding a lock and sleeps until it comes, so waiting virtual threads are parked rather than pinned.
+ * A rate of 0 disables the limit.
+ */
+@Component
+public class TmdbRateLimiter {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong nextFreeSlot;
+
+    public TmdbRateLimiter(@Value("${tmdb.rate-limit.requests-per-second:40}") double requestsPerSecond,
+                           @Value("${tmdb.rate-limit.burst:10}") int burst) {
+        this.intervalNanos = requestsPerSecond > 0 ? Math.round(TimeUnit.SECONDS.toNanos(1) / requestsPerSecond) : 0;
+        this.burstNanos = intervalNanos * Math.max(burst - 1, 0);
+        this.nextFreeSlot = new AtomicLong(System.nanoTime() - burstNanos);
+    }
+
+    /**
+     * Wait until the next TMDB call may be made.
+     *
+     * @throws ExternalApiException if the thread is interrupted while waiting
+     */
+    public void acquire() {
+        if (intervalNanos == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        long earliest = now - burstNanos;
+        long reserved = nextFreeSlot.getAndUpdate(slot -> Math.max(slot, earliest) + intervalNanos);
+        long waitNanos = Math.max(reserved, earliest) - now;
+        if (waitNanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExternalApiException("TMDB", "Interrupted while waiting for the rate limit", e);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.moviecat.service;
+
+import com.moviecat.dto.tmdb.TmdbSearchResponse;
+import com.moviecat.dto.tmdb.TmdbSearchResult;
+import com.moviecat.model.ContentType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Least-recently-used cache of TMDB title searches for type-ahead, keyed on content type and normalized query.
+ *
+ * A query is answered without going to TMDB when:
+ * - the same query was searched within {@code tmdb.search.cache.ttl}, or
+ * - a shorter prefix of it was, and that search was complete (TMDB had no more results than the first page
+ *   holds): its results are then a superset of the longer query's, which are picked by matching every query
+ *   word against the start of a title word.
+ *
+ * Concurrent misses for the same query share one TMDB search. Failed searches are not cached.
+ * Cached lists are unmodifiable.
+ */
+@Component
+class TmdbSearchCache {
+
+    static final String CACHE_COUNTER = "moviecat.tmdb.search.cache";
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final Map<Key, Entry> entries;
+    private final Map<Key, CompletableFuture<Entry>> inFlight = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter prefixHits;
+    private final Counter misses;
+
+    TmdbSearchCache(MeterRegistry meterRegistry,
+                    @Value("${tmdb.search.cache.enabled:true}") boolean enabled,
+                    @Value("${tmdb.search.cache.max-entries:1000}") int maxEntries,
+                    @Value("${tmdb.search.cache.ttl:10m}") Duration ttl) {
+        this.enabled = enabled;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+        this.hits = counter(meterRegistry, "hit");
+        this.prefixHits = counter(meterRegistry, "prefix");
+        this.misses = counter(meterRegistry, "miss");
+    }
+
+    /**
+     * @param title search text as typed
+     * @return lower-cased query with surrounding and repeated whitespace removed
+     */
+    static String normalize(String title) {
+        return WHITESPACE.matcher(title.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Answer a query from the cache, from its own entry or by filtering a complete entry of a shorter prefix.
+     *
+     * @param contentType MOVIE or SERIES
+     * @param query normalized query
+     * @return cached results, empty if TMDB has to be asked
+     */
+    Optional<List<TmdbSearchResult>> lookup(ContentType contentType, String query) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Entry exact = current(new Key(contentType, query));
+        if (exact != null) {
+            hits.increment();
+            return Optional.of(exact.results());
+        }
+        for (int length = query.length() - 1; length > 0; length--) {
+            Entry broader = current(new Key(contentType, query.substring(0, length)));
+            if (broader != null && broader.complete()) {
+                prefixHits.increment();
+                String[] queryWords = WORD_SEPARATOR.split(query);
+                return Optional.of(broader.results().stream()
+                        .filter(result -> matches(result.getDisplayTitle(), queryWords)
+                                || matches(originalTitle(result), queryWords))
+                        .toList());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Answer a query from the cache, or search TMDB and cache the results.
+     *
+     * @param contentType MOVIE or SERIES
+     * @param query normalized query
+     * @param search TMDB search for the query; returns null if TMDB answered with an error
+     * @return search results (unmodifiable)
+     */
+    List<TmdbSearchResult> get(ContentType contentType, String query, Supplier<TmdbSearchResponse> search) {
+        Optional<List<TmdbSearchResult>> cached = lookup(contentType, query);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        if (!enabled) {
+            return toEntry(search.get()).results();
+        }
+        misses.increment();
+
+        Key key = new Key(contentType, query);
+        CompletableFuture<Entry> load = new CompletableFuture<>();
+        CompletableFuture<Entry> running = inFlight.putIfAbsent(key, load);
+        if (running != null) {
+            return join(running).results();
+        }
+        try {
+            TmdbSearchResponse response = search.get();
+            Entry entry = toEntry(response);
+            if (response != null) {
+                entries.put(key, entry);
+            }
+            load.complete(entry);
+            return entry.results();
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, load);
+        }
+    }
+
+    private Entry current(Key key) {
+        Entry entry = entries.get(key);
+        return entry != null && System.nanoTime() - entry.loadedAt() < ttlNanos ? entry : null;
+    }
+
+    private static Entry toEntry(TmdbSearchResponse response) {
+        if (response == null || response.getResults() == null) {
+            return new Entry(List.of(), false, System.nanoTime());
+        }
+        List<TmdbSearchResult> results = List.copyOf(response.getResults());
+        boolean complete = response.getTotalResults() != null && response.getTotalResults() <= results.size();
+        return new Entry(results, complete, System.nanoTime());
+    }
+
+    private static Entry join(CompletableFuture<Entry> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Whether every query word starts a word of the title.
+     */
+    private static boolean matches(String title, String[] queryWords) {
+        if (title == null) {
+            return false;
+        }
+        String[] titleWords = WORD_SEPARATOR.split(title.toLowerCase(Locale.ROOT));
+        return Arrays.stream(queryWords)
+                .filter(word -> !word.isEmpty())
+                .allMatch(word -> Arrays.stream(titleWords).anyMatch(titleWord -> titleWord.startsWith(word)));
+    }
+
+    private static String originalTitle(TmdbSearchResult result) {
+        return result.getOriginalTitle() != null ? result.getOriginalTitle() : result.getOriginalName();
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(CACHE_COUNTER).description("TMDB search cache lookups")
+                .tag("result", result).register(meterRegistry);
+    }
+
+    record Key(ContentType contentType, String query) {
+    }
+
+    record Entry(List<TmdbSearchResult> results, boolean complete, long loadedAt) {
+    }
+}
@@ -0,0 +1,261 @@
+package com.moviecat.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moviecat.dto.tmdb.TmdbExportEntry;
+import com.moviecat.dto.tmdb.TmdbSearchResponse;
+import com.moviecat.dto.tmdb.TmdbSearchResult;
+import com.moviecat.exception.ExternalApiException;
+import com.moviecat.model.ContentType;
+import com.moviecat.util.TitleIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Offline title search from TMDB's daily ID exports, so title lookups need no API call and no rate limit.
+ *
+ * With {@code tmdb.offline.enabled}, the movie and TV series exports (gzipped NDJSON of ID, original title
+ * and popularity) are downloaded from {@code tmdb.offline.export-base-url} when an instance starts without
+ * an index, and again daily ({@code scheduler.cron.tmdb-export}). Each is written to a memory-mapped
+ * {@link TitleIndex} under {@code tmdb.offline.index-path}, replacing the previous one once complete.
+ * Adult titles are left out, as in API searches.
+ *
+ * The exports have original titles only: results carry the ID and original title, without poster or dates,
+ * and details are fetched from the API by ID. Searches with no local match (e.g. a translated title) are
+ * left to the API.
+ */
+@Slf4j
+@Component
+class TmdbTitleIndex {
+
+    private static final DateTimeFormatter EXPORT_DATE = DateTimeFormatter.ofPattern("MM_dd_yyyy");
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Path indexPath;
+    private final String exportBaseUrl;
+    private final int maxResults;
+    private final Map<ContentType, TitleIndex> indexes = new ConcurrentHashMap<>();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(CONNECT_TIMEOUT)
+            .build();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "tmdb-export");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    TmdbTitleIndex(ObjectMapper objectMapper,
+                   @Value("${tmdb.offline.enabled:false}") boolean enabled,
+                   @Value("${tmdb.offline.index-path:tmdb-index}") String indexPath,
+                   @Value("${tmdb.offline.export-base-url:http://files.tmdb.org/p/exports}") String exportBaseUrl,
+                   @Value("${tmdb.offline.max-results:20}") int maxResults) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.indexPath = Paths.get(indexPath);
+        this.exportBaseUrl = exportBaseUrl;
+        this.maxResults = maxResults;
+    }
+
+    /**
+     * Search the local index.
+     *
+     * @param title search query
+     * @param contentType MOVIE or SERIES
+     * @return first page of results, empty if offline search is off, the index is not built yet or nothing matches
+     */
+    Optional<TmdbSearchResponse> search(String title, ContentType contentType) {
+        TitleIndex index = enabled ? indexes.get(contentType) : null;
+        if (index == null) {
+            return Optional.empty();
+        }
+        // One title more than a page tells whether the page holds all matches
+        List<TitleIndex.Title> titles = index.search(title, maxResults + 1);
+        if (titles.isEmpty()) {
+            return Optional.empty();
+        }
+        List<TmdbSearchResult> results = titles.stream()
+                .limit(maxResults)
+                .map(match -> toSearchResult(match, contentType))
+                .toList();
+        return Optional.of(TmdbSearchResponse.builder()
+                .page(1)
+                .results(results)
+                .totalResults(titles.size() > maxResults ? null : results.size())
+                .build());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void openIndexes() {
+        if (!enabled) {
+            return;
+        }
+        boolean missing = false;
+        for (ContentType contentType : ContentType.values()) {
+            Path file = indexFile(contentType);
+            try {
+                if (Files.exists(file)) {
+                    TitleIndex index = TitleIndex.open(file);
+                    indexes.put(contentType, index);
+                    log.info("Opened offline TMDB {} index with {} titles", contentType, index.size());
+                } else {
+                    missing = true;
+                }
+            } catch (IOException e) {
+                log.warn("Offline TMDB {} index {} unreadable, rebuilding: {}", contentType, file, e.getMessage());
+                missing = true;
+            }
+        }
+        if (missing) {
+            submitRefresh();
+        }
+    }
+
+    /**
+     * Scheduled task to rebuild the indexes from the latest exports.
+     * Runs based on cron expression defined in application.properties (scheduler.cron.tmdb-export), in UTC.
+     * Default: daily at 09:30, after TMDB publishes the day's exports (around 08:00 UTC)
+     */
+    @Scheduled(cron = "${scheduler.cron.tmdb-export:-}", zone = "UTC")
+    void refreshIndexes() {
+        if (enabled) {
+            submitRefresh();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Build the index of a content type from an export file and search it from now on.
+     *
+     * @param contentType MOVIE or SERIES
+     * @param export export file, gzipped if its name ends in .gz
+     * @return number of titles indexed
+     * @throws IOException if the export cannot be read or the index cannot be written
+     */
+    int ingest(ContentType contentType, Path export) throws IOException {
+        List<TitleIndex.Title> titles = new ArrayList<>();
+        int skipped = 0;
+        try (InputStream file = Files.newInputStream(export);
+             InputStream in = export.toString().endsWith(".gz") ? new GZIPInputStream(file, 1 << 16) : file;
+             MappingIterator<TmdbExportEntry> entries = objectMapper.readerFor(TmdbExportEntry.class)
+                     .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                     .readValues(in)) {
+            while (entries.hasNext()) {
+                TmdbExportEntry entry = entries.next();
+                if (entry.getId() == null || entry.getDisplayTitle() == null || Boolean.TRUE.equals(entry.getAdult())) {
+                    skipped++;
+                    continue;
+                }
+                float popularity = entry.getPopularity() != null ? entry.getPopularity().floatValue() : 0f;
+                titles.add(new TitleIndex.Title(entry.getId(), entry.getDisplayTitle(), popularity));
+            }
+        }
+
+        Files.createDirectories(indexPath);
+        Path file = indexFile(contentType);
+        TitleIndex.write(titles, file);
+        indexes.put(contentType, TitleIndex.open(file));
+        log.info("Indexed {} TMDB {} titles from {} ({} skipped)", titles.size(), contentType, export.getFileName(), skipped);
+        return titles.size();
+    }
+
+    private void submitRefresh() {
+        try {
+            executor.execute(() -> {
+                for (ContentType contentType : ContentType.values()) {
+                    try {
+                        refresh(contentType);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (Exception e) {
+                        log.error("Offline TMDB {} index not refreshed: {}", contentType, e.getMessage(), e);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.info("Offline TMDB index refresh not started: shutting down");
+        }
+    }
+
+    /**
+     * Download the latest export of a content type and index it. Today's export may not be published yet,
+     * so the previous day's is tried next.
+     */
+    private void refresh(ContentType contentType) throws IOException, InterruptedException {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        Files.createDirectories(indexPath);
+        for (LocalDate date : List.of(today, today.minusDays(1))) {
+            String exportFile = exportName(contentType) + "_" + date.format(EXPORT_DATE) + ".json.gz";
+            URI uri = URI.create(exportBaseUrl + "/" + exportFile);
+            Path download = indexPath.resolve(exportFile);
+            try {
+                log.info("Downloading TMDB {} export {}", contentType, uri);
+                HttpResponse<Path> response = httpClient.send(HttpRequest.newBuilder(uri).GET().build(),
+                        HttpResponse.BodyHandlers.ofFile(download));
+                if (response.statusCode() == 200) {
+                    ingest(contentType, download);
+                    return;
+                }
+                log.info("TMDB {} export {} not available: HTTP {}", contentType, uri, response.statusCode());
+            } finally {
+                Files.deleteIfExists(download);
+            }
+        }
+        throw new ExternalApiException("TMDB", "No " + contentType + " ID export found for " + today + " or the day before");
+    }
+
+    private Path indexFile(ContentType contentType) {
+        return indexPath.resolve(contentType.name().toLowerCase(Locale.ROOT) + ".idx");
+    }
+
+    private static String exportName(ContentType contentType) {
+        return contentType == ContentType.MOVIE ? "movie_ids" : "tv_series_ids";
+    }
+
+    private static TmdbSearchResult toSearchResult(TitleIndex.Title match, ContentType contentType) {
+        TmdbSearchResult.TmdbSearchResultBuilder result = TmdbSearchResult.builder().id(match.id());
+        if (contentType == ContentType.MOVIE) {
+            result.title(match.text()).originalTitle(match.text());
+        } else {
+            result.name(match.text()).originalName(match.text());
+        }
+        return result.build();
+    }
+}
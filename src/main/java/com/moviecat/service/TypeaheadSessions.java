@@ -0,0 +1,66 @@
+package com.moviecat.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server-side debouncing of type-ahead searches, per client session (e.g. one open add dialog).
+ *
+ * A search that would go to TMDB first waits {@code tmdb.search.debounce}; if the same session sent a newer
+ * search meanwhile, the older one is dropped without calling TMDB. This also covers clients that abort
+ * superseded requests, since an aborted request keeps running on the server. The most recently active
+ * {@code tmdb.search.max-sessions} sessions are tracked.
+ */
+@Component
+class TypeaheadSessions {
+
+    private final Duration debounce;
+    private final AtomicLong tickets = new AtomicLong();
+    private final Map<String, Long> latestTickets;
+
+    TypeaheadSessions(@Value("${tmdb.search.debounce:150ms}") Duration debounce,
+                      @Value("${tmdb.search.max-sessions:10000}") int maxSessions) {
+        this.debounce = debounce;
+        this.latestTickets = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > maxSessions;
+            }
+        });
+    }
+
+    /**
+     * Register a search of the session and wait out the debounce window.
+     *
+     * @param session client session ID
+     * @return whether the search is still the session's latest one and should go ahead
+     */
+    boolean awaitLatest(String session) {
+        long ticket = tickets.incrementAndGet();
+        latestTickets.put(session, ticket);
+        if (!debounce.isZero()) {
+            try {
+                Thread.sleep(debounce);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return Long.valueOf(ticket).equals(latestTickets.get(session));
+    }
+
+    /**
+     * Register a search of the session that is answered right away, so older waiting searches are dropped.
+     *
+     * @param session client session ID
+     */
+    void supersedeOlder(String session) {
+        latestTickets.put(session, tickets.incrementAndGet());
+    }
+}
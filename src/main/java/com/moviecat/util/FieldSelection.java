@@ -0,0 +1,141 @@
+package com.moviecat.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.moviecat.exception.InvalidRequestException;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Subset of response fields requested by a client through the {@code fields=} query parameter.
+ * An empty selection means "all fields" and leaves both the Mongo query and the JSON output untouched.
+ */
+public final class FieldSelection {
+
+    /**
+     * Jackson filter id referenced by {@code @JsonFilter} on list response DTOs.
+     */
+    public static final String FILTER_ID = "fieldSelection";
+
+    private static final FieldSelection ALL = new FieldSelection(Set.of());
+    private static final Map<Class<?>, Set<String>> RESPONSE_FIELDS = new ConcurrentHashMap<>();
+
+    private final Set<String> fields;
+
+    private FieldSelection(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Selection that keeps every field.
+     */
+    public static FieldSelection all() {
+        return ALL;
+    }
+
+    /**
+     * Parse a comma-separated field list and validate it against the response type.
+     *
+     * @param fields comma-separated field names (may be null or blank)
+     * @param responseType response DTO the fields belong to
+     * @return parsed selection
+     * @throws InvalidRequestException if a field does not exist on the response type
+     */
+    public static FieldSelection parse(String fields, Class<?> responseType) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+
+        Set<String> allowed = RESPONSE_FIELDS.computeIfAbsent(responseType, FieldSelection::declaredFields);
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(name)) {
+                throw new InvalidRequestException(String.format("Unknown field '%s'. Allowed fields: %s", name, allowed));
+            }
+            selected.add(name);
+        }
+        return selected.isEmpty() ? ALL : new FieldSelection(Collections.unmodifiableSet(selected));
+    }
+
+    public boolean isAll() {
+        return fields.isEmpty();
+    }
+
+    public Set<String> getFields() {
+        return fields;
+    }
+
+    /**
+     * Translate the selection into entity properties to load from MongoDB.
+     *
+     * @param toProperty maps a response field to the entity property backing it (null if it has none)
+     * @param required properties that must always be loaded, e.g. for sorting
+     * @return properties to include, or an empty set when the full document should be loaded
+     */
+    public Set<String> toProperties(Function<String, String> toProperty, String... required) {
+        if (isAll()) {
+            return Set.of();
+        }
+        Set<String> properties = new LinkedHashSet<>(Arrays.asList(required));
+        for (String field : fields) {
+            String property = toProperty.apply(field);
+            if (property != null) {
+                properties.add(property);
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Wrap a response body so Jackson only writes the selected fields.
+     *
+     * @param body response body
+     * @return body wrapper with the field filter applied
+     */
+    public MappingJacksonValue applyTo(Object body) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        if (!isAll()) {
+            value.setFilters(new SimpleFilterProvider()
+                    .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(fields)));
+        }
+        return value;
+    }
+
+    /**
+     * Create a writer that only writes the selected fields, for responses serialized outside
+     * of the HTTP message converters (e.g. streamed responses).
+     *
+     * @param objectMapper application object mapper
+     * @return writer with the field filter applied
+     */
+    public ObjectWriter writer(ObjectMapper objectMapper) {
+        if (isAll()) {
+            return objectMapper.writer();
+        }
+        return objectMapper.writer(new SimpleFilterProvider()
+                .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(fields)));
+    }
+
+    private static Set<String> declaredFields(Class<?> type) {
+        return Arrays.stream(type.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                .map(Field::getName)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
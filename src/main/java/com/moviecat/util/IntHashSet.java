@@ -0,0 +1,115 @@
+package com.moviecat.util;
+
+/**
+ * Set of primitive ints in one open-addressing array (linear probing), without boxing:
+ * about 4-8 bytes per element instead of the ~50 of a {@code HashSet<Integer>}.
+ * Not thread-safe.
+ */
+public final class IntHashSet {
+
+    private static final int EMPTY = 0;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private int[] slots;
+    private int size;
+    // 0 marks empty slots, so it is tracked separately
+    private boolean containsZero;
+
+    public IntHashSet() {
+        this(16);
+    }
+
+    /**
+     * @param expectedSize number of elements to hold without resizing
+     */
+    public IntHashSet(int expectedSize) {
+        slots = new int[capacityFor(expectedSize)];
+    }
+
+    /**
+     * @param value element to add
+     * @return whether the set did not already contain it
+     */
+    public boolean add(int value) {
+        if (value == EMPTY) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int mask = slots.length - 1;
+        int index = mix(value) & mask;
+        while (slots[index] != EMPTY) {
+            if (slots[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        slots[index] = value;
+        size++;
+        if (size > slots.length * LOAD_FACTOR) {
+            resize(slots.length * 2);
+        }
+        return true;
+    }
+
+    /**
+     * @param value element to look up
+     * @return whether the set contains it
+     */
+    public boolean contains(int value) {
+        if (value == EMPTY) {
+            return containsZero;
+        }
+        int mask = slots.length - 1;
+        int index = mix(value) & mask;
+        while (slots[index] != EMPTY) {
+            if (slots[index] == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "IntHashSet[size=" + size + "]";
+    }
+
+    private void resize(int capacity) {
+        int[] old = slots;
+        slots = new int[capacity];
+        int mask = capacity - 1;
+        for (int value : old) {
+            if (value != EMPTY) {
+                int index = mix(value) & mask;
+                while (slots[index] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                slots[index] = value;
+            }
+        }
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(2, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        return Math.max(capacity, 4);
+    }
+
+    // Sequential IDs would cluster in adjacent slots without scrambling
+    private static int mix(int value) {
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,69 @@
+package com.moviecat.util;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Builds newline-delimited JSON responses that are written to the client item by item.
+ */
+public final class NdjsonResponses {
+
+    private static final byte NEWLINE = '\n';
+
+    private NdjsonResponses() {
+    }
+
+    /**
+     * Write each stream element as one JSON line while the stream is consumed.
+     * The response is flushed after the first item so clients see data immediately; after that
+     * the servlet output buffer bounds how much is held in memory. The stream is closed once
+     * the response is complete or fails.
+     *
+     * @param items items to write (closed after writing)
+     * @param writer JSON writer for a single item
+     * @return streaming NDJSON response
+     */
+    public static ResponseEntity<StreamingResponseBody> of(Stream<?> items, ObjectWriter writer) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body(items, writer, false));
+    }
+
+    /**
+     * Write each stream element as one JSON line as soon as it is produced, flushing after every line.
+     * For slow producers whose clients want each item when it is ready rather than in buffer-sized chunks.
+     *
+     * @param response response to add the body to (status and headers)
+     * @param items items to write (closed after writing)
+     * @param writer JSON writer for a single item
+     * @return streaming NDJSON response
+     */
+    public static ResponseEntity<StreamingResponseBody> live(ResponseEntity.BodyBuilder response, Stream<?> items,
+                                                             ObjectWriter writer) {
+        return response
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body(items, writer, true));
+    }
+
+    private static StreamingResponseBody body(Stream<?> items, ObjectWriter writer, boolean flushEach) {
+        return out -> {
+            try (items) {
+                Iterator<?> iterator = items.iterator();
+                boolean first = true;
+                while (iterator.hasNext()) {
+                    out.write(writer.writeValueAsBytes(iterator.next()));
+                    out.write(NEWLINE);
+                    if (first || flushEach) {
+                        out.flush();
+                        first = false;
+                    }
+                }
+            }
+        };
+    }
+}
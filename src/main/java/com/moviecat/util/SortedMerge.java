@@ -0,0 +1,78 @@
+package com.moviecat.util;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazily merges two streams that are each already sorted by the same comparator.
+ */
+public final class SortedMerge {
+
+    private SortedMerge() {
+    }
+
+    /**
+     * Merge two sorted streams into one sorted stream without buffering either of them.
+     * On ties the element from {@code first} comes first, matching a stable sort of
+     * {@code first} followed by {@code second}. Closing the result closes both inputs.
+     *
+     * @param first first sorted stream
+     * @param second second sorted stream
+     * @param comparator order both streams are sorted by
+     * @return merged stream
+     */
+    public static <T> Stream<T> merge(Stream<T> first, Stream<T> second, Comparator<? super T> comparator) {
+        Iterator<T> merged = new MergingIterator<>(first.iterator(), second.iterator(), comparator);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merged, Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    try {
+                        first.close();
+                    } finally {
+                        second.close();
+                    }
+                });
+    }
+
+    private static final class MergingIterator<T> implements Iterator<T> {
+
+        private final Iterator<T> first;
+        private final Iterator<T> second;
+        private final Comparator<? super T> comparator;
+        private T firstHead;
+        private T secondHead;
+
+        private MergingIterator(Iterator<T> first, Iterator<T> second, Comparator<? super T> comparator) {
+            this.first = first;
+            this.second = second;
+            this.comparator = comparator;
+            this.firstHead = first.hasNext() ? first.next() : null;
+            this.secondHead = second.hasNext() ? second.next() : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return firstHead != null || secondHead != null;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T next;
+            if (secondHead == null || (firstHead != null && comparator.compare(firstHead, secondHead) <= 0)) {
+                next = firstHead;
+                firstHead = first.hasNext() ? first.next() : null;
+            } else {
+                next = secondHead;
+                secondHead = second.hasNext() ? second.next() : null;
+            }
+            return next;
+        }
+    }
+}
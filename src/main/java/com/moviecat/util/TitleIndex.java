@@ -0,0 +1,334 @@
+package com.moviecat.util;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.regex.Pattern;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Read-only title search index in one memory-mapped file. Searches binary-search the sorted word list for
+ * the words starting with a query word and walk their title lists, so they touch a few pages of the file
+ * instead of holding the titles on the heap.
+ *
+ * File layout (big-endian, offsets into the text section):
+ * - header: magic, version, title count, word count
+ * - titles, most popular first: id, popularity, text offset, text length (16 bytes each)
+ * - distinct title words, sorted by UTF-8 bytes: text offset, text length, first posting, posting count (16 bytes each)
+ * - postings: per word the numbers of the titles containing it, ascending (so most popular first)
+ * - text: UTF-8 titles, then words
+ *
+ * Words are lower-cased with accents removed (see {@link #words}). Instances are safe for concurrent searches.
+ * Results are ranked by how closely they match the query, then by popularity (see {@link #search}).
+ */
+public final class TitleIndex {
+
+    private static final int MAGIC = 0x4D435449; // "MCTI"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int TITLE_BYTES = 16;
+    private static final int WORD_BYTES = 16;
+
+    // Match ranks, best first
+    private static final int EXACT = 0;
+    private static final int WHOLE_WORDS = 1;
+    private static final int PREFIX = 2;
+    private static final int NO_MATCH = -1;
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final ByteBuffer buffer;
+    private final int titleCount;
+    private final int wordCount;
+    private final int wordsStart;
+    private final int postingsStart;
+    private final int textStart;
+
+    private TitleIndex(ByteBuffer buffer) throws IOException {
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not a title index (version " + VERSION + ")");
+        }
+        this.buffer = buffer;
+        this.titleCount = buffer.getInt(8);
+        this.wordCount = buffer.getInt(12);
+        this.wordsStart = HEADER_BYTES + titleCount * TITLE_BYTES;
+        this.postingsStart = wordsStart + wordCount * WORD_BYTES;
+        int lastWord = wordsStart + (wordCount - 1) * WORD_BYTES;
+        int postingCount = wordCount == 0 ? 0 : buffer.getInt(lastWord + 8) + buffer.getInt(lastWord + 12);
+        this.textStart = postingsStart + postingCount * Integer.BYTES;
+    }
+
+    /**
+     * Map an index file written by {@link #write}.
+     *
+     * @param file index file
+     * @return the index
+     * @throws IOException if the file cannot be read or is not an index
+     */
+    public static TitleIndex open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Title index over 2 GB: " + file);
+            }
+            // The mapping stays valid after the channel is closed
+            return new TitleIndex(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Write an index of the titles. The file is written next to its final path and moved into place when
+     * complete, so an index open on the old file is unaffected.
+     *
+     * @param titles titles to index
+     * @param file index file
+     * @throws IOException if the file cannot be written
+     * @throws IllegalArgumentException if the index would exceed 2 GB
+     */
+    public static void write(Collection<Title> titles, Path file) throws IOException {
+        List<Title> byPopularity = titles.stream()
+                .sorted(Comparator.comparingDouble(Title::popularity).reversed().thenComparingInt(Title::id))
+                .toList();
+
+        // Postings as (word ID, title number) pairs in one long each, so they sort without boxing
+        byte[][] titleTexts = new byte[byPopularity.size()][];
+        Map<String, Integer> wordIds = new HashMap<>();
+        List<String> words = new ArrayList<>();
+        long[] postings = new long[Math.max(16, byPopularity.size() * 2)];
+        int postingCount = 0;
+        for (int title = 0; title < byPopularity.size(); title++) {
+            titleTexts[title] = byPopularity.get(title).text().getBytes(UTF_8);
+            for (String word : words(byPopularity.get(title).text())) {
+                int wordId = wordIds.computeIfAbsent(word, w -> {
+                    words.add(w);
+                    return words.size() - 1;
+                });
+                if (postingCount == postings.length) {
+                    postings = Arrays.copyOf(postings, postingCount * 2);
+                }
+                postings[postingCount++] = (long) wordId << 32 | title;
+            }
+        }
+
+        // Number the words in the byte order searches compare in, then group the postings by word
+        byte[][] wordTexts = words.stream().map(word -> word.getBytes(UTF_8)).toArray(byte[][]::new);
+        Integer[] order = new Integer[wordTexts.length];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, (a, b) -> Arrays.compareUnsigned(wordTexts[a], wordTexts[b]));
+        int[] rank = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            rank[order[i]] = i;
+        }
+        int[] postingCounts = new int[order.length];
+        for (int i = 0; i < postingCount; i++) {
+            int wordRank = rank[(int) (postings[i] >>> 32)];
+            postings[i] = (long) wordRank << 32 | (postings[i] & 0xFFFFFFFFL);
+            postingCounts[wordRank]++;
+        }
+        Arrays.sort(postings, 0, postingCount);
+
+        long textBytes = Arrays.stream(titleTexts).mapToLong(text -> text.length).sum()
+                + Arrays.stream(wordTexts).mapToLong(text -> text.length).sum();
+        long fileBytes = HEADER_BYTES + (long) titleTexts.length * TITLE_BYTES + (long) order.length * WORD_BYTES
+                + (long) postingCount * Integer.BYTES + textBytes;
+        if (fileBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Title index would take " + fileBytes + " bytes, over 2 GB");
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(titleTexts.length);
+            out.writeInt(order.length);
+            int textOffset = 0;
+            for (int title = 0; title < titleTexts.length; title++) {
+                out.writeInt(byPopularity.get(title).id());
+                out.writeFloat(byPopularity.get(title).popularity());
+                out.writeInt(textOffset);
+                out.writeInt(titleTexts[title].length);
+                textOffset += titleTexts[title].length;
+            }
+            int firstPosting = 0;
+            for (int wordRank = 0; wordRank < order.length; wordRank++) {
+                out.writeInt(textOffset);
+                out.writeInt(wordTexts[order[wordRank]].length);
+                out.writeInt(firstPosting);
+                out.writeInt(postingCounts[wordRank]);
+                textOffset += wordTexts[order[wordRank]].length;
+                firstPosting += postingCounts[wordRank];
+            }
+            for (int i = 0; i < postingCount; i++) {
+                out.writeInt((int) postings[i]);
+            }
+            for (byte[] text : titleTexts) {
+                out.write(text);
+            }
+            for (Integer wordId : order) {
+                out.write(wordTexts[wordId]);
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Split a title or query into distinct search words: lower-cased, accents removed, split at anything
+     * but letters and digits.
+     *
+     * @param text title or query
+     * @return words in order of first occurrence
+     */
+    public static List<String> words(String text) {
+        String folded = COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return Arrays.stream(WORD_SEPARATOR.split(folded.toLowerCase(Locale.ROOT)))
+                .filter(word -> !word.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * Find the titles in which every query word starts a word, best matches first: titles equal to the query,
+     * then titles containing every query word as a whole word, then prefix matches. Equally good matches are
+     * ordered by popularity, so "Alien" comes before the more popular "Aliens".
+     *
+     * @param query search text
+     * @param limit maximum number of titles
+     * @return matching titles, best first
+     */
+    public List<Title> search(String query, int limit) {
+        List<String> queryWords = words(query);
+        if (queryWords.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        // The longest query word starts the fewest index words; the others are checked per title
+        byte[] prefix = queryWords.stream().max(Comparator.comparingInt(String::length)).orElseThrow().getBytes(UTF_8);
+
+        // Match rank * title count + title number of the best matches so far, the worst on top
+        PriorityQueue<Long> best = new PriorityQueue<>(Comparator.reverseOrder());
+        IntHashSet checked = new IntHashSet();
+        for (int word = firstWordNotBefore(prefix); word < wordCount && startsWith(word, prefix); word++) {
+            // Only titles with the query word itself can match it as a whole word; that word comes first
+            long bestRank = compareWord(word, prefix) == 0 ? EXACT : PREFIX;
+            int entry = wordsStart + word * WORD_BYTES;
+            int firstPosting = buffer.getInt(entry + 8);
+            int postingCount = buffer.getInt(entry + 12);
+            for (int i = 0; i < postingCount; i++) {
+                int title = buffer.getInt(postingsStart + (firstPosting + i) * Integer.BYTES);
+                if (best.size() == limit && bestRank * titleCount + title > best.peek()) {
+                    break; // the rest of this word's titles rank lower still
+                }
+                if (!checked.add(title)) {
+                    continue;
+                }
+                int rank = rank(titleText(title), queryWords);
+                if (rank != NO_MATCH) {
+                    best.add((long) rank * titleCount + title);
+                    if (best.size() > limit) {
+                        best.poll();
+                    }
+                }
+            }
+        }
+        return best.stream().sorted().map(key -> title((int) (key % titleCount))).toList();
+    }
+
+    /**
+     * @return number of titles in the index
+     */
+    public int size() {
+        return titleCount;
+    }
+
+    private int firstWordNotBefore(byte[] key) {
+        int low = 0;
+        int high = wordCount;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compareWord(middle, key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int compareWord(int word, byte[] key) {
+        int entry = wordsStart + word * WORD_BYTES;
+        int offset = textStart + buffer.getInt(entry);
+        int length = buffer.getInt(entry + 4);
+        for (int i = 0; i < Math.min(length, key.length); i++) {
+            int difference = Byte.toUnsignedInt(buffer.get(offset + i)) - Byte.toUnsignedInt(key[i]);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return length - key.length;
+    }
+
+    private boolean startsWith(int word, byte[] prefix) {
+        int entry = wordsStart + word * WORD_BYTES;
+        if (buffer.getInt(entry + 4) < prefix.length) {
+            return false;
+        }
+        int offset = textStart + buffer.getInt(entry);
+        for (int i = 0; i < prefix.length; i++) {
+            if (buffer.get(offset + i) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int rank(String title, List<String> queryWords) {
+        List<String> titleWords = words(title);
+        if (titleWords.equals(queryWords)) {
+            return EXACT;
+        }
+        if (titleWords.containsAll(queryWords)) {
+            return WHOLE_WORDS;
+        }
+        boolean prefixes = queryWords.stream()
+                .allMatch(queryWord -> titleWords.stream().anyMatch(word -> word.startsWith(queryWord)));
+        return prefixes ? PREFIX : NO_MATCH;
+    }
+
+    private Title title(int title) {
+        int entry = HEADER_BYTES + title * TITLE_BYTES;
+        return new Title(buffer.getInt(entry), titleText(title), buffer.getFloat(entry + 4));
+    }
+
+    private String titleText(int title) {
+        int entry = HEADER_BYTES + title * TITLE_BYTES;
+        byte[] text = new byte[buffer.getInt(entry + 12)];
+        buffer.get(textStart + buffer.getInt(entry + 8), text);
+        return new String(text, UTF_8);
+    }
+
+    /**
+     * Indexed title.
+     *
+     * @param id ID of the titled item
+     * @param text title
+     * @param popularity ranking of titles matching the same query, higher first
+     */
+    public record Title(int id, String text, float popularity) {
+    }
+}
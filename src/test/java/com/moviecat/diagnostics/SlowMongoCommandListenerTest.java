@@ -0,0 +1,63 @@
+package com.moviecat.diagnostics;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowMongoCommandListenerTest {
+
+    private static final ConnectionDescription CONNECTION =
+            new ConnectionDescription(new ServerId(new ClusterId(), new ServerAddress()));
+
+    private SlowOperationLog slowOperationLog;
+    private SlowMongoCommandListener listener;
+
+    @BeforeEach
+    void setUp() {
+        slowOperationLog = new SlowOperationLog(10, new SimpleMeterRegistry());
+        listener = new SlowMongoCommandListener(slowOperationLog,
+                new StaticListableBeanFactory().getBeanProvider(MongoDatabaseFactory.class),
+                Duration.ofMillis(100), false, "queryPlanner");
+    }
+
+    @Test
+    void idleChangeStreamGetMoreIsNotSlow() {
+        // As sent for a change stream cursor with maxAwaitTime: the server answers when the await time ends
+        run(1, new BsonDocument("getMore", new BsonInt64(42))
+                .append("collection", new BsonString("$cmd.aggregate"))
+                .append("maxTimeMS", new BsonInt64(1000)), 1000);
+
+        assertTrue(slowOperationLog.recent().isEmpty());
+    }
+
+    @Test
+    void slowBatchOfAnOrdinaryCursorIsRecorded() {
+        run(2, new BsonDocument("getMore", new BsonInt64(43)).append("collection", new BsonString("movies")), 250);
+
+        assertEquals(1, slowOperationLog.recent().size());
+        assertEquals("getMore", slowOperationLog.recent().get(0).getName());
+    }
+
+    private void run(int requestId, BsonDocument command, long millis) {
+        listener.commandStarted(new CommandStartedEvent(null, 1, requestId, CONNECTION, "moviecat",
+                "getMore", command));
+        listener.commandSucceeded(new CommandSucceededEvent(null, 1, requestId, CONNECTION, "moviecat",
+                "getMore", new BsonDocument(), TimeUnit.MILLISECONDS.toNanos(millis)));
+    }
+}
@@ -14,7 +14,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
 import java.io.IOException;
@@ -386,6 +390,102 @@ class CatalogControllerIntegrationTest extends AbstractIntegrationTest {
         assertThat(response.getBody()).isEmpty();
     }
 
+    @Test
+    void shouldReturnOnlySelectedFields() {
+        ResponseEntity<Map[]> response = restTemplate.getForEntity(
+                catalogUrl + "?contentType=MOVIE&sortBy=title&fields=id,title,link",
+                Map[].class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).hasSize(2);
+        Map<String, Object> first = response.getBody()[0];
+        assertThat(first).containsOnlyKeys("id", "title", "link");
+        assertThat(first.get("title")).isEqualTo("Inception");
+        assertThat(first.get("link")).isEqualTo("https://www.themoviedb.org/movie/27205");
+    }
+
+    @Test
+    void shouldRejectUnknownField() {
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                catalogUrl + "?fields=title,unknown",
+                String.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void shouldStreamCatalogInSameOrderAsList() throws IOException {
+        ResponseEntity<CatalogItemResponse[]> listResponse = restTemplate.getForEntity(
+                catalogUrl + "?sortBy=title",
+                CatalogItemResponse[].class
+        );
+        ResponseEntity<String> streamResponse = restTemplate.getForEntity(
+                catalogUrl + "/stream?sortBy=title",
+                String.class
+        );
+
+        assertThat(streamResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(streamResponse.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+        List<String> lines = streamResponse.getBody().lines().toList();
+        assertThat(lines).hasSize(listResponse.getBody().length);
+        for (int i = 0; i < lines.size(); i++) {
+            CatalogItemResponse streamed = objectMapper.readValue(lines.get(i), CatalogItemResponse.class);
+            assertThat(streamed).isEqualTo(listResponse.getBody()[i]);
+        }
+    }
+
+    @Test
+    void shouldAnswerRepeatedConditionalGetWithNotModified() {
+        ResponseEntity<String> first = restTemplate.getForEntity(catalogUrl, String.class);
+        String etag = first.getHeaders().getETag();
+
+        ResponseEntity<String> repeated = getIfNoneMatch(catalogUrl, etag);
+
+        assertThat(etag).startsWith("W/\"");
+        assertThat(repeated.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(repeated.getBody()).isNull();
+        assertThat(repeated.getHeaders().getETag()).isEqualTo(etag);
+    }
+
+    @Test
+    void shouldReturnNewETagAfterWrite() {
+        String etag = restTemplate.getForEntity(catalogUrl, String.class).getHeaders().getETag();
+
+        movieRepository.save(Movie.builder()
+                .title("Heat")
+                .watchStatus(WatchStatus.UNWATCHED)
+                .addedBy("Bob")
+                .dateAdded(LocalDateTime.now())
+                .build());
+        ResponseEntity<CatalogItemResponse[]> response = restTemplate.exchange(
+                catalogUrl, HttpMethod.GET, new HttpEntity<>(ifNoneMatch(etag)), CatalogItemResponse[].class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNotEqualTo(etag);
+        assertThat(response.getBody()).extracting(CatalogItemResponse::getTitle).contains("Heat");
+    }
+
+    @Test
+    void shouldRejectUnknownFieldEvenWhenETagMatches() {
+        String etag = restTemplate.getForEntity(catalogUrl, String.class).getHeaders().getETag();
+
+        ResponseEntity<String> response = getIfNoneMatch(catalogUrl + "?fields=title,unknown", etag);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    private ResponseEntity<String> getIfNoneMatch(String url, String etag) {
+        return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(ifNoneMatch(etag)), String.class);
+    }
+
+    private static HttpHeaders ifNoneMatch(String etag) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+        return headers;
+    }
+
     private String loadExpectedJson(String filename, Map<String, String> placeholders) throws IOException {
         ClassPathResource resource = new ClassPathResource("catalog-tests/" + filename);
         String content = new String(resource.getInputStream().readAllBytes());
@@ -0,0 +1,230 @@
+package com.moviecat.integration;
+
+import com.moviecat.model.Movie;
+import com.moviecat.model.Notification;
+import com.moviecat.model.Series;
+import com.moviecat.support.LoadDriver;
+import com.moviecat.support.LoadDriver.LoadResult;
+import com.moviecat.support.SyntheticCatalog;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HTTP load test of the read endpoints at several catalog sizes.
+ *
+ * Fills MongoDB with a synthetic catalog of each size, then measures p50/p99 latency and throughput
+ * per endpoint, logs them and writes them to {@code target/load-test/}. Excluded from the regular build;
+ * run with {@code mvn -Pload-test test}. Tunable with system properties:
+ * {@code load.sizes} (default 1000,10000,50000), {@code load.concurrency} (8),
+ * {@code load.warmup} (20) and {@code load.requests} (200). Any application property can be
+ * overridden the same way, e.g. {@code -Dpersistence.mode=reactive} or
+ * {@code -Dspring.threads.virtual.enabled=true} to compare the persistence and threading modes.
+ *
+ * The catalog cache is off by default: with it, every measured request after warm-up is a cache hit and
+ * the numbers say nothing about the queries. {@code -Dload.catalog-cache=true} measures the cached endpoints
+ * instead; those results are reported under their own mode (suffix {@code -cached}).
+ *
+ * The slow-TMDB scenario measures a request thread blocked on an external call: TMDB is replaced by a local
+ * stub answering searches after {@code load.tmdb.delay-ms} (default 200), driven with
+ * {@code load.tmdb.concurrency} (default 400, twice Tomcat's 200 platform request threads) for
+ * {@code load.tmdb.requests} (2000) requests. Run it with and without
+ * {@code -Dspring.threads.virtual.enabled=true} to compare platform and virtual request threads.
+ */
+@Slf4j
+@Tag("load")
+@TestPropertySource(properties = {
+        "logging.level.com.moviecat=INFO",
+        // Every slow-TMDB request must reach the stub
+        "tmdb.rate-limit.requests-per-second=0",
+        "tmdb.search.cache.enabled=false"
+})
+class CatalogLoadTest extends AbstractIntegrationTest {
+
+    private static final int INSERT_BATCH_SIZE = 5000;
+    private static final String REPORT_HEADER = "mode,catalogSize,endpoint,requests,errors,p50Ms,p99Ms,maxMs,requestsPerSecond";
+    private static final String SLOW_TMDB_SEARCH =
+            "{\"page\":1,\"results\":[{\"id\":949,\"title\":\"Heat\"}],\"total_results\":1,\"total_pages\":1}";
+
+    private static HttpServer slowTmdb;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private Environment environment;
+
+    @DynamicPropertySource
+    static void slowTmdbProperties(DynamicPropertyRegistry registry) throws IOException {
+        long delayMillis = Long.getLong("load.tmdb.delay-ms", 200);
+        byte[] body = SLOW_TMDB_SEARCH.getBytes(StandardCharsets.UTF_8);
+        slowTmdb = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        slowTmdb.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        slowTmdb.createContext("/", exchange -> {
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        slowTmdb.start();
+        registry.add("tmdb.api.base-url", () -> "http://localhost:" + slowTmdb.getAddress().getPort());
+        registry.add("catalog.cache.enabled", () -> System.getProperty("load.catalog-cache", "false"));
+    }
+
+    @AfterAll
+    static void stopSlowTmdb() {
+        slowTmdb.stop(0);
+    }
+
+    @Test
+    void measureReadEndpoints() throws Exception {
+        LoadDriver driver = new LoadDriver(
+                Integer.getInteger("load.concurrency", 8),
+                Integer.getInteger("load.warmup", 20),
+                Integer.getInteger("load.requests", 200));
+        String mode = mode();
+
+        List<String> report = new ArrayList<>();
+        report.add(REPORT_HEADER);
+        for (int size : catalogSizes()) {
+            loadCatalog(size);
+            for (Map.Entry<String, String> endpoint : endpoints().entrySet()) {
+                LoadResult result = driver.run(endpoint.getKey(), URI.create("http://localhost:" + port + endpoint.getValue()));
+                record(report, mode, size, result);
+
+                assertThat(result.errors()).as("failed requests to %s", endpoint.getValue()).isZero();
+            }
+        }
+
+        writeReport(mode, report);
+    }
+
+    @Test
+    void measureSlowTmdbSearch() throws Exception {
+        LoadDriver driver = new LoadDriver(
+                Integer.getInteger("load.tmdb.concurrency", 400),
+                Integer.getInteger("load.warmup", 20),
+                Integer.getInteger("load.tmdb.requests", 2000));
+        String mode = mode();
+
+        List<String> report = new ArrayList<>();
+        report.add(REPORT_HEADER);
+        LoadResult result = driver.run("tmdb-search-slow",
+                URI.create("http://localhost:" + port + "/api/tmdb/search/movies?title=Heat"));
+        record(report, mode, 0, result);
+        assertThat(result.errors()).as("failed TMDB searches").isZero();
+
+        writeReport(mode + "-tmdb", report);
+    }
+
+    private String mode() {
+        return environment.getProperty("persistence.mode", "blocking")
+                + (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false) ? "-virtual" : "")
+                + (environment.getProperty("catalog.cache.enabled", Boolean.class, true) ? "-cached" : "");
+    }
+
+    private static void record(List<String> report, String mode, int size, LoadResult result) {
+        report.add(String.format(Locale.ROOT, "%s,%d,%s,%d,%d,%.2f,%.2f,%.2f,%.1f",
+                mode, size, result.name(), result.requests(), result.errors(),
+                result.p50Millis(), result.p99Millis(), result.maxMillis(), result.throughput()));
+        log.info(String.format(Locale.ROOT, "[%s] %6d items  %-20s p50 %8.2f ms  p99 %8.2f ms  %8.1f req/s",
+                mode, size, result.name(), result.p50Millis(), result.p99Millis(), result.throughput()));
+    }
+
+    /**
+     * Endpoints to measure, by report name.
+     */
+    private static Map<String, String> endpoints() {
+        Map<String, String> endpoints = new LinkedHashMap<>();
+        endpoints.put("catalog", "/api/catalog");
+        endpoints.put("catalog-title", "/api/catalog?sortBy=title");
+        endpoints.put("catalog-filtered", "/api/catalog?genre=Drama&watchStatus=UNWATCHED");
+        endpoints.put("catalog-fields", "/api/catalog?fields=id,title,watchStatus");
+        endpoints.put("catalog-stream", "/api/catalog/stream");
+        endpoints.put("catalog-search", "/api/catalog/search?query=dark");
+        endpoints.put("movies", "/api/movies");
+        endpoints.put("series", "/api/series");
+        endpoints.put("recommendations", "/api/recommendations?count=5");
+        endpoints.put("notifications", "/api/notifications");
+        return endpoints;
+    }
+
+    private static int[] catalogSizes() {
+        return Arrays.stream(System.getProperty("load.sizes", "1000,10000,50000").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+    }
+
+    /**
+     * Replace the stored catalog with a synthetic one: two thirds movies, one third series,
+     * and a notification for every series with new seasons.
+     */
+    private void loadCatalog(int size) {
+        mongoTemplate.remove(new Query(), Movie.class);
+        mongoTemplate.remove(new Query(), Series.class);
+        mongoTemplate.remove(new Query(), Notification.class);
+
+        SyntheticCatalog catalog = new SyntheticCatalog(size);
+        int movieCount = size * 2 / 3;
+        List<Series> series = catalog.series(size - movieCount);
+        insertInBatches(catalog.movies(movieCount), Movie.class);
+        insertInBatches(series, Series.class);
+        insertInBatches(series.stream()
+                .filter(Series::getHasNewSeasons)
+                .map(item -> Notification.builder()
+                        .seriesId(item.getId())
+                        .seriesTitle(item.getTitle())
+                        .message("New season available for " + item.getTitle())
+                        .newSeasonsCount(1)
+                        .dismissed(false)
+                        .build())
+                .toList(), Notification.class);
+    }
+
+    private <T> void insertInBatches(List<T> entities, Class<T> entityClass) {
+        for (int from = 0; from < entities.size(); from += INSERT_BATCH_SIZE) {
+            mongoTemplate.insert(entities.subList(from, Math.min(from + INSERT_BATCH_SIZE, entities.size())), entityClass);
+        }
+    }
+
+    private static void writeReport(String mode, List<String> report) throws IOException {
+        Path directory = Path.of("target", "load-test");
+        Files.createDirectories(directory);
+        Files.write(directory.resolve("results-" + mode + ".csv"), report);
+    }
+}
@@ -0,0 +1,174 @@
+package com.moviecat.integration;
+
+import com.moviecat.dto.CatalogItemResponse;
+import com.moviecat.dto.NotificationEvent;
+import com.moviecat.model.Movie;
+import com.moviecat.model.Series;
+import com.moviecat.model.WatchStatus;
+import com.moviecat.repository.MovieRepository;
+import com.moviecat.repository.SeriesRepository;
+import com.moviecat.service.CollectionVersions;
+import com.moviecat.service.NotificationBroadcaster;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import reactor.core.Disposable;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Updates.set;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Writes made outside this instance (straight to MongoDB, as another replica would) must reach the
+ * local caches and notification stream subscribers through the change stream.
+ */
+class ChangeStreamInvalidationIntegrationTest extends AbstractIntegrationTest {
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private SeriesRepository seriesRepository;
+
+    @Autowired
+    private CollectionVersions collectionVersions;
+
+    @Autowired
+    private MongoDatabaseFactory mongoDatabaseFactory;
+
+    @Autowired
+    private NotificationBroadcaster notificationBroadcaster;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String catalogUrl;
+
+    @BeforeEach
+    void setUp() {
+        catalogUrl = "http://localhost:" + port + "/api/catalog";
+        movieRepository.deleteAll();
+        seriesRepository.deleteAll();
+        movieRepository.save(Movie.builder()
+                .title("Inception")
+                .watchStatus(WatchStatus.UNWATCHED)
+                .addedBy("Alice")
+                .dateAdded(LocalDateTime.now())
+                .priority(0)
+                .build());
+    }
+
+    @Test
+    void externalWriteInvalidatesCachedCatalog() throws InterruptedException {
+        assertThat(titles()).containsExactly("Inception");
+        long version = collectionVersions.current(CollectionVersions.MOVIES);
+
+        // Bypasses Spring Data, so no mapping event is published locally
+        mongoDatabaseFactory.getMongoDatabase().getCollection("movies").insertOne(new Document()
+                .append("title", "Arrival")
+                .append("watchStatus", "UNWATCHED")
+                .append("addedBy", "Bob")
+                .append("dateAdded", new Date())
+                .append("priority", 0));
+
+        assertThat(await(() -> collectionVersions.current(CollectionVersions.MOVIES) > version))
+                .as("change stream should bump the movies version").isTrue();
+        assertThat(titles()).containsExactlyInAnyOrder("Inception", "Arrival");
+    }
+
+    @Test
+    void resumeTokenIsPersisted() throws InterruptedException {
+        movieRepository.save(Movie.builder().title("Heat").watchStatus(WatchStatus.UNWATCHED).build());
+
+        assertThat(await(() -> mongoDatabaseFactory.getMongoDatabase()
+                .getCollection("resumeTokens").countDocuments() > 0))
+                .as("resume token should be saved").isTrue();
+    }
+
+    @Test
+    void externalNotificationChangesReachStreamSubscribers() throws InterruptedException {
+        List<NotificationEvent> events = new CopyOnWriteArrayList<>();
+        Disposable subscription = notificationBroadcaster.subscribe().subscribe(events::add);
+        try {
+            Document notification = new Document()
+                    .append("seriesId", "s1")
+                    .append("seriesTitle", "Dark")
+                    .append("message", "New season available for Dark")
+                    .append("newSeasonsCount", 1)
+                    .append("createdAt", new Date())
+                    .append("dismissed", false);
+            var notifications = mongoDatabaseFactory.getMongoDatabase().getCollection("notifications");
+            notifications.insertOne(notification);
+            String id = notification.getObjectId("_id").toHexString();
+
+            assertThat(await(() -> events.size() == 1)).as("insert should be streamed as created").isTrue();
+            assertThat(events.get(0).getType()).isEqualTo(NotificationEvent.Type.CREATED);
+            assertThat(events.get(0).getNotification().getSeriesTitle()).isEqualTo("Dark");
+
+            // Dismissals are saved as a replace of the whole document
+            notifications.replaceOne(eq("_id", notification.getObjectId("_id")), notification.append("dismissed", true));
+
+            assertThat(await(() -> events.size() == 2)).as("replace should be streamed as dismissed").isTrue();
+            assertThat(events.get(1).getType()).isEqualTo(NotificationEvent.Type.DISMISSED);
+            assertThat(events.get(1).getId()).isEqualTo(id);
+        } finally {
+            subscription.dispose();
+        }
+    }
+
+    @Test
+    void seasonCheckTimeUpdatesAreNotPublished() throws InterruptedException {
+        double before = seriesEvents();
+        String id = seriesRepository.save(Series.builder().title("Severance").build()).getId();
+        assertThat(await(() -> seriesEvents() == before + 1)).as("insert should be published").isTrue();
+
+        seriesRepository.scheduleSeasonCheck(id, LocalDateTime.now().plusDays(7));
+        mongoDatabaseFactory.getMongoDatabase().getCollection("series")
+                .updateOne(eq("_id", new ObjectId(id)), set("title", "Severance (2022)"));
+
+        // Events arrive in write order, so the check time update has been skipped once the title update is in
+        assertThat(await(() -> seriesEvents() >= before + 2)).as("title update should be published").isTrue();
+        assertThat(seriesEvents()).isEqualTo(before + 2);
+    }
+
+    private double seriesEvents() {
+        var counter = meterRegistry.find("moviecat.change.stream.events").tag("collection", "series").counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private List<String> titles() {
+        CatalogItemResponse[] items = restTemplate.getForObject(catalogUrl, CatalogItemResponse[].class);
+        return List.of(items).stream().map(CatalogItemResponse::getTitle).toList();
+    }
+
+    private static boolean await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(50);
+        }
+        return condition.getAsBoolean();
+    }
+}
@@ -0,0 +1,174 @@
+package com.moviecat.integration;
+
+import com.moviecat.dto.CatalogItemResponse;
+import com.moviecat.dto.MovieRequest;
+import com.moviecat.dto.NotificationResponse;
+import com.moviecat.dto.RecommendationResponse;
+import com.moviecat.dto.SeriesRequest;
+import com.moviecat.model.ContentType;
+import com.moviecat.model.Movie;
+import com.moviecat.model.Notification;
+import com.moviecat.model.Series;
+import com.moviecat.model.WatchStatus;
+import com.moviecat.repository.MovieRepository;
+import com.moviecat.repository.NotificationRepository;
+import com.moviecat.repository.SeriesRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the catalog, recommendation and notification endpoints
+ * served by the reactive persistence stack.
+ */
+@TestPropertySource(properties = "persistence.mode=reactive")
+class ReactivePersistenceIntegrationTest extends AbstractIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private SeriesRepository seriesRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() {
+        baseUrl = "http://localhost:" + port + "/api";
+
+        movieRepository.deleteAll();
+        seriesRepository.deleteAll();
+        notificationRepository.deleteAll();
+
+        restTemplate.postForObject(baseUrl + "/movies",
+                MovieRequest.builder().title("Inception").genres(List.of("Sci-Fi")).addedBy("Alice").priority(2).build(),
+                Object.class);
+        restTemplate.postForObject(baseUrl + "/movies",
+                MovieRequest.builder().title("Arrival").genres(List.of("Sci-Fi")).addedBy("Bob").build(),
+                Object.class);
+        restTemplate.postForObject(baseUrl + "/series",
+                SeriesRequest.builder().title("Dark").genres(List.of("Drama")).addedBy("Alice").build(),
+                Object.class);
+        // Watched items in both collections: each collection must be read unwatched first to merge in order
+        movieRepository.save(Movie.builder().title("Alien").genres(List.of("Horror")).addedBy("Bob")
+                .watchStatus(WatchStatus.WATCHED).dateAdded(LocalDateTime.now().minusDays(2)).build());
+        seriesRepository.save(Series.builder().title("Andor").genres(List.of("Sci-Fi")).addedBy("Bob")
+                .watchStatus(WatchStatus.WATCHED).dateAdded(LocalDateTime.now().minusDays(1)).build());
+    }
+
+    @Test
+    void shouldReturnCatalogInCatalogOrder() {
+        ResponseEntity<CatalogItemResponse[]> response = restTemplate.getForEntity(
+                baseUrl + "/catalog?sortBy=title",
+                CatalogItemResponse[].class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody())
+                .extracting(CatalogItemResponse::getTitle)
+                .containsExactly("Arrival", "Dark", "Inception", "Alien", "Andor");
+        assertThat(response.getBody()[1].getContentType()).isEqualTo(ContentType.SERIES);
+    }
+
+    @Test
+    void shouldFilterAndSearchCatalog() {
+        ResponseEntity<CatalogItemResponse[]> filtered = restTemplate.getForEntity(
+                baseUrl + "/catalog?genre=sci-fi&addedBy=Alice",
+                CatalogItemResponse[].class
+        );
+        ResponseEntity<CatalogItemResponse[]> searched = restTemplate.getForEntity(
+                baseUrl + "/catalog/search?query=dar",
+                CatalogItemResponse[].class
+        );
+
+        assertThat(filtered.getBody()).extracting(CatalogItemResponse::getTitle).containsExactly("Inception");
+        assertThat(searched.getBody()).extracting(CatalogItemResponse::getTitle).containsExactly("Dark");
+    }
+
+    @Test
+    void shouldSearchCatalogUnwatchedFirst() {
+        ResponseEntity<CatalogItemResponse[]> response = restTemplate.getForEntity(
+                baseUrl + "/catalog/search?query=a",
+                CatalogItemResponse[].class
+        );
+
+        assertThat(response.getBody())
+                .extracting(CatalogItemResponse::getTitle)
+                .containsExactly("Arrival", "Dark", "Alien", "Andor");
+    }
+
+    @Test
+    void shouldReturnRecommendationsForUser() {
+        ResponseEntity<RecommendationResponse[]> response = restTemplate.getForEntity(
+                baseUrl + "/recommendations?count=10&addedBy=Alice",
+                RecommendationResponse[].class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody())
+                .extracting(RecommendationResponse::getTitle)
+                .containsExactlyInAnyOrder("Inception", "Dark");
+    }
+
+    @Test
+    void shouldListAndDismissNotifications() {
+        Notification notification = notificationRepository.save(Notification.builder()
+                .seriesId("series-1")
+                .seriesTitle("Dark")
+                .message("New season available for Dark")
+                .newSeasonsCount(1)
+                .dismissed(false)
+                .build());
+
+        ResponseEntity<NotificationResponse[]> before = restTemplate.getForEntity(
+                baseUrl + "/notifications",
+                NotificationResponse[].class
+        );
+        ResponseEntity<Void> dismissed = restTemplate.exchange(
+                baseUrl + "/notifications/" + notification.getId(),
+                HttpMethod.DELETE,
+                null,
+                Void.class
+        );
+        ResponseEntity<NotificationResponse[]> after = restTemplate.getForEntity(
+                baseUrl + "/notifications",
+                NotificationResponse[].class
+        );
+
+        assertThat(before.getBody()).extracting(NotificationResponse::getId).containsExactly(notification.getId());
+        assertThat(dismissed.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(after.getBody()).isEmpty();
+    }
+
+    @Test
+    void shouldReturnNotFoundWhenDismissingUnknownNotification() {
+        ResponseEntity<String> response = restTemplate.exchange(
+                baseUrl + "/notifications/unknown",
+                HttpMethod.DELETE,
+                null,
+                String.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+}
@@ -0,0 +1,140 @@
+package com.moviecat.jobs;
+
+import com.moviecat.cluster.ClusterMembership;
+import com.moviecat.model.Job;
+import com.moviecat.model.JobStatus;
+import com.moviecat.model.JobType;
+import com.moviecat.repository.JobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobWorkerTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private ClusterMembership clusterMembership;
+
+    private final RecordingHandler handler = new RecordingHandler();
+
+    private JobWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        when(clusterMembership.instanceId()).thenReturn("instance-1");
+        worker = new JobWorker(jobRepository, List.of(handler), clusterMembership, new SimpleMeterRegistry(),
+                1, Duration.ofSeconds(1), Duration.ofMinutes(2), 2, Duration.ofSeconds(30), Duration.ofMinutes(30));
+        lenient().when(jobRepository.plan(any(), any(), any())).thenReturn(true);
+        lenient().when(jobRepository.checkpoint(any(), any(), anyInt(), anyInt(), anyInt(), anyInt(), any())).thenReturn(true);
+    }
+
+    @Test
+    void plansAndRunsJobToSuccess() {
+        handler.items = List.of("a", "b", "c");
+        claim(job(null, 0, 1));
+
+        assertTrue(worker.runNext());
+
+        assertEquals(List.of("a", "b", "c"), handler.processed);
+        verify(jobRepository).plan(eq("job-1"), startsWith("instance-1/"), eq(List.of("a", "b", "c")));
+        verify(jobRepository).checkpoint(eq("job-1"), any(), eq(3), eq(1), eq(0), eq(0), any());
+        verify(jobRepository).finish(eq("job-1"), any(), eq(JobStatus.SUCCEEDED), isNull());
+    }
+
+    @Test
+    void resumesAtCheckpoint() {
+        claim(job(List.of("a", "b", "c"), 2, 2));
+
+        worker.runNext();
+
+        assertEquals(List.of("c"), handler.processed);
+        verify(jobRepository, never()).plan(any(), any(), any());
+        verify(jobRepository).finish(eq("job-1"), any(), eq(JobStatus.SUCCEEDED), any());
+    }
+
+    @Test
+    void rewindsFailedStreakAndRetriesWithBackoff() {
+        handler.failing = List.of("b", "c");
+        claim(job(List.of("a", "b", "c", "d"), 0, 2));
+
+        worker.runNext();
+
+        // The streak b, c is rewound: cursor back at b, its failure count taken back
+        verify(jobRepository).checkpoint(eq("job-1"), any(), eq(1), eq(0), eq(-1), eq(0), any());
+        verify(jobRepository).requeue(eq("job-1"), any(), argThat(next -> next.isAfter(LocalDateTime.now().plusSeconds(50))),
+                contains("2 items failed in a row"));
+        verify(jobRepository, never()).finish(any(), any(), any(), any());
+        assertFalse(handler.processed.contains("d"));
+    }
+
+    @Test
+    void stopsWhenLeaseIsLost() {
+        claim(job(List.of("a", "b"), 0, 1));
+        when(jobRepository.checkpoint(any(), any(), anyInt(), anyInt(), anyInt(), anyInt(), any())).thenReturn(false);
+
+        worker.runNext();
+
+        assertEquals(List.of("a"), handler.processed);
+        verify(jobRepository, never()).finish(any(), any(), any(), any());
+        verify(jobRepository, never()).requeue(any(), any(), any(), any());
+    }
+
+    private void claim(Job job) {
+        when(jobRepository.claimNext(startsWith("instance-1/"), any(), any())).thenReturn(Optional.of(job));
+    }
+
+    private static Job job(List<String> items, int cursor, int attempts) {
+        return Job.builder()
+                .id("job-1")
+                .type(JobType.SERIES_REFRESH)
+                .status(JobStatus.RUNNING)
+                .items(items)
+                .total(items != null ? items.size() : null)
+                .cursor(cursor)
+                .attempts(attempts)
+                .maxAttempts(5)
+                .build();
+    }
+
+    private static class RecordingHandler implements JobHandler {
+
+        List<String> items = List.of();
+        List<String> failing = List.of();
+        final List<String> processed = new ArrayList<>();
+
+        @Override
+        public JobType type() {
+            return JobType.SERIES_REFRESH;
+        }
+
+        @Override
+        public List<String> plan(Job job) {
+            return items;
+        }
+
+        @Override
+        public boolean process(Job job, String item) {
+            processed.add(item);
+            if (failing.contains(item)) {
+                throw new IllegalStateException("TMDB unavailable");
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.moviecat.repository;
+
+import com.mongodb.MongoClientSettings;
+import com.moviecat.dto.CatalogItemResponse;
+import com.moviecat.model.ContentType;
+import com.moviecat.model.Movie;
+import com.moviecat.model.Season;
+import com.moviecat.model.Series;
+import com.moviecat.model.SeriesStatus;
+import com.moviecat.model.WatchStatus;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogItemCodecTest {
+
+    private MappingMongoConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+    }
+
+    @Test
+    void decodesMovieDocumentWrittenBySpringData() {
+        String id = new ObjectId().toHexString();
+        Movie movie = Movie.builder()
+                .id(id)
+                .title("Inception")
+                .comment("Mind-bending")
+                .coverImage("/api/images/abc")
+                .length(148)
+                .genres(List.of("Sci-Fi", "Thriller"))
+                .watchStatus(WatchStatus.WATCHED)
+                .addedBy("Alice")
+                .dateAdded(LocalDateTime.of(2024, 3, 1, 12, 30, 15))
+                .priority(3)
+                .tmdbId(27205)
+                .build();
+
+        CatalogItemResponse item = decode(movie, ContentType.MOVIE);
+
+        assertEquals(id, item.getId());
+        assertEquals(ContentType.MOVIE, item.getContentType());
+        assertEquals("Inception", item.getTitle());
+        assertEquals("Mind-bending", item.getComment());
+        assertEquals("/api/images/abc", item.getCoverImage());
+        assertEquals(148, item.getLength());
+        assertEquals(List.of("Sci-Fi", "Thriller"), item.getGenres());
+        assertEquals(WatchStatus.WATCHED, item.getWatchStatus());
+        assertEquals("Alice", item.getAddedBy());
+        assertEquals(LocalDateTime.of(2024, 3, 1, 12, 30, 15), item.getDateAdded());
+        assertEquals(3, item.getPriority());
+        assertEquals(27205, item.getTmdbId());
+        assertEquals("https://www.themoviedb.org/movie/27205", item.getLink());
+        assertNull(item.getSeasons());
+        assertNull(item.getHasNewSeasons());
+    }
+
+    @Test
+    void decodesSeriesDocumentWithSeasons() {
+        Series series = Series.builder()
+                .id(new ObjectId().toHexString())
+                .title("Breaking Bad")
+                .seasons(new ArrayList<>(List.of(
+                        Season.builder().seasonNumber(1).watchStatus(WatchStatus.WATCHED).build(),
+                        Season.builder().seasonNumber(2).build())))
+                .hasNewSeasons(true)
+                .seriesStatus(SeriesStatus.COMPLETE)
+                .totalAvailableSeasons(5)
+                .lastSeasonCheck(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .tmdbId(1396)
+                .build();
+
+        CatalogItemResponse item = decode(series, ContentType.SERIES);
+
+        assertEquals(ContentType.SERIES, item.getContentType());
+        assertEquals(2, item.getSeasons().size());
+        assertEquals(1, item.getSeasons().get(0).getSeasonNumber());
+        assertEquals(WatchStatus.WATCHED, item.getSeasons().get(0).getWatchStatus());
+        assertEquals(WatchStatus.UNWATCHED, item.getSeasons().get(1).getWatchStatus());
+        assertTrue(item.getHasNewSeasons());
+        assertEquals("COMPLETE", item.getSeriesStatus());
+        assertEquals(5, item.getTotalAvailableSeasons());
+        assertEquals("https://www.themoviedb.org/tv/1396", item.getLink());
+        assertNull(item.getLength());
+    }
+
+    @Test
+    void appliesEntityDefaultsForMissingFields() {
+        BsonDocument document = new Document("_id", new ObjectId())
+                .append("title", "Projected")
+                .toBsonDocument(Document.class, MongoClientSettings.getDefaultCodecRegistry());
+
+        CatalogItemResponse item = new CatalogItemCodec(ContentType.SERIES)
+                .decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+
+        assertEquals("Projected", item.getTitle());
+        assertEquals(List.of(), item.getGenres());
+        assertEquals(List.of(), item.getSeasons());
+        assertEquals(WatchStatus.UNWATCHED, item.getWatchStatus());
+        assertEquals(0, item.getPriority());
+        assertFalse(item.getHasNewSeasons());
+        assertNull(item.getTmdbId());
+        assertNull(item.getLink());
+        assertNull(item.getDateAdded(), "A missing date must not be invented, MongoDB sorts it first");
+    }
+
+    @Test
+    void encodedItemsDecodeToEqualItems() {
+        CatalogItemResponse movie = decode(Movie.builder()
+                .id(new ObjectId().toHexString())
+                .title("Heat")
+                .length(170)
+                .genres(List.of("Crime"))
+                .dateAdded(LocalDateTime.of(2024, 5, 2, 8, 0))
+                .tmdbId(949)
+                .build(), ContentType.MOVIE);
+        CatalogItemResponse series = decode(Series.builder()
+                .id("custom-id")
+                .title("Dark")
+                .seasons(new ArrayList<>(List.of(Season.builder().seasonNumber(1).watchStatus(WatchStatus.WATCHED).build())))
+                .seriesStatus(SeriesStatus.COMPLETE)
+                .build(), ContentType.SERIES);
+
+        assertEquals(movie, roundTrip(movie, ContentType.MOVIE));
+        assertEquals(series, roundTrip(series, ContentType.SERIES));
+    }
+
+    private static CatalogItemResponse roundTrip(CatalogItemResponse item, ContentType contentType) {
+        CatalogItemCodec codec = new CatalogItemCodec(contentType);
+        BsonDocument bson = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(bson), item, EncoderContext.builder().build());
+        return codec.decode(new BsonDocumentReader(bson), DecoderContext.builder().build());
+    }
+
+    private CatalogItemResponse decode(Object entity, ContentType contentType) {
+        Document document = new Document();
+        converter.write(entity, document);
+        BsonDocument bson = document.toBsonDocument(Document.class, MongoClientSettings.getDefaultCodecRegistry());
+        return new CatalogItemCodec(contentType).decode(new BsonDocumentReader(bson), DecoderContext.builder().build());
+    }
+}
@@ -1,5 +1,9 @@
 package com.moviecat.scheduler;
 
+import com.moviecat.cluster.ClusterMembership;
+import com.moviecat.cluster.Lease;
+import com.moviecat.cluster.LeaseLock;
+import com.moviecat.cluster.Shard;
 import com.moviecat.dto.BulkRefreshResponse;
 import com.moviecat.service.SeriesService;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,13 +12,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
  * Unit tests for SeasonRefreshScheduler.
  * 
- * Tests the scheduled task that automatically refreshes TV series season data.
+ * Tests the scheduled task that refreshes TV series that are due for a season check.
  */
 @ExtendWith(MockitoExtension.class)
 class SeasonRefreshSchedulerTest {
@@ -22,6 +31,15 @@ class SeasonRefreshSchedulerTest {
     @Mock
     private SeriesService seriesService;
 
+    @Mock
+    private LeaseLock leaseLock;
+
+    @Mock
+    private ClusterMembership clusterMembership;
+
+    @Mock
+    private Lease lease;
+
     @InjectMocks
     private SeasonRefreshScheduler scheduler;
 
@@ -35,36 +53,37 @@ class SeasonRefreshSchedulerTest {
                 .failureCount(2)
                 .updatedCount(5)
                 .build();
+        lenient().when(leaseLock.tryAcquire(SeasonRefreshScheduler.LOCK_NAME)).thenReturn(Optional.of(lease));
     }
 
     @Test
-    void refreshAllSeriesSeasons_shouldCallServiceAndLogSuccess() {
+    void refreshDueSeries_shouldCallServiceAndLogSuccess() {
         // Given
-        when(seriesService.refreshAllSeriesWithTmdbId()).thenReturn(mockResponse);
+        when(seriesService.refreshDueSeries(eq(Shard.ALL), eq(20), any())).thenReturn(mockResponse);
 
         // When
-        scheduler.refreshAllSeriesSeasons();
+        scheduler.refreshDueSeries();
 
         // Then
-        verify(seriesService, times(1)).refreshAllSeriesWithTmdbId();
+        verify(seriesService, times(1)).refreshDueSeries(eq(Shard.ALL), eq(20), any());
     }
 
     @Test
-    void refreshAllSeriesSeasons_shouldHandleExceptionGracefully() {
+    void refreshDueSeries_shouldHandleExceptionGracefully() {
         // Given
-        when(seriesService.refreshAllSeriesWithTmdbId())
+        when(seriesService.refreshDueSeries(eq(Shard.ALL), eq(20), any()))
                 .thenThrow(new RuntimeException("TMDB API unavailable"));
 
         // When
-        scheduler.refreshAllSeriesSeasons();
+        scheduler.refreshDueSeries();
 
         // Then
-        verify(seriesService, times(1)).refreshAllSeriesWithTmdbId();
+        verify(seriesService, times(1)).refreshDueSeries(eq(Shard.ALL), eq(20), any());
         // Exception should be caught and logged, not propagated
     }
 
     @Test
-    void refreshAllSeriesSeasons_shouldHandleEmptyResponse() {
+    void refreshDueSeries_shouldHandleEmptyResponse() {
         // Given
         BulkRefreshResponse emptyResponse = BulkRefreshResponse.builder()
                 .totalProcessed(0)
@@ -72,12 +91,52 @@ class SeasonRefreshSchedulerTest {
                 .failureCount(0)
                 .updatedCount(0)
                 .build();
-        when(seriesService.refreshAllSeriesWithTmdbId()).thenReturn(emptyResponse);
+        when(seriesService.refreshDueSeries(eq(Shard.ALL), eq(20), any())).thenReturn(emptyResponse);
+
+        // When
+        scheduler.refreshDueSeries();
+
+        // Then
+        verify(seriesService, times(1)).refreshDueSeries(eq(Shard.ALL), eq(20), any());
+    }
+
+    @Test
+    void refreshDueSeries_shouldReleaseLockAfterTick() {
+        // Given
+        when(seriesService.refreshDueSeries(eq(Shard.ALL), eq(20), any())).thenReturn(mockResponse);
+
+        // When
+        scheduler.refreshDueSeries();
+
+        // Then
+        verify(lease).close();
+    }
+
+    @Test
+    void refreshDueSeries_shouldSkipWhenAnotherInstanceHoldsLock() {
+        // Given
+        when(leaseLock.tryAcquire(SeasonRefreshScheduler.LOCK_NAME)).thenReturn(Optional.empty());
+
+        // When
+        scheduler.refreshDueSeries();
+
+        // Then
+        verifyNoInteractions(seriesService);
+    }
+
+    @Test
+    void refreshDueSeries_shouldRefreshOwnShardWhenSharding() {
+        // Given
+        ReflectionTestUtils.setField(scheduler, "sharding", true);
+        Shard shard = new Shard(1, 3);
+        when(clusterMembership.currentShard()).thenReturn(shard);
+        when(leaseLock.tryAcquire("season-refresh-1-of-3")).thenReturn(Optional.of(lease));
+        when(seriesService.refreshDueSeries(eq(shard), eq(20), any())).thenReturn(mockResponse);
 
         // When
-        scheduler.refreshAllSeriesSeasons();
+        scheduler.refreshDueSeries();
 
         // Then
-        verify(seriesService, times(1)).refreshAllSeriesWithTmdbId();
+        verify(seriesService, times(1)).refreshDueSeries(eq(shard), eq(20), any());
     }
 }
@@ -0,0 +1,78 @@
+package com.moviecat.service;
+
+import com.moviecat.dto.CatalogItemResponse;
+import com.moviecat.util.FieldSelection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogCacheTest {
+
+    private CollectionVersions collectionVersions;
+    private CatalogCache catalogCache;
+    private AtomicInteger loads;
+    private Supplier<List<CatalogItemResponse>> loader;
+
+    @BeforeEach
+    void setUp() {
+        collectionVersions = new CollectionVersions();
+        catalogCache = new CatalogCache(collectionVersions, new SimpleMeterRegistry(), true, 2, 100);
+        loads = new AtomicInteger();
+        loader = () -> {
+            loads.incrementAndGet();
+            return new ArrayList<>(List.of(CatalogItemResponse.builder().title("Item").build()));
+        };
+    }
+
+    @Test
+    void equivalentFilterSetsShareOneEntry() {
+        catalogCache.get(key(null, "Drama", "unwatched", "title"), loader);
+        catalogCache.get(key(null, "DRAMA", "UNWATCHED", "TITLE"), loader);
+        catalogCache.get(key("", "drama", "Unwatched", "title"), loader);
+
+        assertEquals(1, loads.get(), "Case and blank differences must not create separate entries");
+    }
+
+    @Test
+    void writeToQueriedCollectionInvalidatesEntry() {
+        catalogCache.get(key(null, null, null, null), loader);
+        collectionVersions.bump(CollectionVersions.SERIES);
+        catalogCache.get(key(null, null, null, null), loader);
+
+        assertEquals(2, loads.get(), "A series write must invalidate the combined catalog");
+    }
+
+    @Test
+    void writeToOtherCollectionKeepsEntry() {
+        catalogCache.get(key("MOVIE", null, null, null), loader);
+        collectionVersions.bump(CollectionVersions.SERIES);
+        List<CatalogItemResponse> cached = catalogCache.get(key("MOVIE", null, null, null), loader);
+
+        assertEquals(1, loads.get(), "A series write must not invalidate a movies-only page");
+        assertThrows(UnsupportedOperationException.class, () -> cached.add(CatalogItemResponse.builder().build()),
+                "Cached results are shared and must be unmodifiable");
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvicted() {
+        catalogCache.get(key(null, "a", null, null), loader);
+        catalogCache.get(key(null, "b", null, null), loader);
+        catalogCache.get(key(null, "a", null, null), loader);
+        catalogCache.get(key(null, "c", null, null), loader);
+        catalogCache.get(key(null, "a", null, null), loader);
+        catalogCache.get(key(null, "b", null, null), loader);
+
+        assertEquals(4, loads.get(), "Only the least recently used entry (b) should have been evicted");
+    }
+
+    private static CatalogCache.Key key(String contentType, String genre, String watchStatus, String sortBy) {
+        return CatalogCache.Key.of(contentType, genre, watchStatus, null, null, null, sortBy, FieldSelection.all());
+    }
+}
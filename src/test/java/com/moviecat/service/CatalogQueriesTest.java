@@ -0,0 +1,107 @@
+package com.moviecat.service;
+
+import com.moviecat.dto.CatalogItemResponse;
+import com.moviecat.model.WatchStatus;
+import com.moviecat.util.SortedMerge;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the MongoDB sort reads each collection in the order the catalog comparator merges them in.
+ * MongoDB's ordering of the stored values is reproduced here: enums are stored as their names, null sorts lowest.
+ */
+class CatalogQueriesTest {
+
+    private static final List<String> SORT_FIELDS = Arrays.asList(null, "title", "dateAdded", "length");
+
+    private final List<CatalogItemResponse> movies = List.of(
+            item("m1", "Inception", WatchStatus.UNWATCHED, 2, 1, 148),
+            item("m2", "The Matrix", WatchStatus.WATCHED, 5, 2, 136),
+            item("m3", "Alien", WatchStatus.WATCHED, null, 3, null),
+            item("m4", "Heat", WatchStatus.UNWATCHED, null, 4, 170));
+    private final List<CatalogItemResponse> series = List.of(
+            item("s1", "Breaking Bad", WatchStatus.UNWATCHED, 3, 5, null),
+            item("s2", "Dark", WatchStatus.WATCHED, 1, 6, null),
+            item("s3", "Severance", WatchStatus.UNWATCHED, 3, null, null));
+
+    @Test
+    void mongoSortMatchesComparatorForMixedWatchStatuses() {
+        for (String sortBy : SORT_FIELDS) {
+            Comparator<CatalogItemResponse> comparator = CatalogQueries.comparator(sortBy);
+            List<CatalogItemResponse> sortedMovies = mongoSorted(movies, sortBy);
+
+            for (int i = 1; i < sortedMovies.size(); i++) {
+                assertTrue(comparator.compare(sortedMovies.get(i - 1), sortedMovies.get(i)) <= 0,
+                        "Movies read with sortBy=" + sortBy + " must already be in catalog order: " + titles(sortedMovies));
+            }
+        }
+    }
+
+    @Test
+    void mergedCollectionsEqualTheInMemoryOrder() {
+        for (String sortBy : SORT_FIELDS) {
+            Comparator<CatalogItemResponse> comparator = CatalogQueries.comparator(sortBy);
+            List<CatalogItemResponse> merged = SortedMerge.merge(
+                    mongoSorted(movies, sortBy).stream(), mongoSorted(series, sortBy).stream(), comparator).toList();
+
+            List<CatalogItemResponse> expected = Stream.concat(movies.stream(), series.stream())
+                    .sorted(comparator).toList();
+            assertEquals(titles(expected), titles(merged), "sortBy=" + sortBy);
+        }
+        assertEquals(WatchStatus.UNWATCHED, mongoSorted(movies, null).get(0).getWatchStatus());
+    }
+
+    private static List<CatalogItemResponse> mongoSorted(List<CatalogItemResponse> items, String sortBy) {
+        Comparator<CatalogItemResponse> order = (a, b) -> 0;
+        for (Sort.Order sortOrder : CatalogQueries.sort(sortBy)) {
+            Comparator<CatalogItemResponse> property = (a, b) -> compareStored(
+                    stored(a, sortOrder.getProperty()), stored(b, sortOrder.getProperty()));
+            order = order.thenComparing(sortOrder.isAscending() ? property : property.reversed());
+        }
+        return items.stream().sorted(order).toList();
+    }
+
+    private static Comparable<?> stored(CatalogItemResponse item, String property) {
+        return switch (property) {
+            case "watchStatus" -> item.getWatchStatus() != null ? item.getWatchStatus().name() : null;
+            case "title" -> item.getTitle();
+            case "priority" -> item.getPriority();
+            case "dateAdded" -> item.getDateAdded();
+            case "length" -> item.getLength();
+            case "id" -> item.getId();
+            default -> throw new IllegalArgumentException("Unexpected sort property: " + property);
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareStored(Comparable a, Comparable b) {
+        if (a == null || b == null) {
+            return a == null ? (b == null ? 0 : -1) : 1;
+        }
+        return a.compareTo(b);
+    }
+
+    private static CatalogItemResponse item(String id, String title, WatchStatus watchStatus, Integer priority,
+                                            Integer daysAgo, Integer length) {
+        return CatalogItemResponse.builder()
+                .id(id)
+                .title(title)
+                .watchStatus(watchStatus)
+                .priority(priority)
+                .dateAdded(daysAgo != null ? LocalDateTime.of(2024, 1, 1, 0, 0).minusDays(daysAgo) : null)
+                .length(length)
+                .build();
+    }
+
+    private static List<String> titles(List<CatalogItemResponse> items) {
+        return items.stream().map(CatalogItemResponse::getTitle).toList();
+    }
+}
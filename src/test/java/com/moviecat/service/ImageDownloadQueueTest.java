@@ -0,0 +1,88 @@
+package com.moviecat.service;
+
+import com.moviecat.dto.ImageResponse;
+import com.moviecat.model.ImageStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageDownloadQueueTest {
+
+    private static final long TIMEOUT_MILLIS = 2_000;
+
+    @Mock
+    private ImageService imageService;
+
+    private ImageDownloadQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new ImageDownloadQueue(imageService, 2, 3, Duration.ofMillis(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        queue.shutdown();
+    }
+
+    @Test
+    void enqueueReturnsPendingImageAndDownloadsInBackground() throws IOException {
+        when(imageService.reserveDownload("https://image.tmdb.org/t/p/w500/alien.jpg"))
+                .thenReturn(ImageResponse.builder().id("img-1").status(ImageStatus.PENDING).build());
+        when(imageService.completeDownload("img-1")).thenReturn(true);
+
+        ImageResponse image = queue.enqueue("https://image.tmdb.org/t/p/w500/alien.jpg");
+
+        assertEquals("img-1", image.getId());
+        assertEquals(ImageStatus.PENDING, image.getStatus());
+        verify(imageService, timeout(TIMEOUT_MILLIS)).completeDownload("img-1");
+        verify(imageService, never()).failDownload(anyString(), any());
+    }
+
+    @Test
+    void failedDownloadIsRetried() throws IOException {
+        when(imageService.reserveDownload(anyString())).thenReturn(ImageResponse.builder().id("img-1").build());
+        when(imageService.completeDownload("img-1"))
+                .thenThrow(new IOException("Image download failed with HTTP 503"))
+                .thenReturn(true);
+
+        queue.enqueue("https://image.tmdb.org/t/p/w500/alien.jpg");
+
+        verify(imageService, timeout(TIMEOUT_MILLIS).times(2)).completeDownload("img-1");
+        verify(imageService, never()).failDownload(anyString(), any());
+    }
+
+    @Test
+    void imageIsMarkedFailedAfterLastAttempt() throws IOException {
+        when(imageService.reserveDownload(anyString())).thenReturn(ImageResponse.builder().id("img-1").build());
+        when(imageService.completeDownload("img-1")).thenThrow(new IOException("Image download failed with HTTP 404"));
+
+        queue.enqueue("https://image.tmdb.org/t/p/w500/missing.jpg");
+
+        verify(imageService, timeout(TIMEOUT_MILLIS)).failDownload("img-1", "Image download failed with HTTP 404");
+        verify(imageService, times(3)).completeDownload("img-1");
+    }
+
+    @Test
+    void pendingDownloadsAreResumedOnStart() throws IOException {
+        when(imageService.findPendingImageIds()).thenReturn(List.of("img-7", "img-8"));
+
+        queue.resumePendingDownloads();
+
+        verify(imageService, timeout(TIMEOUT_MILLIS)).completeDownload("img-7");
+        verify(imageService, timeout(TIMEOUT_MILLIS)).completeDownload("img-8");
+    }
+}
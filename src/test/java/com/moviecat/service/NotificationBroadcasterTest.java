@@ -0,0 +1,84 @@
+package com.moviecat.service;
+
+import com.moviecat.dto.NotificationEvent;
+import com.moviecat.dto.NotificationResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Exceptions;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationBroadcasterTest {
+
+    private NotificationBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new NotificationBroadcaster(new SimpleMeterRegistry(), 2);
+    }
+
+    @Test
+    void eventsReachEverySubscriber() {
+        StepVerifier first = StepVerifier.create(broadcaster.subscribe())
+                .assertNext(event -> assertEquals(NotificationEvent.Type.CREATED, event.getType()))
+                .assertNext(event -> assertEquals("n1", event.getId()))
+                .thenCancel()
+                .verifyLater();
+        StepVerifier second = StepVerifier.create(broadcaster.subscribe())
+                .expectNextCount(2)
+                .thenCancel()
+                .verifyLater();
+
+        broadcaster.created(NotificationResponse.builder().id("n1").seriesTitle("Series").build());
+        broadcaster.dismissed("n1");
+
+        first.verify();
+        second.verify();
+        assertEquals(0, broadcaster.subscriberCount(), "Cancelled subscribers must be released");
+    }
+
+    @Test
+    void repeatedEventIsPublishedOnce() {
+        StepVerifier subscriber = StepVerifier.create(broadcaster.subscribe())
+                .assertNext(event -> assertEquals(NotificationEvent.Type.CREATED, event.getType()))
+                .assertNext(event -> assertEquals(NotificationEvent.Type.DISMISSED, event.getType()))
+                .expectNoEvent(Duration.ofMillis(50))
+                .thenCancel()
+                .verifyLater();
+
+        // As on the writing instance: published by the service, then again from the change stream
+        NotificationResponse created = NotificationResponse.builder().id("n1").seriesTitle("Series").build();
+        broadcaster.created(created);
+        broadcaster.created(created);
+        broadcaster.dismissed("n1");
+        broadcaster.dismissed("n1");
+
+        subscriber.verify();
+    }
+
+    @Test
+    void slowSubscriberOverflowsWithoutBlockingOthers() {
+        StepVerifier fast = StepVerifier.create(broadcaster.subscribe())
+                .expectNextCount(4)
+                .thenCancel()
+                .verifyLater();
+        StepVerifier slow = StepVerifier.create(broadcaster.subscribe(), 0)
+                .expectSubscription()
+                .then(() -> {
+                    for (int i = 0; i < 4; i++) {
+                        broadcaster.dismissed("n" + i);
+                    }
+                })
+                .thenRequest(Long.MAX_VALUE)
+                .expectNextCount(2)
+                .expectErrorMatches(Exceptions::isOverflow)
+                .verifyLater();
+
+        slow.verify();
+        fast.verify();
+    }
+}
@@ -0,0 +1,63 @@
+package com.moviecat.service;
+
+import com.moviecat.dto.tmdb.TmdbEpisode;
+import com.moviecat.dto.tmdb.TmdbSeriesDetails;
+import com.moviecat.model.Series;
+import com.moviecat.model.SeriesStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeasonCheckPolicyTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    private final SeasonCheckPolicy policy = defaultPolicy();
+
+    static SeasonCheckPolicy defaultPolicy() {
+        return new SeasonCheckPolicy(Duration.ofHours(12), Duration.ofDays(2), Duration.ofDays(7),
+                Duration.ofDays(30), Duration.ofDays(60), Duration.ofHours(6));
+    }
+
+    @Test
+    void endedSeriesAreCheckedRarely() {
+        Series series = Series.builder().seriesStatus(SeriesStatus.COMPLETE).build();
+        TmdbSeriesDetails details = TmdbSeriesDetails.builder().status("Ended").lastAirDate("2019-05-19").build();
+
+        assertEquals(Duration.ofDays(30), policy.interval(series, details, NOW));
+    }
+
+    @Test
+    void upcomingPremiereIsCheckedOften() {
+        Series series = Series.builder().seriesStatus(SeriesStatus.ONGOING).build();
+        TmdbSeriesDetails details = TmdbSeriesDetails.builder()
+                .status("Returning Series")
+                .lastAirDate("2024-03-01")
+                .nextEpisodeToAir(TmdbEpisode.builder().airDate("2025-06-05").seasonNumber(3).episodeNumber(1).build())
+                .build();
+
+        assertEquals(Duration.ofHours(12), policy.interval(series, details, NOW));
+    }
+
+    @Test
+    void recentlyChangedSeriesAreCheckedMoreOftenThanDormantOnes() {
+        Series changed = Series.builder().seriesStatus(SeriesStatus.ONGOING).lastSeasonChange(NOW.minusDays(10)).build();
+        Series dormant = Series.builder().seriesStatus(SeriesStatus.ONGOING).lastSeasonChange(NOW.minusYears(1)).build();
+        TmdbSeriesDetails details = TmdbSeriesDetails.builder().status("Returning Series").lastAirDate("2024-03-01").build();
+
+        assertEquals(Duration.ofDays(2), policy.interval(changed, details, NOW));
+        assertEquals(Duration.ofDays(7), policy.interval(dormant, details, NOW));
+    }
+
+    @Test
+    void nextCheckIsJitteredAroundTheInterval() {
+        Series series = Series.builder().seriesStatus(SeriesStatus.COMPLETE).build();
+        LocalDateTime next = policy.nextCheck(series, TmdbSeriesDetails.builder().build(), NOW);
+
+        assertFalse(next.isBefore(NOW.plusDays(27)));
+        assertFalse(next.isAfter(NOW.plusDays(33)));
+    }
+}
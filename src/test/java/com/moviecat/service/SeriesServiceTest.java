@@ -1,5 +1,6 @@
 package com.moviecat.service;
 
+import com.moviecat.dto.BulkRefreshResponse;
 import com.moviecat.dto.SeriesResponse;
 import com.moviecat.dto.tmdb.TmdbSeriesDetails;
 import com.moviecat.model.Season;
@@ -7,12 +8,17 @@ import com.moviecat.model.Series;
 import com.moviecat.model.SeriesStatus;
 import com.moviecat.model.WatchStatus;
 import com.moviecat.repository.SeriesRepository;
+import com.moviecat.util.IntHashSet;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -20,6 +26,9 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,11 +43,15 @@ class SeriesServiceTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private SyncCheckpoints syncCheckpoints;
+
     private SeriesService seriesService;
 
     @BeforeEach
     void setUp() {
-        seriesService = new SeriesService(seriesRepository, tmdbApiService, notificationService);
+        seriesService = new SeriesService(seriesRepository, tmdbApiService, notificationService,
+                SeasonCheckPolicyTest.defaultPolicy(), syncCheckpoints, new CollectionVersions(), new SimpleMeterRegistry());
     }
 
     @Test
@@ -56,7 +69,7 @@ class SeriesServiceTest {
         when(seriesRepository.findById("series-1")).thenReturn(Optional.of(series));
         when(tmdbApiService.getSeriesDetails(12345))
                 .thenReturn(TmdbSeriesDetails.builder().numberOfSeasons(4).status("Returning Series").build());
-        when(seriesRepository.save(any(Series.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(seriesRepository.saveSeasonCheck(any(Series.class), any())).thenReturn(true);
 
         SeriesResponse response = seriesService.refreshSeasons("series-1");
 
@@ -68,6 +81,42 @@ class SeriesServiceTest {
         assertTrue(response.getHasNewSeasons(), "New seasons flag should be raised when TMDB has more seasons");
         assertEquals(Integer.valueOf(4), response.getTotalAvailableSeasons());
         assertEquals(SeriesStatus.ONGOING, response.getSeriesStatus());
+        verify(seriesRepository).saveSeasonCheck(series, LocalDateTime.of(2024, 1, 1, 0, 0));
+        verify(notificationService).createNotification("series-1", null, 2);
+    }
+
+    @Test
+    void refreshSeasonsDropsItsResultWhenTheSeriesWasCheckedMeanwhile() {
+        // A scheduler that stalled past its lease read the series before the new lease holder refreshed it
+        LocalDateTime staleCheck = LocalDateTime.of(2024, 1, 1, 0, 0);
+        Series stale = Series.builder()
+                .id("series-4")
+                .tmdbId(4444)
+                .seasons(new ArrayList<>(List.of(
+                        Season.builder().seasonNumber(1).watchStatus(WatchStatus.WATCHED).build()
+                )))
+                .lastSeasonCheck(staleCheck)
+                .build();
+        Series current = Series.builder()
+                .id("series-4")
+                .tmdbId(4444)
+                .seasons(new ArrayList<>(List.of(
+                        Season.builder().seasonNumber(1).watchStatus(WatchStatus.WATCHED).build(),
+                        Season.builder().seasonNumber(2).watchStatus(WatchStatus.UNWATCHED).build()
+                )))
+                .hasNewSeasons(true)
+                .lastSeasonCheck(staleCheck.plusDays(1))
+                .build();
+
+        when(seriesRepository.findById("series-4")).thenReturn(Optional.of(stale), Optional.of(current));
+        when(tmdbApiService.getSeriesDetails(4444))
+                .thenReturn(TmdbSeriesDetails.builder().numberOfSeasons(2).status("Returning Series").build());
+        when(seriesRepository.saveSeasonCheck(any(Series.class), eq(staleCheck))).thenReturn(false);
+
+        SeriesResponse response = seriesService.refreshSeasons("series-4");
+
+        assertEquals(staleCheck.plusDays(1), response.getLastSeasonCheck(), "The newer refresh's result must be kept");
+        verify(notificationService, never()).createNotification(any(), any(), any(Integer.class));
     }
 
     @Test
@@ -85,7 +134,7 @@ class SeriesServiceTest {
         when(seriesRepository.findById("series-3")).thenReturn(Optional.of(series));
         when(tmdbApiService.getSeriesDetails(9876))
                 .thenReturn(TmdbSeriesDetails.builder().numberOfSeasons(2).status("Ended").build());
-        when(seriesRepository.save(any(Series.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(seriesRepository.saveSeasonCheck(any(Series.class), any())).thenReturn(true);
 
         SeriesResponse response = seriesService.refreshSeasons("series-3");
 
@@ -93,6 +142,36 @@ class SeriesServiceTest {
         assertFalse(response.getSeasons().stream().anyMatch(season -> season.getSeasonNumber() == 3));
         assertEquals(SeriesStatus.COMPLETE, response.getSeriesStatus());
         assertFalse(response.getHasNewSeasons());
+        assertTrue(series.getNextSeasonCheck().isAfter(LocalDateTime.now().plusDays(20)),
+                "Ended series should be checked rarely");
+    }
+
+    @Test
+    void refreshSeasonsWithoutVisibleChangesOnlyRecordsTheCheckTimes() {
+        LocalDateTime previousCheck = LocalDateTime.of(2024, 1, 1, 0, 0);
+        Series series = Series.builder()
+                .id("series-5")
+                .tmdbId(5555)
+                .seasons(new ArrayList<>(List.of(
+                        Season.builder().seasonNumber(1).watchStatus(WatchStatus.WATCHED).build(),
+                        Season.builder().seasonNumber(2).watchStatus(WatchStatus.UNWATCHED).build()
+                )))
+                .watchStatus(WatchStatus.UNWATCHED)
+                .totalAvailableSeasons(2)
+                .seriesStatus(SeriesStatus.ONGOING)
+                .lastSeasonCheck(previousCheck)
+                .build();
+
+        when(seriesRepository.findById("series-5")).thenReturn(Optional.of(series));
+        when(tmdbApiService.getSeriesDetails(5555))
+                .thenReturn(TmdbSeriesDetails.builder().numberOfSeasons(2).status("Returning Series").build());
+        when(seriesRepository.recordSeasonCheck(eq("series-5"), eq(previousCheck), any(), any())).thenReturn(true);
+
+        seriesService.refreshSeasons("series-5");
+
+        verify(seriesRepository, never()).saveSeasonCheck(any(), any());
+        verify(seriesRepository).recordSeasonCheck("series-5", previousCheck, series.getLastSeasonCheck(),
+                series.getNextSeasonCheck());
     }
 
     @Test
@@ -111,4 +190,25 @@ class SeriesServiceTest {
 
         assertTrue(exception.getMessage().contains("TMDB"));
     }
+
+    @Test
+    void scheduleChangedSeriesMakesOnlyTrackedSeriesTmdbListsAsChangedDue() {
+        Instant lastRun = Instant.now().minus(Duration.ofDays(1));
+        Series changed = Series.builder().id("changed").tmdbId(100).build();
+        Series unchanged = Series.builder().id("unchanged").tmdbId(200).build();
+        IntHashSet changedTmdbIds = new IntHashSet();
+        changedTmdbIds.add(100);
+        changedTmdbIds.add(300);
+
+        when(syncCheckpoints.lastSuccess(SeriesService.TMDB_CHANGES_CHECKPOINT)).thenReturn(Optional.of(lastRun));
+        when(tmdbApiService.getChangedSeriesIds(any(LocalDate.class), any(LocalDate.class))).thenReturn(changedTmdbIds);
+        when(seriesRepository.findProjected(any(), any())).thenReturn(List.of(changed, unchanged));
+        when(seriesRepository.markDueForSeasonCheck(eq(List.of("changed")), any(LocalDateTime.class))).thenReturn(1L);
+
+        assertEquals(1, seriesService.scheduleChangedSeries());
+
+        // Refreshing is left to the due pass
+        verify(tmdbApiService, never()).getSeriesDetails(any(Integer.class));
+        verify(syncCheckpoints).recordSuccess(eq(SeriesService.TMDB_CHANGES_CHECKPOINT), any(Instant.class));
+    }
 }
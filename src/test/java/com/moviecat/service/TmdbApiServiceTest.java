@@ -0,0 +1,73 @@
+package com.moviecat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moviecat.util.IntHashSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TV changes paging against canned TMDB pages.
+ */
+class TmdbApiServiceTest {
+
+    private final List<URI> requests = new ArrayList<>();
+    private Map<Integer, String> pages;
+    private TmdbApiService tmdbApiService;
+
+    @BeforeEach
+    void setUp() {
+        WebClient webClient = WebClient.builder()
+                .baseUrl("https://api.themoviedb.org/3")
+                .exchangeFunction(request -> {
+                    requests.add(request.url());
+                    String page = UriComponentsBuilder.fromUri(request.url()).build().getQueryParams().getFirst("page");
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(pages.get(Integer.parseInt(page)))
+                            .build());
+                })
+                .build();
+        TmdbTitleIndex offline = new TmdbTitleIndex(new ObjectMapper(), false, "tmdb-index", "http://localhost:1", 20);
+        tmdbApiService = new TmdbApiService(webClient, new TmdbRateLimiter(0, 1), offline);
+    }
+
+    @Test
+    void pageWithoutResultsCountsAsEmpty() {
+        pages = Map.of(
+                1, "{\"page\":1,\"results\":[{\"id\":1399},{\"id\":66732}],\"total_pages\":2}",
+                2, "{\"page\":2,\"results\":null,\"total_pages\":2}");
+
+        IntHashSet changed = tmdbApiService.getChangedSeriesIds(LocalDate.of(2026, 10, 10), LocalDate.of(2026, 10, 18));
+
+        assertEquals(2, changed.size());
+        assertTrue(changed.contains(1399));
+        assertTrue(changed.contains(66732));
+        assertEquals(2, requests.size());
+    }
+
+    @Test
+    void windowIsClampedToTmdbLimit() {
+        pages = Map.of(1, "{\"page\":1,\"results\":[],\"total_pages\":1}");
+
+        tmdbApiService.getChangedSeriesIds(LocalDate.of(2026, 9, 1), LocalDate.of(2026, 10, 18));
+
+        String query = requests.get(0).getQuery();
+        assertTrue(query.contains("start_date=2026-10-04"), query);
+        assertTrue(query.contains("end_date=2026-10-18"), query);
+    }
+}
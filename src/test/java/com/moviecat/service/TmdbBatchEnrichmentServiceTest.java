@@ -0,0 +1,107 @@
+package com.moviecat.service;
+
+import com.moviecat.dto.TmdbBatchEnrichmentRequest;
+import com.moviecat.dto.TmdbBatchEnrichmentResult;
+import com.moviecat.dto.TmdbEnrichmentRequest;
+import com.moviecat.dto.TmdbEnrichmentResponse;
+import com.moviecat.model.ContentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TmdbBatchEnrichmentServiceTest {
+
+    @Mock
+    private TmdbEnrichmentService tmdbEnrichmentService;
+
+    @Mock
+    private EnrichmentBatches enrichmentBatches;
+
+    private TmdbBatchEnrichmentService batchService;
+
+    @BeforeEach
+    void setUp() {
+        batchService = new TmdbBatchEnrichmentService(tmdbEnrichmentService, enrichmentBatches, 4, 10);
+    }
+
+    @Test
+    void enrichesAllItemsAndStoresEachResult() {
+        when(enrichmentBatches.create(ContentType.MOVIE, 3)).thenReturn("batch-1");
+        when(tmdbEnrichmentService.enrichMovie(any())).thenAnswer(invocation -> {
+            TmdbEnrichmentRequest item = invocation.getArgument(0);
+            if (item.getTitle().equals("Unknown")) {
+                throw new RuntimeException("No TMDB results found for movie: Unknown");
+            }
+            return TmdbEnrichmentResponse.builder().title(item.getTitle()).build();
+        });
+
+        TmdbBatchEnrichmentService.BatchRun run = batchService.enrich(request(null, "Alien", "Unknown", "Heat"));
+        List<TmdbBatchEnrichmentResult> results = sorted(run.results().toList());
+
+        assertEquals("batch-1", run.batchId());
+        assertEquals(List.of(0, 1, 2), results.stream().map(TmdbBatchEnrichmentResult::getIndex).toList());
+        assertEquals("Alien", results.get(0).getEnrichment().getTitle());
+        assertNull(results.get(1).getEnrichment());
+        assertTrue(results.get(1).getError().contains("No TMDB results"));
+        verify(enrichmentBatches, times(3)).saveResult(eq("batch-1"), any());
+    }
+
+    @Test
+    void resumeReturnsStoredSuccessesAndRetriesTheRest() {
+        TmdbBatchEnrichmentResult stored = TmdbBatchEnrichmentResult.builder()
+                .index(0).title("Alien").enrichment(TmdbEnrichmentResponse.builder().title("Alien").build()).build();
+        TmdbBatchEnrichmentResult failed = TmdbBatchEnrichmentResult.builder()
+                .index(1).title("Unknown").error("TMDB unavailable").build();
+        when(enrichmentBatches.find("batch-1")).thenReturn(Optional.of(
+                new EnrichmentBatches.Batch(ContentType.MOVIE, 3, Map.of(0, stored, 1, failed))));
+        when(tmdbEnrichmentService.enrichMovie(any())).thenAnswer(invocation ->
+                TmdbEnrichmentResponse.builder().title(invocation.<TmdbEnrichmentRequest>getArgument(0).getTitle()).build());
+
+        List<TmdbBatchEnrichmentResult> results = sorted(batchService.enrich(request("batch-1", "Alien", "Unknown", "Heat"))
+                .results().toList());
+
+        assertEquals(3, results.size());
+        assertTrue(results.stream().allMatch(result -> result.getError() == null));
+        verify(tmdbEnrichmentService, never()).enrichMovie(argThat(item -> item.getTitle().equals("Alien")));
+        verify(tmdbEnrichmentService, times(2)).enrichMovie(any());
+        verify(enrichmentBatches, never()).create(any(), anyInt());
+    }
+
+    @Test
+    void rejectsResumeWithDifferentItems() {
+        when(enrichmentBatches.find("batch-1")).thenReturn(Optional.of(
+                new EnrichmentBatches.Batch(ContentType.MOVIE, 5, Map.of())));
+
+        assertThrows(IllegalArgumentException.class, () -> batchService.enrich(request("batch-1", "Alien")));
+        verifyNoInteractions(tmdbEnrichmentService);
+    }
+
+    private static TmdbBatchEnrichmentRequest request(String batchId, String... titles) {
+        return TmdbBatchEnrichmentRequest.builder()
+                .contentType(ContentType.MOVIE)
+                .batchId(batchId)
+                .items(Arrays.stream(titles)
+                        .map(title -> TmdbEnrichmentRequest.builder().title(title).build())
+                        .toList())
+                .build();
+    }
+
+    private static List<TmdbBatchEnrichmentResult> sorted(List<TmdbBatchEnrichmentResult> results) {
+        return results.stream().sorted(Comparator.comparingInt(TmdbBatchEnrichmentResult::getIndex)).toList();
+    }
+}
@@ -0,0 +1,98 @@
+package com.moviecat.service;
+
+import com.moviecat.dto.ImageResponse;
+import com.moviecat.dto.TmdbEnrichmentRequest;
+import com.moviecat.dto.TmdbEnrichmentResponse;
+import com.moviecat.dto.tmdb.TmdbMovieDetails;
+import com.moviecat.dto.tmdb.TmdbSearchResult;
+import com.moviecat.model.ContentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Poster downloads started from the search result, before the details say which poster is final.
+ */
+@ExtendWith(MockitoExtension.class)
+class TmdbEnrichmentServiceTest {
+
+    private static final String IMAGE_BASE_URL = "https://image.tmdb.org/t/p/w500";
+
+    @Mock
+    private TmdbApiService tmdbApiService;
+
+    @Mock
+    private ImageService imageService;
+
+    @Mock
+    private ImageDownloadQueue imageDownloadQueue;
+
+    @Mock
+    private TmdbSearchCache tmdbSearchCache;
+
+    @Mock
+    private TypeaheadSessions typeaheadSessions;
+
+    private TmdbEnrichmentService enrichmentService;
+
+    @BeforeEach
+    void setUp() {
+        enrichmentService = new TmdbEnrichmentService(tmdbApiService, imageService, imageDownloadQueue,
+                tmdbSearchCache, typeaheadSessions);
+        when(tmdbApiService.buildImageUrl(anyString())).thenAnswer(invocation -> IMAGE_BASE_URL + invocation.getArgument(0));
+        when(tmdbApiService.searchBestMatch("Alien", ContentType.MOVIE))
+                .thenReturn(TmdbSearchResult.builder().id(348).title("Alien").posterPath("/search.jpg").build());
+        when(imageDownloadQueue.enqueue(IMAGE_BASE_URL + "/search.jpg")).thenReturn(pending("img-1", "/search.jpg"));
+    }
+
+    @Test
+    void earlyPosterIsKeptWhenDetailsNameTheSamePoster() throws Exception {
+        when(tmdbApiService.getMovieDetails(eq(348), any())).thenReturn(details("/search.jpg"));
+
+        TmdbEnrichmentResponse response = enrichmentService.enrichMovie(request());
+
+        assertEquals("img-1", response.getSavedImageId());
+        verify(imageDownloadQueue, times(1)).enqueue(anyString());
+        verify(imageService, never()).deleteImage(anyString());
+    }
+
+    @Test
+    void earlyPosterIsDiscardedWhenDetailsNameAnotherPoster() throws Exception {
+        when(tmdbApiService.getMovieDetails(eq(348), any())).thenReturn(details("/details.jpg"));
+        when(imageDownloadQueue.enqueue(IMAGE_BASE_URL + "/details.jpg")).thenReturn(pending("img-2", "/details.jpg"));
+
+        TmdbEnrichmentResponse response = enrichmentService.enrichMovie(request());
+
+        assertEquals("img-2", response.getSavedImageId());
+        verify(imageService).deleteImage("img-1");
+    }
+
+    @Test
+    void earlyPosterIsDiscardedWhenDetailsFail() throws Exception {
+        when(tmdbApiService.getMovieDetails(eq(348), any())).thenThrow(new RuntimeException("Failed to fetch movie details"));
+
+        assertThrows(RuntimeException.class, () -> enrichmentService.enrichMovie(request()));
+
+        verify(imageService).deleteImage("img-1");
+    }
+
+    private static TmdbEnrichmentRequest request() {
+        return TmdbEnrichmentRequest.builder().title("Alien").downloadImage(true).build();
+    }
+
+    private static TmdbMovieDetails details(String posterPath) {
+        return TmdbMovieDetails.builder().id(348).title("Alien").posterPath(posterPath).build();
+    }
+
+    private static ImageResponse pending(String id, String posterPath) {
+        return ImageResponse.builder().id(id).originalUrl(IMAGE_BASE_URL + posterPath).build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.moviecat.service;
+
+import com.moviecat.dto.tmdb.TmdbSearchResponse;
+import com.moviecat.dto.tmdb.TmdbSearchResult;
+import com.moviecat.model.ContentType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TmdbSearchCacheTest {
+
+    private TmdbSearchCache searchCache;
+    private AtomicInteger searches;
+
+    @BeforeEach
+    void setUp() {
+        searchCache = new TmdbSearchCache(new SimpleMeterRegistry(), true, 10, Duration.ofMinutes(10));
+        searches = new AtomicInteger();
+    }
+
+    @Test
+    void longerQueryIsFilteredFromCompletePrefixResult() {
+        searchCache.get(ContentType.MOVIE, "alien", search(2, "Alien", "Aliens vs. Predator"));
+
+        List<TmdbSearchResult> results = searchCache.get(ContentType.MOVIE, "aliens v", search(0));
+
+        assertEquals(1, searches.get(), "A complete prefix result must answer longer queries locally");
+        assertEquals(List.of("Aliens vs. Predator"), titles(results));
+    }
+
+    @Test
+    void incompletePrefixResultGoesRemote() {
+        searchCache.get(ContentType.MOVIE, "star", search(500, "Star Wars", "A Star Is Born"));
+        searchCache.get(ContentType.MOVIE, "star t", search(40, "Star Trek"));
+
+        assertEquals(2, searches.get(), "Only the first page of a large result is cached, so it cannot be filtered");
+        assertTrue(searchCache.lookup(ContentType.SERIES, "star").isEmpty(), "Content types are cached separately");
+    }
+
+    @Test
+    void failedSearchIsNotCached() {
+        searchCache.get(ContentType.MOVIE, "heat", () -> {
+            searches.incrementAndGet();
+            return null;
+        });
+        searchCache.get(ContentType.MOVIE, "heat", search(1, "Heat"));
+
+        assertEquals(2, searches.get());
+        assertEquals("heat", TmdbSearchCache.normalize("  Heat "));
+    }
+
+    private Supplier<TmdbSearchResponse> search(int totalResults, String... titles) {
+        return () -> {
+            searches.incrementAndGet();
+            return TmdbSearchResponse.builder()
+                    .results(Arrays.stream(titles)
+                            .map(title -> TmdbSearchResult.builder().title(title).build())
+                            .toList())
+                    .totalResults(totalResults)
+                    .build();
+        };
+    }
+
+    private static List<String> titles(List<TmdbSearchResult> results) {
+        return results.stream().map(TmdbSearchResult::getDisplayTitle).toList();
+    }
+}
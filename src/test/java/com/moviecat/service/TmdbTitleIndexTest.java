@@ -0,0 +1,82 @@
+package com.moviecat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moviecat.dto.tmdb.TmdbSearchResponse;
+import com.moviecat.dto.tmdb.TmdbSearchResult;
+import com.moviecat.model.ContentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TmdbTitleIndexTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private TmdbTitleIndex titleIndex;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        titleIndex = new TmdbTitleIndex(new ObjectMapper(), true, tempDir.resolve("index").toString(),
+                "http://localhost:1", 2);
+
+        // Fixture export, gzipped like the daily files
+        Path export = tempDir.resolve("movie_ids_01_02_2026.json.gz");
+        try (InputStream fixture = getClass().getResourceAsStream("/tmdb-exports/movie_ids.json");
+             OutputStream out = new GZIPOutputStream(Files.newOutputStream(export))) {
+            fixture.transferTo(out);
+        }
+        assertEquals(9, titleIndex.ingest(ContentType.MOVIE, export), "Adult titles are not indexed");
+    }
+
+    @Test
+    void everyQueryWordMustStartATitleWord() {
+        TmdbSearchResponse response = titleIndex.search("wars sta", ContentType.MOVIE).orElseThrow();
+
+        assertEquals(List.of(11, 1893), ids(response), "Matches are ordered by popularity");
+        assertEquals("Star Wars", response.getResults().get(0).getTitle());
+        assertEquals(2, response.getTotalResults(), "All matches fit the page");
+    }
+
+    @Test
+    void truncatedPageHasNoTotal() {
+        TmdbSearchResponse response = titleIndex.search("s", ContentType.MOVIE).orElseThrow();
+
+        assertEquals(List.of(11, 1891), ids(response));
+        assertNull(response.getTotalResults(), "Matches beyond the page must not count as complete");
+    }
+
+    @Test
+    void exactAndWholeWordMatchesComeBeforeMorePopularPrefixMatches() {
+        TmdbSearchResponse response = titleIndex.search("alien", ContentType.MOVIE).orElseThrow();
+
+        assertEquals(List.of(348, 945961), ids(response), "Alien, then Alien: Romulus, before the more popular Aliens");
+        assertNull(response.getTotalResults());
+        assertEquals(List.of(679), ids(titleIndex.search("aliens", ContentType.MOVIE).orElseThrow()));
+    }
+
+    @Test
+    void accentsAndCaseAreIgnored() {
+        assertEquals(List.of(194), ids(titleIndex.search("AMELIE poul", ContentType.MOVIE).orElseThrow()));
+        assertEquals(List.of(129), ids(titleIndex.search("千と千尋の神隠し", ContentType.MOVIE).orElseThrow()));
+    }
+
+    @Test
+    void noLocalMatchIsLeftToTheApi() {
+        assertTrue(titleIndex.search("Spirited Away", ContentType.MOVIE).isEmpty());
+        assertTrue(titleIndex.search("Star", ContentType.SERIES).isEmpty(), "No series index was built");
+    }
+
+    private static List<Integer> ids(TmdbSearchResponse response) {
+        return response.getResults().stream().map(TmdbSearchResult::getId).toList();
+    }
+}
@@ -0,0 +1,146 @@
+package com.moviecat.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal closed-loop HTTP load generator: a fixed number of workers send GET requests back to back
+ * and record the latency of each one, measured until the whole response body has been read.
+ */
+public final class LoadDriver {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofMinutes(2);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final int concurrency;
+    private final int warmupRequests;
+    private final int requests;
+
+    /**
+     * @param concurrency number of concurrent workers
+     * @param warmupRequests requests sent before measuring, per endpoint
+     * @param requests measured requests, per endpoint
+     */
+    public LoadDriver(int concurrency, int warmupRequests, int requests) {
+        this.concurrency = concurrency;
+        this.warmupRequests = warmupRequests;
+        this.requests = requests;
+    }
+
+    /**
+     * Warm up and then measure one endpoint.
+     *
+     * @param name endpoint name used in the report
+     * @param uri endpoint URI
+     * @return latency percentiles and throughput of the measured requests
+     */
+    public LoadResult run(String name, URI uri) throws InterruptedException {
+        send(uri, warmupRequests);
+        long start = System.nanoTime();
+        Samples samples = send(uri, requests);
+        long elapsed = System.nanoTime() - start;
+        return LoadResult.of(name, samples.latencies, samples.errors.get(), elapsed);
+    }
+
+    private Samples send(URI uri, int count) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(REQUEST_TIMEOUT).GET().build();
+        Samples samples = new Samples(count);
+        AtomicInteger next = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            workers.execute(() -> {
+                int index;
+                while ((index = next.getAndIncrement()) < count) {
+                    samples.latencies[index] = timeRequest(request, samples);
+                }
+            });
+        }
+        workers.shutdown();
+        if (!workers.awaitTermination(1, TimeUnit.HOURS)) {
+            workers.shutdownNow();
+            throw new IllegalStateException("Load run against " + uri + " did not finish");
+        }
+        return samples;
+    }
+
+    private long timeRequest(HttpRequest request, Samples samples) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                body.transferTo(OutputStream.nullOutputStream());
+            }
+            if (response.statusCode() >= 400) {
+                samples.errors.incrementAndGet();
+            }
+        } catch (IOException e) {
+            samples.errors.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            samples.errors.incrementAndGet();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static final class Samples {
+        private final long[] latencies;
+        private final AtomicInteger errors = new AtomicInteger();
+
+        private Samples(int count) {
+            this.latencies = new long[count];
+        }
+    }
+
+    /**
+     * Result of measuring one endpoint.
+     *
+     * @param name endpoint name
+     * @param requests measured requests
+     * @param errors requests that failed or returned an error status
+     * @param p50Millis median latency
+     * @param p99Millis 99th percentile latency
+     * @param maxMillis slowest request
+     * @param throughput requests per second over the measured run
+     */
+    public record LoadResult(String name, int requests, int errors,
+                             double p50Millis, double p99Millis, double maxMillis, double throughput) {
+
+        static LoadResult of(String name, long[] latencies, int errors, long elapsedNanos) {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            return new LoadResult(name, sorted.length, errors,
+                    toMillis(percentile(sorted, 50)),
+                    toMillis(percentile(sorted, 99)),
+                    toMillis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]),
+                    sorted.length / (elapsedNanos / 1e9));
+        }
+
+        /**
+         * Nearest-rank percentile of sorted samples.
+         */
+        private static long percentile(long[] sorted, int percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            return sorted[Math.max(rank, 1) - 1];
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / 1e6;
+        }
+    }
+}
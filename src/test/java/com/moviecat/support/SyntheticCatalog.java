@@ -0,0 +1,167 @@
+package com.moviecat.support;
+
+import com.moviecat.model.Movie;
+import com.moviecat.model.Season;
+import com.moviecat.model.Series;
+import com.moviecat.model.SeriesStatus;
+import com.moviecat.model.WatchStatus;
+import org.bson.types.ObjectId;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Deterministic generator of large synthetic catalogs for benchmarks and load tests.
+ *
+ * The same seed always produces the same movies and series. Distributions roughly follow a
+ * household catalog: a few people add most of the titles, drama and comedy dominate the genres,
+ * most items have normal priority, about a third of the movies are watched, series have 1-12
+ * seasons watched in order, and 90% of the items are linked to TMDB.
+ */
+public final class SyntheticCatalog {
+
+    /**
+     * Reference time for generated dates, so generated catalogs do not depend on the clock.
+     */
+    public static final LocalDateTime REFERENCE_TIME = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private static final String[] GENRES = {
+            "Drama", "Comedy", "Action", "Thriller", "Sci-Fi", "Crime", "Romance",
+            "Horror", "Animation", "Documentary", "Fantasy", "Mystery", "Adventure", "History"
+    };
+    private static final String[] ADDED_BY = {"Alice", "Bob", "Carol", "Dave", "Eve", "Frank"};
+    private static final String[] TITLE_WORDS = {
+            "Silent", "Dark", "Lost", "Broken", "Golden", "Hidden", "Last", "Crimson", "Frozen", "Wild",
+            "River", "Night", "Empire", "Garden", "Signal", "Shadow", "Horizon", "Harbor", "Machine", "Storm"
+    };
+    private static final int DATE_RANGE_MINUTES = 3 * 365 * 24 * 60;
+
+    private final Random random;
+    private int idCounter;
+
+    public SyntheticCatalog(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Generate movies.
+     *
+     * @param count number of movies
+     * @return generated movies with ids, in insertion order
+     */
+    public List<Movie> movies(int count) {
+        List<Movie> movies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            movies.add(Movie.builder()
+                    .id(nextId())
+                    .title(title(i))
+                    .comment(random.nextInt(4) == 0 ? "Recommended by " + addedBy() : null)
+                    .length(80 + random.nextInt(120))
+                    .genres(genres())
+                    .watchStatus(random.nextInt(3) == 0 ? WatchStatus.WATCHED : WatchStatus.UNWATCHED)
+                    .addedBy(addedBy())
+                    .dateAdded(dateAdded())
+                    .priority(priority())
+                    .tmdbId(tmdbId())
+                    .build());
+        }
+        return movies;
+    }
+
+    /**
+     * Generate series.
+     *
+     * @param count number of series
+     * @return generated series with ids, in insertion order
+     */
+    public List<Series> series(int count) {
+        List<Series> series = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int totalSeasons = 1 + Math.min(11, (int) (-Math.log(1 - random.nextDouble()) * 2.5));
+            int watchedSeasons = random.nextInt(totalSeasons + 1);
+            List<Season> seasons = new ArrayList<>(totalSeasons);
+            for (int number = 1; number <= totalSeasons; number++) {
+                seasons.add(Season.builder()
+                        .seasonNumber(number)
+                        .watchStatus(number <= watchedSeasons ? WatchStatus.WATCHED : WatchStatus.UNWATCHED)
+                        .build());
+            }
+            boolean watched = watchedSeasons == totalSeasons;
+            series.add(Series.builder()
+                    .id(nextId())
+                    .title(title(i))
+                    .comment(random.nextInt(4) == 0 ? "Recommended by " + addedBy() : null)
+                    .genres(genres())
+                    .seasons(seasons)
+                    .watchStatus(watched ? WatchStatus.WATCHED : WatchStatus.UNWATCHED)
+                    .totalAvailableSeasons(totalSeasons)
+                    .hasNewSeasons(!watched && watchedSeasons > 0 && random.nextInt(5) == 0)
+                    .seriesStatus(random.nextInt(5) < 2 ? SeriesStatus.ONGOING : SeriesStatus.COMPLETE)
+                    .addedBy(addedBy())
+                    .dateAdded(dateAdded())
+                    .lastSeasonCheck(REFERENCE_TIME.minusDays(random.nextInt(30)))
+                    .priority(priority())
+                    .tmdbId(tmdbId())
+                    .build());
+        }
+        return series;
+    }
+
+    private String nextId() {
+        return new ObjectId(Date.from(REFERENCE_TIME.toInstant(ZoneOffset.UTC)), idCounter++).toHexString();
+    }
+
+    private String title(int index) {
+        return TITLE_WORDS[random.nextInt(TITLE_WORDS.length)] + " "
+                + TITLE_WORDS[random.nextInt(TITLE_WORDS.length)] + " " + (index + 1);
+    }
+
+    /**
+     * One to three genres, skewed towards the start of the genre list.
+     */
+    private List<String> genres() {
+        int count = 1 + random.nextInt(3);
+        Set<String> genres = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            genres.add(GENRES[skewedIndex(GENRES.length)]);
+        }
+        return new ArrayList<>(genres);
+    }
+
+    private String addedBy() {
+        return ADDED_BY[skewedIndex(ADDED_BY.length)];
+    }
+
+    private LocalDateTime dateAdded() {
+        return REFERENCE_TIME.minusMinutes(random.nextInt(DATE_RANGE_MINUTES));
+    }
+
+    /**
+     * 80% normal priority, 15% priority 1-2, 5% priority 3-5.
+     */
+    private int priority() {
+        int roll = random.nextInt(100);
+        if (roll < 80) {
+            return 0;
+        }
+        return roll < 95 ? 1 + random.nextInt(2) : 3 + random.nextInt(3);
+    }
+
+    private Integer tmdbId() {
+        return random.nextInt(10) == 0 ? null : 1 + random.nextInt(1_000_000);
+    }
+
+    /**
+     * Index in [0, size) where lower indexes are picked more often.
+     */
+    private int skewedIndex(int size) {
+        double value = random.nextDouble();
+        return (int) (value * value * size);
+    }
+}
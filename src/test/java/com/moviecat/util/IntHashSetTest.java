@@ -0,0 +1,44 @@
+package com.moviecat.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntHashSetTest {
+
+    @Test
+    void behavesLikeHashSetAcrossResizes() {
+        IntHashSet set = new IntHashSet(2);
+        Set<Integer> expected = new HashSet<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            int value = random.nextInt(20_000) - 10_000;
+            assertEquals(expected.add(value), set.add(value));
+        }
+
+        assertEquals(expected.size(), set.size());
+        for (int value = -10_000; value < 10_000; value++) {
+            assertEquals(expected.contains(value), set.contains(value), "value " + value);
+        }
+    }
+
+    @Test
+    void handlesZeroAndExtremes() {
+        IntHashSet set = new IntHashSet();
+
+        assertFalse(set.contains(0));
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+        assertTrue(set.add(Integer.MIN_VALUE));
+        assertTrue(set.add(Integer.MAX_VALUE));
+
+        assertTrue(set.contains(0));
+        assertTrue(set.contains(Integer.MIN_VALUE));
+        assertTrue(set.contains(Integer.MAX_VALUE));
+        assertEquals(3, set.size());
+    }
+}